@@ -0,0 +1,10 @@
+package dev.urieloalves.application.async;
+
+import java.util.concurrent.RejectedExecutionException;
+
+public class BulkheadFullException extends RejectedExecutionException {
+
+    public BulkheadFullException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,239 @@
+package dev.urieloalves.application.async;
+
+import dev.urieloalves.application.NullaryUseCase;
+import dev.urieloalves.application.UnitUseCase;
+import dev.urieloalves.application.UseCase;
+import dev.urieloalves.domain.validation.Error;
+import dev.urieloalves.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs use cases off the caller thread.
+ * <p>
+ * Each execution may carry a deadline; when it expires, or when the returned future is cancelled, the
+ * running use case is interrupted. Use cases registered with {@link #limit(Object, int)} are guarded by a
+ * bulkhead that rejects executions beyond the limit instead of queueing them.
+ */
+public class UseCaseExecutor implements AutoCloseable {
+
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final Map<Object, Semaphore> bulkheads = new ConcurrentHashMap<>();
+
+    public UseCaseExecutor(final Executor executor) {
+        this(executor, false);
+    }
+
+    private UseCaseExecutor(final Executor executor, final boolean ownsExecutor) {
+        this.executor = Objects.requireNonNull(executor);
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * An executor running every use case on its own virtual thread, falling back to a cached pool of daemon
+     * threads on JVMs without virtual threads.
+     */
+    public static UseCaseExecutor create() {
+        return new UseCaseExecutor(newThreadPerTaskExecutor(), true);
+    }
+
+    public static ExecutorService newThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException | UnsupportedOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                final var thread = new Thread(runnable);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Allows at most {@code maxConcurrent} simultaneous executions of the use case.
+     */
+    public UseCaseExecutor limit(final Object useCase, final int maxConcurrent) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("'maxConcurrent' should be greater than zero");
+        }
+        this.bulkheads.put(Objects.requireNonNull(useCase), new Semaphore(maxConcurrent));
+        return this;
+    }
+
+    public <IN, OUT> CompletableFuture<OUT> executeAsync(final UseCase<IN, OUT> useCase, final IN in) {
+        return executeAsync(useCase, in, null);
+    }
+
+    public <IN, OUT> CompletableFuture<OUT> executeAsync(
+            final UseCase<IN, OUT> useCase,
+            final IN in,
+            final Duration deadline
+    ) {
+        return submit(useCase, () -> useCase.execute(in), deadline);
+    }
+
+    public <IN> CompletableFuture<Void> executeAsync(final UnitUseCase<IN> useCase, final IN in) {
+        return executeAsync(useCase, in, null);
+    }
+
+    public <IN> CompletableFuture<Void> executeAsync(final UnitUseCase<IN> useCase, final IN in, final Duration deadline) {
+        return submit(useCase, () -> {
+            useCase.execute(in);
+            return null;
+        }, deadline);
+    }
+
+    public <OUT> CompletableFuture<OUT> executeAsync(final NullaryUseCase<OUT> useCase) {
+        return executeAsync(useCase, null);
+    }
+
+    public <OUT> CompletableFuture<OUT> executeAsync(final NullaryUseCase<OUT> useCase, final Duration deadline) {
+        return submit(useCase, useCase::execute, deadline);
+    }
+
+    /**
+     * Same as {@link #executeAsync(UseCase, Object, Duration)} for use cases reporting errors through a
+     * {@link Notification}: failures, timeouts and rejections complete the future with a left notification
+     * instead of exceptionally. Cancelling the returned future interrupts the use case, as with
+     * {@code executeAsync}.
+     */
+    public <IN, OUT> CompletableFuture<Either<Notification, OUT>> executeNotifying(
+            final UseCase<IN, Either<Notification, OUT>> useCase,
+            final IN in,
+            final Duration deadline
+    ) {
+        final var result = executeAsync(useCase, in, deadline);
+        final var notifying = new CompletableFuture<Either<Notification, OUT>>();
+        result.whenComplete((output, error) -> {
+            if (error == null) {
+                notifying.complete(output);
+            } else {
+                notifying.complete(API.Left(toNotification(error, deadline)));
+            }
+        });
+        // not a dependent stage of the result, whose cancellation would never reach the running use case
+        notifying.whenComplete((output, error) -> {
+            if (error != null) {
+                result.cancel(true);
+            }
+        });
+        return notifying;
+    }
+
+    @Override
+    public void close() {
+        if (this.ownsExecutor && this.executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    private <OUT> CompletableFuture<OUT> submit(final Object useCase, final Callable<OUT> call, final Duration deadline) {
+        final var bulkhead = this.bulkheads.get(useCase);
+        if (bulkhead != null && !bulkhead.tryAcquire()) {
+            return CompletableFuture.failedFuture(new BulkheadFullException(
+                    "Too many concurrent executions of %s".formatted(useCase.getClass().getSimpleName())
+            ));
+        }
+
+        final var result = new CompletableFuture<OUT>();
+        final var task = new Execution<>(call, bulkhead, result);
+        try {
+            this.executor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            task.releasePermit();
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        if (deadline != null) {
+            result.orTimeout(deadline.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        // a deadline or a cancel of the returned future interrupts the use case
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private static Notification toNotification(final Throwable t, final Duration deadline) {
+        final var cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        if (cause instanceof TimeoutException) {
+            return Notification.create(new Error("Use case did not complete within %d ms".formatted(deadline.toMillis())));
+        }
+        if (cause instanceof CancellationException) {
+            return Notification.create(new Error("Use case was cancelled"));
+        }
+        return Notification.create(cause);
+    }
+
+    private static final class Execution<OUT> extends FutureTask<OUT> {
+
+        private final Semaphore bulkhead;
+        private final CompletableFuture<OUT> result;
+        private final AtomicBoolean permitHeld;
+
+        private Execution(final Callable<OUT> call, final Semaphore bulkhead, final CompletableFuture<OUT> result) {
+            super(call);
+            this.bulkhead = bulkhead;
+            this.result = result;
+            this.permitHeld = new AtomicBoolean(bulkhead != null);
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                releasePermit();
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                // cancelled before it started, run() may never be called
+                if (!this.result.isDone()) {
+                    this.result.cancel(false);
+                }
+                return;
+            }
+            // the call has returned, so free the slot before callers can observe the result and retry
+            releasePermit();
+            try {
+                this.result.complete(get());
+            } catch (final ExecutionException e) {
+                this.result.completeExceptionally(e.getCause());
+            } catch (final InterruptedException | CancellationException e) {
+                this.result.completeExceptionally(e);
+            }
+        }
+
+        private void releasePermit() {
+            if (this.permitHeld.compareAndSet(true, false)) {
+                this.bulkhead.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package dev.urieloalves.application.category.create;
+
+import java.util.List;
+
+public record CreateCategoriesBatchCommand(
+        List<CreateCategoryCommand> commands
+) {
+
+    public static CreateCategoriesBatchCommand with(final List<CreateCategoryCommand> commands) {
+        return new CreateCategoriesBatchCommand(commands);
+    }
+}
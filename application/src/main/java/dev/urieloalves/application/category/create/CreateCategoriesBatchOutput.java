@@ -0,0 +1,18 @@
+package dev.urieloalves.application.category.create;
+
+import dev.urieloalves.domain.validation.handler.Notification;
+
+import java.util.Map;
+
+/**
+ * Results of a batch keyed by the index of each command in the input.
+ */
+public record CreateCategoriesBatchOutput(
+        Map<Integer, CreateCategoryOutput> created,
+        Map<Integer, Notification> errors
+) {
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+}
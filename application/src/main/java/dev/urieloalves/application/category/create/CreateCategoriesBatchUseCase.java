@@ -0,0 +1,7 @@
+package dev.urieloalves.application.category.create;
+
+import dev.urieloalves.application.UseCase;
+
+public abstract class CreateCategoriesBatchUseCase
+        extends UseCase<CreateCategoriesBatchCommand, CreateCategoriesBatchOutput> {
+}
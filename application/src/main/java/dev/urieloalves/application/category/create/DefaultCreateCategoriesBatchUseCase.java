@@ -0,0 +1,114 @@
+package dev.urieloalves.application.category.create;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryValidator;
+import dev.urieloalves.domain.events.DomainEventPublisher;
+import dev.urieloalves.domain.validation.handler.Notification;
+import io.vavr.API;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+public class DefaultCreateCategoriesBatchUseCase extends CreateCategoriesBatchUseCase {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    private final CategoryGateway categoryGateway;
+    private final int chunkSize;
+    private final DomainEventPublisher eventPublisher;
+    private final Clock clock;
+
+    public DefaultCreateCategoriesBatchUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, DEFAULT_CHUNK_SIZE);
+    }
+
+    public DefaultCreateCategoriesBatchUseCase(final CategoryGateway categoryGateway, final int chunkSize) {
+        this(categoryGateway, chunkSize, DomainEventPublisher.noop());
+    }
+
+    public DefaultCreateCategoriesBatchUseCase(
+            final CategoryGateway categoryGateway,
+            final int chunkSize,
+            final DomainEventPublisher eventPublisher
+    ) {
+        this(categoryGateway, chunkSize, eventPublisher, Clock.systemUTC());
+    }
+
+    /**
+     * {@code clock} stamps every category of a batch; bulk imports may pass a coarser one than the system clock.
+     */
+    public DefaultCreateCategoriesBatchUseCase(
+            final CategoryGateway categoryGateway,
+            final int chunkSize,
+            final DomainEventPublisher eventPublisher,
+            final Clock clock
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("'chunkSize' should be greater than zero");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.chunkSize = chunkSize;
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public CreateCategoriesBatchOutput execute(final CreateCategoriesBatchCommand command) {
+        final var commands = command.commands();
+        final var created = new TreeMap<Integer, CreateCategoryOutput>();
+        final var errors = new TreeMap<Integer, Notification>();
+
+        final var categories = new ArrayList<Category>(commands.size());
+        final var indexes = new ArrayList<Integer>(commands.size());
+
+        for (int index = 0; index < commands.size(); index++) {
+            final var row = commands.get(index);
+            final var notification = Notification.create();
+
+            CategoryValidator.validateName(row.name(), notification);
+            if (notification.hasError()) {
+                errors.put(index, notification);
+                continue;
+            }
+
+            final var category = Category.newCategory(row.name(), row.description(), row.isActive(), this.clock);
+            category.validate(notification);
+
+            if (notification.hasError()) {
+                errors.put(index, notification);
+            } else {
+                categories.add(category);
+                indexes.add(index);
+            }
+        }
+
+        for (int from = 0; from < categories.size(); from += this.chunkSize) {
+            final var to = Math.min(from + this.chunkSize, categories.size());
+            createAll(categories.subList(from, to), indexes.subList(from, to), created, errors);
+        }
+
+        return new CreateCategoriesBatchOutput(created, errors);
+    }
+
+    private void createAll(
+            final List<Category> chunk,
+            final List<Integer> chunkIndexes,
+            final Map<Integer, CreateCategoryOutput> created,
+            final Map<Integer, Notification> errors
+    ) {
+        API.Try(() -> this.categoryGateway.createAll(chunk))
+                .toEither()
+                .peek(categories -> chunk.forEach(category -> category.publishDomainEvents(this.eventPublisher)))
+                .peek(categories -> {
+                    for (int i = 0; i < categories.size(); i++) {
+                        created.put(chunkIndexes.get(i), CreateCategoryOutput.from(categories.get(i)));
+                    }
+                })
+                .peekLeft(t -> chunkIndexes.forEach(index -> errors.put(index, Notification.create(t))));
+    }
+}
@@ -2,8 +2,9 @@ package dev.urieloalves.application.category.create;
 
 import dev.urieloalves.domain.category.Category;
 import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryValidator;
+import dev.urieloalves.domain.events.DomainEventPublisher;
 import dev.urieloalves.domain.validation.handler.Notification;
-import dev.urieloalves.domain.validation.handler.ThrowsValidationHandler;
 import io.vavr.API;
 import io.vavr.control.Either;
 
@@ -12,9 +13,15 @@ import java.util.Objects;
 public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
+    private final DomainEventPublisher eventPublisher;
 
     public DefaultCreateCategoryUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, DomainEventPublisher.noop());
+    }
+
+    public DefaultCreateCategoryUseCase(final CategoryGateway categoryGateway, final DomainEventPublisher eventPublisher) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
     }
 
     @Override
@@ -25,6 +32,12 @@ public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
 
         final var notification = Notification.create();
 
+        // rejected commands never reach the id generator, which costs more than the rest of the validation
+        CategoryValidator.validateName(name, notification);
+        if (notification.hasError()) {
+            return API.Left(notification);
+        }
+
         final var category = Category.newCategory(name, description, isActive);
         category.validate(notification);
 
@@ -34,6 +47,7 @@ public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
     private Either<Notification, CreateCategoryOutput> create(final Category category) {
         return API.Try(() -> this.categoryGateway.create(category))
                 .toEither()
+                .peek(created -> category.publishDomainEvents(this.eventPublisher))
                 .bimap(Notification::create, CreateCategoryOutput::from);
     }
 }
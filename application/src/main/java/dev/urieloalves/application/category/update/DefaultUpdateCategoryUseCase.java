@@ -0,0 +1,91 @@
+package dev.urieloalves.application.category.update;
+
+import dev.urieloalves.application.retry.RetryPolicy;
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.events.DomainEventPublisher;
+import dev.urieloalves.domain.exceptions.OptimisticLockException;
+import dev.urieloalves.domain.validation.Error;
+import dev.urieloalves.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reads the category, applies the command and writes it back with the version it read. When another writer
+ * got there first the whole read-modify-write is retried, up to {@link RetryPolicy#maxAttempts()}, unless
+ * the command carries the version the caller expects, in which case the conflict is reported right away.
+ */
+public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final DomainEventPublisher eventPublisher;
+    private final RetryPolicy retryPolicy;
+
+    public DefaultUpdateCategoryUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, DomainEventPublisher.noop(), RetryPolicy.defaults());
+    }
+
+    public DefaultUpdateCategoryUseCase(
+            final CategoryGateway categoryGateway,
+            final DomainEventPublisher eventPublisher,
+            final RetryPolicy retryPolicy
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
+        this.retryPolicy = Objects.requireNonNull(retryPolicy);
+    }
+
+    @Override
+    public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand command) {
+        if (command.id() == null) {
+            return API.Left(Notification.create(new Error("'id' should not be null")));
+        }
+        final var id = CategoryId.from(command.id());
+        for (int attempt = 1; ; attempt++) {
+            final Optional<Category> found;
+            try {
+                found = this.categoryGateway.findById(id);
+            } catch (final RuntimeException e) {
+                return API.Left(Notification.create(e));
+            }
+            if (found.isEmpty()) {
+                return API.Left(Notification.create(new Error("Category with ID %s was not found".formatted(command.id()))));
+            }
+
+            final var category = found.get();
+            if (command.expectedVersion() != null && command.expectedVersion() != category.getVersion()) {
+                return API.Left(Notification.create(OptimisticLockException.with(
+                        "Category", command.id(), command.expectedVersion(), category.getVersion()
+                )));
+            }
+
+            final var notification = Notification.create();
+            category.update(command.name(), command.description(), command.isActive()).validate(notification);
+            if (notification.hasError()) {
+                return API.Left(notification);
+            }
+
+            try {
+                final var updated = this.categoryGateway.update(category);
+                category.publishDomainEvents(this.eventPublisher);
+                return API.Right(UpdateCategoryOutput.from(updated));
+            } catch (final OptimisticLockException e) {
+                if (command.expectedVersion() != null || attempt >= this.retryPolicy.maxAttempts()) {
+                    return API.Left(Notification.create(e));
+                }
+            } catch (final RuntimeException e) {
+                return API.Left(Notification.create(e));
+            }
+
+            LockSupport.parkNanos(this.retryPolicy.backoffNanos(attempt));
+            if (Thread.currentThread().isInterrupted()) {
+                return API.Left(Notification.create(new Error("Update of category %s was interrupted".formatted(command.id()))));
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package dev.urieloalves.application.category.update;
+
+/**
+ * @param expectedVersion version the caller last read, or {@code null} to apply the change on top of
+ *                        whatever is stored
+ */
+public record UpdateCategoryCommand(
+        String id,
+        String name,
+        String description,
+        boolean isActive,
+        Long expectedVersion
+) {
+
+    public static UpdateCategoryCommand with(
+            final String id,
+            final String name,
+            final String description,
+            final boolean isActive
+    ) {
+        return new UpdateCategoryCommand(id, name, description, isActive, null);
+    }
+
+    public static UpdateCategoryCommand with(
+            final String id,
+            final String name,
+            final String description,
+            final boolean isActive,
+            final long expectedVersion
+    ) {
+        return new UpdateCategoryCommand(id, name, description, isActive, expectedVersion);
+    }
+}
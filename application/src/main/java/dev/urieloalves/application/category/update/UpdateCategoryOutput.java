@@ -0,0 +1,14 @@
+package dev.urieloalves.application.category.update;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryId;
+
+public record UpdateCategoryOutput(
+        CategoryId id,
+        long version
+) {
+
+    public static UpdateCategoryOutput from(final Category category) {
+        return new UpdateCategoryOutput(category.getId(), category.getVersion());
+    }
+}
@@ -0,0 +1,9 @@
+package dev.urieloalves.application.category.update;
+
+import dev.urieloalves.application.UseCase;
+import dev.urieloalves.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class UpdateCategoryUseCase
+        extends UseCase<UpdateCategoryCommand, Either<Notification, UpdateCategoryOutput>> {
+}
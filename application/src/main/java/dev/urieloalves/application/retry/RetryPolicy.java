@@ -0,0 +1,40 @@
+package dev.urieloalves.application.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How many times to attempt an operation and how long to wait between attempts: exponential backoff from
+ * {@code initialBackoff}, capped at {@code maxBackoff}, with full jitter so that writers that conflicted
+ * once do not collide again on the next attempt.
+ */
+public record RetryPolicy(
+        int maxAttempts,
+        Duration initialBackoff,
+        Duration maxBackoff
+) {
+
+    public RetryPolicy {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("'maxAttempts' should be greater than zero");
+        }
+        if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("'maxBackoff' should not be less than 'initialBackoff'");
+        }
+    }
+
+    public static RetryPolicy defaults() {
+        return new RetryPolicy(5, Duration.ofMillis(1), Duration.ofMillis(50));
+    }
+
+    /**
+     * Random wait before attempt {@code attempt + 1}, given that {@code attempt} attempts (from 1) failed.
+     */
+    public long backoffNanos(final int attempt) {
+        final var ceiling = Math.min(
+                this.maxBackoff.toNanos(),
+                this.initialBackoff.toNanos() << Math.min(attempt - 1, 30)
+        );
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
@@ -0,0 +1,140 @@
+package dev.urieloalves.application.async;
+
+import dev.urieloalves.application.UseCase;
+import dev.urieloalves.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+public class UseCaseExecutorTest {
+
+    private final UseCaseExecutor executor = UseCaseExecutor.create();
+
+    @AfterEach
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    public void givenUseCase_whenCallExecuteAsync_thenShouldCompleteWithItsOutput() throws Exception {
+        final var useCase = new EchoUseCase();
+
+        final var actualOutput = executor.executeAsync(useCase, "Movies").get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals("Movies", actualOutput.get());
+    }
+
+    @Test
+    public void givenFailingUseCase_whenCallExecuteNotifying_thenShouldReturnNotification() throws Exception {
+        final var expectedErrorMessage = "Gateway Error";
+        final var useCase = new FailingUseCase(expectedErrorMessage);
+
+        final var actualOutput = executor.executeNotifying(useCase, "Movies", null).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertTrue(actualOutput.isLeft());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.getLeft().getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenSlowUseCase_whenDeadlineExpires_thenShouldInterruptItAndReturnNotification() throws Exception {
+        final var expectedErrorMessage = "Use case did not complete within 50 ms";
+        final var useCase = new BlockingUseCase();
+
+        final var actualOutput = executor.executeNotifying(useCase, "Movies", Duration.ofMillis(50)).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertTrue(actualOutput.isLeft());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.getLeft().getErrors().get(0).message());
+        Assertions.assertTrue(useCase.interrupted.tryAcquire(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void givenRunningUseCase_whenNotifyingFutureIsCancelled_thenShouldInterruptIt() throws Exception {
+        final var useCase = new BlockingUseCase();
+
+        final var running = executor.executeNotifying(useCase, "Movies", null);
+        Assertions.assertTrue(useCase.started.tryAcquire(5, TimeUnit.SECONDS));
+        running.cancel(true);
+
+        Assertions.assertTrue(running.isCancelled());
+        Assertions.assertTrue(useCase.interrupted.tryAcquire(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void givenBulkheadLimit_whenLimitIsReached_thenShouldRejectAndReleaseOnCompletion() throws Exception {
+        final var useCase = new BlockingUseCase();
+        executor.limit(useCase, 1);
+
+        final var running = executor.executeAsync(useCase, "Movies");
+        Assertions.assertTrue(useCase.started.tryAcquire(5, TimeUnit.SECONDS));
+        final var rejected = executor.executeAsync(useCase, "Series");
+
+        final var actualException = Assertions.assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(actualException.getCause() instanceof BulkheadFullException);
+
+        running.cancel(true);
+        Assertions.assertTrue(useCase.interrupted.tryAcquire(5, TimeUnit.SECONDS));
+
+        // the permit comes back once the interrupted call returns, so the same use case runs again
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        var accepted = executor.executeAsync(useCase, "Kids");
+        while (isRejected(accepted) && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+            accepted = executor.executeAsync(useCase, "Kids");
+        }
+        Assertions.assertTrue(useCase.started.tryAcquire(5, TimeUnit.SECONDS));
+        accepted.cancel(true);
+        Assertions.assertTrue(useCase.interrupted.tryAcquire(5, TimeUnit.SECONDS));
+    }
+
+    private static boolean isRejected(final CompletableFuture<?> future) {
+        return future.isCompletedExceptionally()
+                && future.handle((value, error) -> error instanceof BulkheadFullException).join();
+    }
+
+    private static class EchoUseCase extends UseCase<String, Either<Notification, String>> {
+
+        @Override
+        public Either<Notification, String> execute(final String in) {
+            return API.Right(in);
+        }
+    }
+
+    private static class FailingUseCase extends UseCase<String, Either<Notification, String>> {
+
+        private final String message;
+
+        private FailingUseCase(final String message) {
+            this.message = message;
+        }
+
+        @Override
+        public Either<Notification, String> execute(final String in) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    private static class BlockingUseCase extends UseCase<String, Either<Notification, String>> {
+
+        private final Semaphore started = new Semaphore(0);
+        private final Semaphore interrupted = new Semaphore(0);
+
+        @Override
+        public Either<Notification, String> execute(final String in) {
+            started.release();
+            try {
+                Thread.sleep(60_000);
+            } catch (final InterruptedException e) {
+                interrupted.release();
+            }
+            return API.Right(in);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package dev.urieloalves.application.category.create;
+
+import dev.urieloalves.domain.category.CategoryCreated;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.events.DomainEventPublisher;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateCategoriesBatchUseCaseTest {
+
+    @Mock
+    private CategoryGateway gateway;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Test
+    public void givenValidCommands_whenCallCreateCategoriesBatch_shouldWriteThemInChunks() {
+        final var expectedChunkSize = 2;
+        final var expectedCreatedCount = 5;
+
+        Mockito.when(gateway.createAll(Mockito.anyList()))
+                .thenAnswer(returnsFirstArg());
+
+        final var command = CreateCategoriesBatchCommand.with(List.of(
+                CreateCategoryCommand.with("Movies", "The most watched category", true),
+                CreateCategoryCommand.with("Series", "Long running shows", true),
+                CreateCategoryCommand.with("Documentaries", null, true),
+                CreateCategoryCommand.with("Anime", "Japanese animation", false),
+                CreateCategoryCommand.with("Kids", "For the whole family", true)
+        ));
+        final var useCase = new DefaultCreateCategoriesBatchUseCase(gateway, expectedChunkSize);
+        final var actualOutput = useCase.execute(command);
+
+        Assertions.assertFalse(actualOutput.hasErrors());
+        Assertions.assertEquals(expectedCreatedCount, actualOutput.created().size());
+        Assertions.assertNotNull(actualOutput.created().get(4).id());
+
+        Mockito.verify(gateway, Mockito.times(2))
+                .createAll(Mockito.argThat(categories -> categories.size() == expectedChunkSize));
+        Mockito.verify(gateway, Mockito.times(1))
+                .createAll(Mockito.argThat(categories -> categories.size() == 1));
+        Mockito.verify(gateway, Mockito.times(0)).create(Mockito.any());
+    }
+
+    @Test
+    public void givenInvalidRows_whenCallCreateCategoriesBatch_shouldReturnNotificationsKeyedByIndex() {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var expectedEmptyErrorMessage = "'name' should not be empty";
+
+        Mockito.when(gateway.createAll(Mockito.anyList()))
+                .thenAnswer(returnsFirstArg());
+
+        final var command = CreateCategoriesBatchCommand.with(List.of(
+                CreateCategoryCommand.with("Movies", "The most watched category", true),
+                CreateCategoryCommand.with(null, "The most watched category", true),
+                CreateCategoryCommand.with("Series", "Long running shows", true),
+                CreateCategoryCommand.with(" ", "Long running shows", true)
+        ));
+        final var useCase = new DefaultCreateCategoriesBatchUseCase(gateway);
+        final var actualOutput = useCase.execute(command);
+
+        Assertions.assertEquals(List.of(0, 2), List.copyOf(actualOutput.created().keySet()));
+        Assertions.assertEquals(List.of(1, 3), List.copyOf(actualOutput.errors().keySet()));
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.errors().get(1).getErrors().get(0).message());
+        Assertions.assertEquals(expectedEmptyErrorMessage, actualOutput.errors().get(3).getErrors().get(0).message());
+
+        Mockito.verify(gateway, Mockito.times(1))
+                .createAll(Mockito.argThat(categories -> categories.size() == 2));
+    }
+
+    @Test
+    public void givenValidCommands_whenGatewayThrowsRandomException_shouldReturnNotificationForEveryRowOfTheChunk() {
+        final var expectedErrorMessage = "Gateway Error";
+
+        Mockito.when(gateway.createAll(Mockito.anyList()))
+                .thenAnswer(returnsFirstArg())
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var command = CreateCategoriesBatchCommand.with(List.of(
+                CreateCategoryCommand.with("Movies", "The most watched category", true),
+                CreateCategoryCommand.with("Series", "Long running shows", true),
+                CreateCategoryCommand.with("Documentaries", null, true),
+                CreateCategoryCommand.with("Anime", "Japanese animation", true)
+        ));
+        final var useCase = new DefaultCreateCategoriesBatchUseCase(gateway, 2);
+        final var actualOutput = useCase.execute(command);
+
+        Assertions.assertEquals(List.of(0, 1), List.copyOf(actualOutput.created().keySet()));
+        Assertions.assertEquals(List.of(2, 3), List.copyOf(actualOutput.errors().keySet()));
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.errors().get(2).getErrors().get(0).message());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.errors().get(3).getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenFailingChunk_whenCallCreateCategoriesBatch_shouldOnlyPublishEventsOfStoredCategories() {
+        Mockito.when(gateway.createAll(Mockito.anyList()))
+                .thenAnswer(returnsFirstArg())
+                .thenThrow(new IllegalStateException("Gateway Error"));
+
+        final var command = CreateCategoriesBatchCommand.with(List.of(
+                CreateCategoryCommand.with("Movies", "The most watched category", true),
+                CreateCategoryCommand.with("Series", "Long running shows", true),
+                CreateCategoryCommand.with("Documentaries", null, true)
+        ));
+        final var useCase = new DefaultCreateCategoriesBatchUseCase(gateway, 2, eventPublisher);
+        final var actualOutput = useCase.execute(command);
+
+        Assertions.assertEquals(List.of(2), List.copyOf(actualOutput.errors().keySet()));
+        Mockito.verify(eventPublisher, Mockito.times(2))
+                .publishEvent(Mockito.argThat(event -> event instanceof CategoryCreated));
+    }
+}
@@ -1,6 +1,9 @@
 package dev.urieloalves.application.category.create;
 
+import dev.urieloalves.domain.category.CategoryCreated;
 import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryValidator;
+import dev.urieloalves.domain.events.DomainEventPublisher;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +24,9 @@ public class CreateCategoryUseCaseTest {
     @Mock
     private CategoryGateway gateway;
 
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
     @Test
     public void givenValidCommand_whenCallCreateCategory_shouldReturnCategoryId() {
         final var expectedName = "Movies";
@@ -54,6 +60,7 @@ public class CreateCategoryUseCaseTest {
         final var expectedDescription = "The most watched category";
         final var expectedIsActive = true;
         final var expectedErrorMessage = "'name' should not be null";
+        final var expectedErrorCode = CategoryValidator.NAME_NULL.code();
         final var expectedErrorCount = 1;
 
         final var command = CreateCategoryCommand.with(expectedName, expectedDescription, expectedIsActive);
@@ -61,6 +68,7 @@ public class CreateCategoryUseCaseTest {
         final var notification = useCase.execute(command).getLeft();
         Assertions.assertEquals(expectedErrorCount, notification.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+        Assertions.assertEquals(expectedErrorCode, notification.getErrors().get(0).code());
 
         Mockito.verify(gateway, Mockito.times(0)).create(Mockito.any());
     }
@@ -119,5 +127,24 @@ public class CreateCategoryUseCaseTest {
                                 && Objects.nonNull(category.getUpdatedAt())
                                 && Objects.isNull(category.getDeletedAt())
                 ));
+        Mockito.verify(eventPublisher, Mockito.times(0)).publishEvent(Mockito.any());
+    }
+
+    @Test
+    public void givenValidCommand_whenGatewayStoresCategory_shouldPublishCategoryCreated() {
+        final var expectedName = "Movies";
+
+        Mockito.when(gateway.create(Mockito.any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var command = CreateCategoryCommand.with(expectedName, "The most watched category", true);
+        final var actualOutput = useCase.execute(command).get();
+
+        Mockito.verify(eventPublisher, Mockito.times(1))
+                .publishEvent(Mockito.argThat(event ->
+                        event instanceof CategoryCreated created
+                                && Objects.equals(actualOutput.id(), created.aggregateId())
+                                && Objects.equals(expectedName, created.name())
+                ));
     }
 }
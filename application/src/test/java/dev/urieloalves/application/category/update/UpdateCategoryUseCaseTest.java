@@ -0,0 +1,173 @@
+package dev.urieloalves.application.category.update;
+
+import dev.urieloalves.application.retry.RetryPolicy;
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryUpdated;
+import dev.urieloalves.domain.events.DomainEventPublisher;
+import dev.urieloalves.domain.exceptions.OptimisticLockException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+public class UpdateCategoryUseCaseTest {
+
+    private static final RetryPolicy RETRY_POLICY = new RetryPolicy(3, Duration.ZERO, Duration.ZERO);
+
+    @Mock
+    private CategoryGateway gateway;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Test
+    public void givenValidCommand_whenCallUpdateCategory_shouldStoreNextVersionAndPublishEvents() {
+        final var expectedName = "Series";
+        final var expectedDescription = "Long running shows";
+        final var expectedIsActive = false;
+        final var expectedVersion = 1L;
+
+        final var stored = Category.with(Category.newCategory("Movies", "The most watched category", true));
+        Mockito.when(gateway.findById(stored.getId()))
+                .thenAnswer(invocation -> Optional.of(Category.with(stored)));
+        Mockito.when(gateway.update(Mockito.any()))
+                .thenAnswer(invocation -> invocation.getArgument(0, Category.class).nextVersion());
+
+        final var command = UpdateCategoryCommand.with(stored.getId().getValue(), expectedName, expectedDescription, expectedIsActive);
+        final var useCase = new DefaultUpdateCategoryUseCase(gateway, eventPublisher, RETRY_POLICY);
+        final var actualOutput = useCase.execute(command).get();
+
+        Assertions.assertEquals(stored.getId(), actualOutput.id());
+        Assertions.assertEquals(expectedVersion, actualOutput.version());
+        Mockito.verify(gateway, Mockito.times(1))
+                .update(Mockito.argThat(category ->
+                        Objects.equals(expectedName, category.getName())
+                                && Objects.equals(expectedDescription, category.getDescription())
+                                && Objects.equals(expectedIsActive, category.isActive())
+                                && category.getVersion() == 0
+                                && Objects.nonNull(category.getDeletedAt())
+                ));
+        Mockito.verify(eventPublisher, Mockito.times(1))
+                .publishEvent(Mockito.argThat(event -> event instanceof CategoryUpdated));
+    }
+
+    @Test
+    public void givenConcurrentWriter_whenCallUpdateCategory_shouldRetryOnTopOfTheNewVersion() {
+        final var stored = Category.with(Category.newCategory("Movies", "The most watched category", true));
+        Mockito.when(gateway.findById(stored.getId()))
+                .thenAnswer(invocation -> Optional.of(Category.with(stored)));
+        Mockito.when(gateway.update(Mockito.any()))
+                .thenThrow(OptimisticLockException.with("Category", stored.getId().getValue(), 0, 1))
+                .thenAnswer(invocation -> invocation.getArgument(0, Category.class).nextVersion());
+
+        final var command = UpdateCategoryCommand.with(stored.getId().getValue(), "Series", null, true);
+        final var useCase = new DefaultUpdateCategoryUseCase(gateway, eventPublisher, RETRY_POLICY);
+        final var actualOutput = useCase.execute(command);
+
+        Assertions.assertTrue(actualOutput.isRight());
+        Mockito.verify(gateway, Mockito.times(2)).findById(stored.getId());
+        Mockito.verify(gateway, Mockito.times(2)).update(Mockito.any());
+    }
+
+    @Test
+    public void givenPersistentConflicts_whenCallUpdateCategory_shouldReturnConflictNotificationAfterMaxAttempts() {
+        final var expectedErrorMessage = "was modified concurrently";
+
+        final var stored = Category.with(Category.newCategory("Movies", "The most watched category", true));
+        Mockito.when(gateway.findById(stored.getId()))
+                .thenAnswer(invocation -> Optional.of(Category.with(stored)));
+        Mockito.when(gateway.update(Mockito.any()))
+                .thenThrow(OptimisticLockException.with("Category", stored.getId().getValue(), 0, 1));
+
+        final var command = UpdateCategoryCommand.with(stored.getId().getValue(), "Series", null, true);
+        final var useCase = new DefaultUpdateCategoryUseCase(gateway, eventPublisher, RETRY_POLICY);
+        final var notification = useCase.execute(command).getLeft();
+
+        Assertions.assertTrue(notification.getErrors().get(0).message().contains(expectedErrorMessage));
+        Mockito.verify(gateway, Mockito.times(RETRY_POLICY.maxAttempts())).update(Mockito.any());
+        Mockito.verify(eventPublisher, Mockito.times(0)).publishEvent(Mockito.any());
+    }
+
+    @Test
+    public void givenStaleExpectedVersion_whenCallUpdateCategory_shouldReturnConflictWithoutWriting() {
+        final var expectedErrorMessage = "expected version 0 but found 3";
+
+        final var stored = Category.with(Category.newCategory("Movies", "The most watched category", true)
+                .nextVersion().nextVersion().nextVersion());
+        Mockito.when(gateway.findById(stored.getId()))
+                .thenReturn(Optional.of(stored));
+
+        final var command = UpdateCategoryCommand.with(stored.getId().getValue(), "Series", null, true, 0);
+        final var useCase = new DefaultUpdateCategoryUseCase(gateway, eventPublisher, RETRY_POLICY);
+        final var notification = useCase.execute(command).getLeft();
+
+        Assertions.assertTrue(notification.getErrors().get(0).message().endsWith(expectedErrorMessage));
+        Mockito.verify(gateway, Mockito.times(0)).update(Mockito.any());
+    }
+
+    @Test
+    public void givenUnknownId_whenCallUpdateCategory_shouldReturnNotFoundNotification() {
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+
+        Mockito.when(gateway.findById(Mockito.any()))
+                .thenReturn(Optional.empty());
+
+        final var command = UpdateCategoryCommand.with("123", "Series", null, true);
+        final var useCase = new DefaultUpdateCategoryUseCase(gateway);
+        final var notification = useCase.execute(command).getLeft();
+
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+        Mockito.verify(gateway, Mockito.times(0)).update(Mockito.any());
+    }
+
+    @Test
+    public void givenNullId_whenCallUpdateCategory_shouldReturnNotificationWithoutReading() {
+        final var expectedErrorMessage = "'id' should not be null";
+
+        final var command = UpdateCategoryCommand.with(null, "Series", null, true);
+        final var useCase = new DefaultUpdateCategoryUseCase(gateway);
+        final var notification = useCase.execute(command).getLeft();
+
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+        Mockito.verify(gateway, Mockito.times(0)).findById(Mockito.any());
+    }
+
+    @Test
+    public void givenFailingRead_whenCallUpdateCategory_shouldReturnNotification() {
+        final var expectedErrorMessage = "Gateway Error";
+
+        Mockito.when(gateway.findById(Mockito.any()))
+                .thenThrow(new IllegalStateException("Gateway Error"));
+
+        final var command = UpdateCategoryCommand.with("123", "Series", null, true);
+        final var useCase = new DefaultUpdateCategoryUseCase(gateway);
+        final var notification = useCase.execute(command).getLeft();
+
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+        Mockito.verify(gateway, Mockito.times(0)).update(Mockito.any());
+    }
+
+    @Test
+    public void givenInvalidName_whenCallUpdateCategory_shouldReturnValidationNotification() {
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var stored = Category.newCategory("Movies", "The most watched category", true);
+        Mockito.when(gateway.findById(stored.getId()))
+                .thenReturn(Optional.of(stored));
+
+        final var command = UpdateCategoryCommand.with(stored.getId().getValue(), null, null, true);
+        final var useCase = new DefaultUpdateCategoryUseCase(gateway);
+        final var notification = useCase.execute(command).getLeft();
+
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+        Mockito.verify(gateway, Mockito.times(0)).update(Mockito.any());
+    }
+}
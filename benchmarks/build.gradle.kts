@@ -0,0 +1,98 @@
+import groovy.json.JsonSlurper
+
+plugins {
+    id("java")
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+group = "dev.urieloalves.benchmarks"
+version = "1.0-SNAPSHOT"
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(project(":domain"))
+    jmh(project(":application"))
+    jmh(project(":infrastructure"))
+
+    jmh("io.vavr:vavr:0.10.4")
+    jmh("org.openjdk.jol:jol-core:0.17")
+    jmh("com.fasterxml.jackson.core:jackson-databind:2.16.1")
+    jmh("com.fasterxml.jackson.datatype:jackson-datatype-jsr310:2.16.1")
+}
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+}
+
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaseline = layout.projectDirectory.file("baseline/results.json")
+
+// ./gradlew :benchmarks:jmh -PjmhIncludes=CategoryBenchmark
+jmh {
+    benchmarkMode.set(listOf("thrpt"))
+    timeUnit.set("s")
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(jmhResults)
+    (findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+}
+
+tasks.register<JavaExec>("footprint") {
+    description = "Prints the retained memory of CategoryId using JOL."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("dev.urieloalves.benchmarks.footprint.CategoryIdFootprint")
+    jvmArgs("-Djdk.attach.allowAttachSelf=true")
+}
+
+tasks.register<JavaExec>("loadTest") {
+    description = "Runs the HTTP load test and prints throughput and latency percentiles."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("dev.urieloalves.benchmarks.http.HttpLoadTest")
+    (findProperty("args") as String?)?.let { args(it.split(" ")) }
+}
+
+tasks.register<Copy>("jmhSaveBaseline") {
+    description = "Saves the latest JMH results as the baseline used by jmhCompare."
+    from(jmhResults)
+    into(jmhBaseline.asFile.parentFile)
+}
+
+tasks.register("jmhCompare") {
+    description = "Compares the latest JMH results against the saved baseline."
+    doLast {
+        val threshold = (findProperty("jmhRegressionThreshold") as String? ?: "0.10").toDouble()
+        fun read(file: File): Map<String, Map<String, Double>> =
+            (JsonSlurper().parse(file) as List<*>).associate { run ->
+                run as Map<*, *>
+                val params = (run["params"] as Map<*, *>?)?.entries?.joinToString(",") { "${it.key}=${it.value}" }
+                val name = run["benchmark"].toString() + (params?.let { "($it)" } ?: "")
+                val primary = (run["primaryMetric"] as Map<*, *>)["score"].toString().toDouble()
+                val secondary = run["secondaryMetrics"] as Map<*, *>
+                val allocation = (secondary["gc.alloc.rate.norm"] as Map<*, *>?)?.get("score")?.toString()?.toDouble()
+                name to listOfNotNull("ops" to primary, allocation?.let { "bytes/op" to it }).toMap()
+            }
+
+        val baseline = read(jmhBaseline.asFile)
+        val current = read(jmhResults.get().asFile)
+        val regressions = mutableListOf<String>()
+        current.forEach { (name, metrics) ->
+            val previous = baseline[name] ?: return@forEach
+            val ops = metrics.getValue("ops")
+            val previousOps = previous.getValue("ops")
+            val delta = (ops - previousOps) / previousOps
+            val bytes = metrics["bytes/op"]
+            val previousBytes = previous["bytes/op"]
+            println("%-90s %14.2f -> %14.2f ops/s (%+6.1f%%)  %8.1f -> %8.1f B/op".format(
+                name, previousOps, ops, delta * 100, previousBytes ?: Double.NaN, bytes ?: Double.NaN))
+            if (delta < -threshold || (bytes != null && previousBytes != null && bytes > previousBytes + 8)) {
+                regressions.add(name)
+            }
+        }
+        if (regressions.isNotEmpty()) {
+            throw GradleException("Benchmarks regressed against baseline: $regressions")
+        }
+    }
+}
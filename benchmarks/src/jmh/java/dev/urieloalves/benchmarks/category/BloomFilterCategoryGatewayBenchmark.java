@@ -0,0 +1,109 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.infrastructure.category.BloomFilterCategoryGateway;
+import dev.urieloalves.infrastructure.category.InMemoryCategoryGateway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@code findById} over {@code size} categories for ids that exist and for random ids that do not, from a
+ * store that takes {@code latencyMicros} to answer. {@code direct} asks the store every time; {@code bloom}
+ * answers most missing ids from the filter. The filter's observed false positive rate is printed at teardown.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BloomFilterCategoryGatewayBenchmark {
+
+    private static final int PROBES = 1 << 16;
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"0", "50"})
+    public int latencyMicros;
+
+    @Param({"direct", "bloom"})
+    public String gateway;
+
+    private CategoryGateway categories;
+    private BloomFilterCategoryGateway bloom;
+    private CategoryId[] existing;
+    private CategoryId[] missing;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        final var store = new SlowCategoryGateway(latencyMicros * 1_000L);
+        final var random = new SplittableRandom(42);
+        existing = new CategoryId[PROBES];
+        missing = new CategoryId[PROBES];
+        for (int i = 0; i < size; i++) {
+            final var category = store.create(Category.newCategory("Category " + i, null, true));
+            if (i < PROBES) {
+                existing[i] = category.getId();
+            }
+        }
+        for (int i = 0; i < PROBES; i++) {
+            missing[i] = CategoryId.from(random.nextLong(), random.nextLong());
+        }
+        bloom = "bloom".equals(gateway) ? new BloomFilterCategoryGateway(store, size, 0.01) : null;
+        categories = bloom != null ? bloom : store;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (bloom != null) {
+            System.out.printf("%nfalse positive rate: %.4f, expected: %.4f%n", bloom.falsePositiveRate(), bloom.expectedFalsePositiveRate());
+        }
+    }
+
+    @Benchmark
+    public Optional<Category> findExisting() {
+        return categories.findById(existing[next++ & PROBES - 1]);
+    }
+
+    @Benchmark
+    public Optional<Category> findMissing() {
+        return categories.findById(missing[next++ & PROBES - 1]);
+    }
+
+    private static class SlowCategoryGateway extends InMemoryCategoryGateway {
+
+        private final long latencyNanos;
+
+        private SlowCategoryGateway(final long latencyNanos) {
+            this.latencyNanos = latencyNanos;
+        }
+
+        @Override
+        public Optional<Category> findById(final CategoryId id) {
+            if (this.latencyNanos > 0) {
+                LockSupport.parkNanos(this.latencyNanos);
+            }
+            return super.findById(id);
+        }
+    }
+}
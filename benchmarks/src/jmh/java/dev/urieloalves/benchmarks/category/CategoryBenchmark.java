@@ -0,0 +1,69 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.exceptions.DomainException;
+import dev.urieloalves.domain.validation.handler.Notification;
+import dev.urieloalves.domain.validation.handler.ThrowsValidationHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CategoryBenchmark {
+
+    private Category validCategory;
+    private Category invalidCategory;
+
+    @Setup
+    public void setUp() {
+        validCategory = Category.newCategory("Movies", "The most watched category", true);
+        invalidCategory = Category.newCategory("fi ", "The most watched category", true);
+    }
+
+    @Benchmark
+    public Category newCategory() {
+        return Category.newCategory("Movies", "The most watched category", true);
+    }
+
+    /**
+     * The success path should report a gc.alloc.rate.norm of 0 B/op: the validator and the notification
+     * never escape, and the notification only allocates its error list on the first error.
+     */
+    @Benchmark
+    public Notification validateValidWithNotification() {
+        final var notification = Notification.create();
+        validCategory.validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Notification validateInvalidWithNotification() {
+        final var notification = Notification.create();
+        invalidCategory.validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public ThrowsValidationHandler validateValidWithThrowsHandler() {
+        final var handler = new ThrowsValidationHandler();
+        validCategory.validate(handler);
+        return handler;
+    }
+
+    @Benchmark
+    public DomainException validateInvalidWithThrowsHandler() {
+        try {
+            invalidCategory.validate(new ThrowsValidationHandler());
+            return null;
+        } catch (final DomainException e) {
+            return e;
+        }
+    }
+}
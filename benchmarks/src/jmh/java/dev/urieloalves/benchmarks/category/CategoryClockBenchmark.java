@@ -0,0 +1,63 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.events.DomainEventPublisher;
+import dev.urieloalves.domain.time.CoarseClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Lifecycle methods under the system clock and under a {@link CoarseClock} ticking every millisecond. Every
+ * call flips the status, so each one records a status event and an update event.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CategoryClockBenchmark {
+
+    @Param({"system", "coarse"})
+    public String clock;
+
+    private Clock domainClock;
+    private Category category;
+    private boolean active;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        domainClock = "coarse".equals(clock) ? CoarseClock.start(Duration.ofMillis(1)) : Clock.systemUTC();
+        category = Category.newCategory("Movies", "The most watched category", true, domainClock);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (domainClock instanceof CoarseClock coarseClock) {
+            coarseClock.close();
+        }
+    }
+
+    @Benchmark
+    public Category update() {
+        active = !active;
+        category.update("Movies", "The most watched category", active, domainClock);
+        // keeps the pending event list from growing across invocations
+        category.publishDomainEvents(DomainEventPublisher.noop());
+        return category;
+    }
+
+    @Benchmark
+    public Category newCategory() {
+        return Category.newCategory("Movies", "The most watched category", true, domainClock);
+    }
+}
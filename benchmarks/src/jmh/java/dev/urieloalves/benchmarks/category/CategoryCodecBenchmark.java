@@ -0,0 +1,117 @@
+package dev.urieloalves.benchmarks.category;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.infrastructure.codec.CategoryCodec;
+import dev.urieloalves.infrastructure.codec.CategoryView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+/**
+ * {@link CategoryCodec} against Jackson writing the same fields as JSON, for a full encode, a full decode and
+ * reading a single field. The codec encodes into a reused buffer and its view reads fields in place; Jackson
+ * goes through a document record since {@link Category} has no Jackson-friendly constructor.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CategoryCodecBenchmark {
+
+    private Category category;
+    private ByteBuffer buffer;
+    private ByteBuffer encoded;
+    private CategoryView view;
+
+    private ObjectMapper mapper;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        category = Category.newCategory("Movies", "The most watched category", true);
+        buffer = ByteBuffer.allocate(CategoryCodec.encodedSize(category));
+        encoded = CategoryCodec.encode(category);
+        view = new CategoryView();
+
+        mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        json = mapper.writeValueAsBytes(CategoryDocument.from(category));
+    }
+
+    @Benchmark
+    public ByteBuffer codecEncode() {
+        buffer.clear();
+        CategoryCodec.encode(category, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public Category codecDecode() {
+        encoded.position(0);
+        return CategoryCodec.decode(encoded);
+    }
+
+    @Benchmark
+    public boolean codecViewIsActive() {
+        return view.wrap(encoded, 0).isActive();
+    }
+
+    @Benchmark
+    public String codecViewName() {
+        return view.wrap(encoded, 0).name();
+    }
+
+    @Benchmark
+    public byte[] jacksonEncode() throws IOException {
+        return mapper.writeValueAsBytes(CategoryDocument.from(category));
+    }
+
+    @Benchmark
+    public Category jacksonDecode() throws IOException {
+        return mapper.readValue(json, CategoryDocument.class).toCategory();
+    }
+
+    @Benchmark
+    public boolean jacksonTreeIsActive() throws IOException {
+        return mapper.readTree(json).get("active").booleanValue();
+    }
+
+    public record CategoryDocument(
+            String id,
+            String name,
+            String description,
+            boolean active,
+            Instant createdAt,
+            Instant updatedAt,
+            Instant deletedAt,
+            long version
+    ) {
+
+        static CategoryDocument from(final Category category) {
+            return new CategoryDocument(
+                    category.getId().getValue(),
+                    category.getName(),
+                    category.getDescription(),
+                    category.isActive(),
+                    category.getCreatedAt(),
+                    category.getUpdatedAt(),
+                    category.getDeletedAt(),
+                    category.getVersion()
+            );
+        }
+
+        Category toCategory() {
+            return Category.with(CategoryId.from(id), name, description, active, createdAt, updatedAt, deletedAt, version);
+        }
+    }
+}
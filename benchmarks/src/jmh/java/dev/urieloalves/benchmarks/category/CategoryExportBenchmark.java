@@ -0,0 +1,87 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.infrastructure.category.InMemoryCategoryGateway;
+import dev.urieloalves.infrastructure.exporter.CategoryExporter;
+import dev.urieloalves.infrastructure.exporter.ExportFormat;
+import dev.urieloalves.infrastructure.io.DirectBufferPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to stream {@code records} categories out of the in-memory gateway into a channel that discards its
+ * input. Run with {@code -prof gc}: the allocation rate is per-record garbage, while the heap after GC should
+ * not grow with {@code records}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class CategoryExportBenchmark {
+
+    @Param({"1000000"})
+    public int records;
+
+    @Param({"NDJSON", "BINARY"})
+    public ExportFormat format;
+
+    private InMemoryCategoryGateway gateway;
+    private CategoryExporter exporter;
+
+    @Setup
+    public void setUp() {
+        gateway = new InMemoryCategoryGateway();
+        final var chunk = new ArrayList<Category>(10_000);
+        for (int i = 0; i < records; i++) {
+            chunk.add(Category.newCategory("Category " + i, "Created for the export benchmark", i % 2 == 0));
+            if (chunk.size() == 10_000 || i == records - 1) {
+                gateway.createAll(chunk);
+                chunk.clear();
+            }
+        }
+        exporter = new CategoryExporter(new DirectBufferPool(256 * 1024, 4));
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        try (final var categories = gateway.streamAll(1_000)) {
+            return exporter.export(categories, format, new NullChannel());
+        }
+    }
+
+    private static final class NullChannel implements WritableByteChannel {
+
+        @Override
+        public int write(final ByteBuffer source) {
+            final var written = source.remaining();
+            source.position(source.limit());
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
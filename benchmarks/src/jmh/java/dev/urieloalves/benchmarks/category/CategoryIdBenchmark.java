@@ -0,0 +1,48 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.domain.category.CategoryId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CategoryIdBenchmark {
+
+    private CategoryId id;
+    private CategoryId sameValue;
+    private CategoryId otherValue;
+
+    @Setup
+    public void setUp() {
+        id = CategoryId.unique();
+        sameValue = CategoryId.from(id.getValue());
+        otherValue = CategoryId.unique();
+    }
+
+    @Benchmark
+    public CategoryId unique() {
+        return CategoryId.unique();
+    }
+
+    @Benchmark
+    public boolean equalsSameValue() {
+        return id.equals(sameValue);
+    }
+
+    @Benchmark
+    public boolean equalsOtherValue() {
+        return id.equals(otherValue);
+    }
+
+    @Benchmark
+    public int hashCodeOf() {
+        return id.hashCode();
+    }
+}
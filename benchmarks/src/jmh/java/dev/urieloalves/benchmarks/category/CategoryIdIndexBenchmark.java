@@ -0,0 +1,89 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategoryIdStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Insert throughput of random and time-ordered ids into sorted indexes that start with
+ * {@code initialSize} entries.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CategoryIdIndexBenchmark {
+
+    @State(Scope.Thread)
+    public static class TreeIndex {
+
+        @Param({"RANDOM", "TIME_ORDERED"})
+        public CategoryIdStrategy strategy;
+
+        @Param({"1000000"})
+        public int initialSize;
+
+        private TreeMap<CategoryId, Boolean> index;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            index = new TreeMap<>();
+            for (int i = 0; i < initialSize; i++) {
+                index.put(strategy.next(), Boolean.TRUE);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SharedIndex {
+
+        @Param({"RANDOM", "TIME_ORDERED"})
+        public CategoryIdStrategy strategy;
+
+        @Param({"1000000"})
+        public int initialSize;
+
+        private ConcurrentSkipListMap<CategoryId, Boolean> index;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            index = new ConcurrentSkipListMap<>();
+            for (int i = 0; i < initialSize; i++) {
+                index.put(strategy.next(), Boolean.TRUE);
+            }
+        }
+    }
+
+    @Benchmark
+    public CategoryId generate(final TreeIndex state) {
+        return state.strategy.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public CategoryId generateContended(final SharedIndex state) {
+        return state.strategy.next();
+    }
+
+    @Benchmark
+    public Boolean insertIntoTreeMap(final TreeIndex state) {
+        return state.index.put(state.strategy.next(), Boolean.TRUE);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Boolean insertIntoSkipListConcurrently(final SharedIndex state) {
+        return state.index.put(state.strategy.next(), Boolean.TRUE);
+    }
+}
@@ -0,0 +1,81 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.application.category.create.DefaultCreateCategoriesBatchUseCase;
+import dev.urieloalves.infrastructure.category.InMemoryCategoryGateway;
+import dev.urieloalves.infrastructure.importer.CategoryImporter;
+import dev.urieloalves.infrastructure.importer.ImportProgress;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to import {@code rows} categories, one in a hundred invalid, from an NDJSON or CSV file. With
+ * {@code store=false} the rows are validated but the gateway drops them, which isolates reading, parsing and
+ * validation from the in-memory indexes. Divide {@code rows} by the score for rows per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class CategoryImportBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"ndjson", "csv"})
+    public String format;
+
+    @Param({"false", "true"})
+    public boolean store;
+
+    private Path directory;
+    private Path source;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("category-import");
+        source = directory.resolve("categories." + format);
+        try (final var out = Files.newBufferedWriter(source)) {
+            if ("csv".equals(format)) {
+                out.write("name,description,is_active\n");
+            }
+            for (int i = 0; i < rows; i++) {
+                final var name = i % 100 == 0 ? "" : "Category " + i;
+                if ("csv".equals(format)) {
+                    out.write("%s,\"Imported, row %d\",%b%n".formatted(name, i, i % 2 == 0));
+                } else {
+                    out.write("{\"name\":\"%s\",\"description\":\"Imported row %d\",\"is_active\":%b}%n".formatted(name, i, i % 2 == 0));
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileCategoryGatewayBenchmark.delete(directory);
+    }
+
+    @Benchmark
+    public ImportProgress importFile() throws IOException {
+        final var gateway = store ? new InMemoryCategoryGateway() : new NoopCategoryGateway();
+        final var importer = new CategoryImporter(new DefaultCreateCategoriesBatchUseCase(gateway));
+        return importer.importFile(source, directory.resolve("errors.ndjson"), directory.resolve("checkpoint"), progress -> {
+        });
+    }
+}
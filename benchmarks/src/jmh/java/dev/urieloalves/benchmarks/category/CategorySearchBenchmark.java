@@ -0,0 +1,108 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.pagination.Pagination;
+import dev.urieloalves.infrastructure.category.InMemoryCategoryGateway;
+import dev.urieloalves.infrastructure.search.InvertedIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search latency over {@code size} categories whose names and descriptions are drawn from a Zipf-like
+ * vocabulary, for a rare term, a rare term combined with a common one, and a short prefix. {@code scan}
+ * is the {@code contains} loop the index replaces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CategorySearchBenchmark {
+
+    private static final int VOCABULARY = 50_000;
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"word49000", "word49000 word1", "word4"})
+    public String terms;
+
+    private InvertedIndex<CategoryId> index;
+    private InMemoryCategoryGateway gateway;
+    private List<Category> categories;
+
+    @Setup
+    public void setUp() {
+        final var random = new SplittableRandom(42);
+        index = new InvertedIndex<>();
+        gateway = new InMemoryCategoryGateway();
+        categories = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final var category = Category.newCategory(
+                    word(random) + " " + word(random),
+                    word(random) + " " + word(random) + " " + word(random),
+                    true
+            );
+            categories.add(category);
+            index.put(category.getId(), category.getName(), category.getDescription());
+            gateway.create(category);
+        }
+    }
+
+    @Benchmark
+    public List<CategoryId> match() {
+        return index.match(terms);
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit<CategoryId>> rank() {
+        return index.rank(terms);
+    }
+
+    @Benchmark
+    public Pagination<Category> findAllByRelevance() {
+        return gateway.findAll(new CategorySearchQuery(0, 10, terms, "relevance", "asc"));
+    }
+
+    @Benchmark
+    public List<Category> scan() {
+        final var words = terms.toLowerCase(Locale.ROOT).split(" ");
+        final var matches = new ArrayList<Category>();
+        for (final var category : categories) {
+            final var text = (category.getName() + " " + category.getDescription()).toLowerCase(Locale.ROOT);
+            var all = true;
+            for (final var word : words) {
+                all &= text.contains(word);
+            }
+            if (all) {
+                matches.add(category);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Low word numbers are far more frequent than high ones.
+     */
+    private static String word(final SplittableRandom random) {
+        return "word" + (int) Math.pow(VOCABULARY, random.nextDouble());
+    }
+}
@@ -0,0 +1,97 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.application.category.update.DefaultUpdateCategoryUseCase;
+import dev.urieloalves.application.category.update.UpdateCategoryCommand;
+import dev.urieloalves.application.category.update.UpdateCategoryOutput;
+import dev.urieloalves.application.retry.RetryPolicy;
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.events.DomainEventPublisher;
+import dev.urieloalves.domain.validation.handler.Notification;
+import dev.urieloalves.infrastructure.category.CoalescingCategoryGateway;
+import dev.urieloalves.infrastructure.category.FileCategoryGateway;
+import dev.urieloalves.infrastructure.category.InMemoryCategoryGateway;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 64 writers updating either a handful of hot categories, where nearly every update meets another one for the
+ * same category, or a large cold set, where they rarely meet. {@code direct} writes every update and retries
+ * on conflicts; {@code coalescing} merges the identical updates that pile up behind a pending write of the same
+ * category. With {@code file} storage every write waits for an fsync.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CategoryWriteContentionBenchmark {
+
+    @Param({"hot", "cold"})
+    public String keys;
+
+    @Param({"direct", "coalescing"})
+    public String gateway;
+
+    @Param({"memory", "file"})
+    public String storage;
+
+    private CategoryGateway categories;
+    private DefaultUpdateCategoryUseCase useCase;
+    private String[] ids;
+    private Path directory;
+
+    @Setup
+    public void setUp() throws IOException {
+        if ("file".equals(this.storage)) {
+            directory = Files.createTempDirectory("contention-benchmark");
+            categories = new FileCategoryGateway(directory);
+        } else {
+            categories = new InMemoryCategoryGateway();
+        }
+        final CategoryGateway categoryGateway = "coalescing".equals(gateway)
+                ? new CoalescingCategoryGateway(categories, 1_024, Duration.ZERO)
+                : categories;
+        useCase = new DefaultUpdateCategoryUseCase(
+                categoryGateway,
+                DomainEventPublisher.noop(),
+                new RetryPolicy(1_000, Duration.ofNanos(1_000), Duration.ofMillis(1))
+        );
+        ids = new String["hot".equals(keys) ? 4 : 65_536];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = categories.create(Category.newCategory("Category " + i, null, true)).getId().getValue();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (categories instanceof FileCategoryGateway fileGateway) {
+            fileGateway.close();
+            try (final var files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Either<Notification, UpdateCategoryOutput> update() {
+        final var id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+        return useCase.execute(UpdateCategoryCommand.with(id, "Movies", "Updated", true));
+    }
+}
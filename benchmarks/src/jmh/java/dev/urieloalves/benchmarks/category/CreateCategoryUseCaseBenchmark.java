@@ -0,0 +1,53 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.application.category.create.CreateCategoryCommand;
+import dev.urieloalves.application.category.create.CreateCategoryOutput;
+import dev.urieloalves.application.category.create.DefaultCreateCategoryUseCase;
+import dev.urieloalves.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the use case alone: the gateway accepts every category without storing it. Rejected commands
+ * should never cost more than accepted ones, whichever rule they break.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CreateCategoryUseCaseBenchmark {
+
+    private DefaultCreateCategoryUseCase useCase;
+    private CreateCategoryCommand validCommand;
+    private CreateCategoryCommand invalidCommand;
+    private CreateCategoryCommand tooShortCommand;
+
+    @Setup
+    public void setUp() {
+        useCase = new DefaultCreateCategoryUseCase(new NoopCategoryGateway());
+        validCommand = CreateCategoryCommand.with("Movies", "The most watched category", true);
+        invalidCommand = CreateCategoryCommand.with(null, "The most watched category", true);
+        tooShortCommand = CreateCategoryCommand.with(" Mo ", "The most watched category", true);
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> executeValid() {
+        return useCase.execute(validCommand);
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> executeInvalid() {
+        return useCase.execute(invalidCommand);
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> executeTooShort() {
+        return useCase.execute(tooShortCommand);
+    }
+}
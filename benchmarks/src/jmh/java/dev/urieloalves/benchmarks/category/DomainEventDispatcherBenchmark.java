@@ -0,0 +1,59 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.domain.category.CategoryActivated;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.infrastructure.events.RingBufferDomainEventDispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cost of publishing a domain event on the write path, with a subscriber that only counts what it gets.
+ * Throughput is bounded by how fast the partitions drain once the rings fill up.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DomainEventDispatcherBenchmark {
+
+    @Param({"1", "4"})
+    public int partitions;
+
+    private RingBufferDomainEventDispatcher dispatcher;
+    private CategoryActivated event;
+
+    @Setup
+    public void setUp() {
+        dispatcher = new RingBufferDomainEventDispatcher(partitions, 8_192, 256);
+        final var delivered = new LongAdder();
+        dispatcher.subscribe(events -> delivered.add(events.size()));
+        event = new CategoryActivated(CategoryId.unique(), Instant.now());
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.close();
+    }
+
+    @Benchmark
+    public void publish() {
+        dispatcher.publishEvent(event);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void publishConcurrently() {
+        dispatcher.publishEvent(new CategoryActivated(CategoryId.unique(), event.occurredOn()));
+    }
+}
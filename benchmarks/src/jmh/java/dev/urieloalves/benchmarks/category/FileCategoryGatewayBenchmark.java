@@ -0,0 +1,75 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.infrastructure.category.FileCategoryGateway;
+import dev.urieloalves.infrastructure.log.LogSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+
+/**
+ * Write throughput of {@link FileCategoryGateway} with one and many writers, fsyncing every group commit
+ * ({@code fsyncMillis = 0}) or at most every {@code fsyncMillis}. With many writers a single fsync
+ * acknowledges every record that queued up while the previous one was running.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FileCategoryGatewayBenchmark {
+
+    @Param({"0", "10"})
+    public int fsyncMillis;
+
+    private Path directory;
+    private FileCategoryGateway gateway;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("category-log");
+        gateway = new FileCategoryGateway(
+                directory,
+                new LogSettings(64L * 1024 * 1024, 4_096, Duration.ofMillis(fsyncMillis)),
+                Duration.ZERO
+        );
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        gateway.close();
+        delete(directory);
+    }
+
+    @Benchmark
+    public Category create() {
+        return gateway.create(Category.newCategory("Movies", "The most watched category", true));
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Category createConcurrently() {
+        return gateway.create(Category.newCategory("Movies", "The most watched category", true));
+    }
+
+    static void delete(final Path directory) throws IOException {
+        try (final var files = Files.walk(directory)) {
+            for (final var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.infrastructure.category.FileCategoryGateway;
+import dev.urieloalves.infrastructure.log.LogSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to reopen a {@link FileCategoryGateway} holding {@code records} categories, either by replaying the
+ * whole log or by loading a compacted snapshot. Every category is written and then updated once, so the
+ * log holds twice as many records as the snapshot.
+ * <p>
+ * The 10M case needs a large heap: {@code ./gradlew :benchmarks:jmh -PjmhIncludes=Recovery} with
+ * {@code -p records=10000000} and {@code -Xmx} sized for the in-memory index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class FileCategoryGatewayRecoveryBenchmark {
+
+    private static final int CHUNK_SIZE = 10_000;
+
+    @Param({"1000000"})
+    public int records;
+
+    @Param({"false", "true"})
+    public boolean compacted;
+
+    private Path directory;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("category-recovery");
+        final var settings = new LogSettings(256L * 1024 * 1024, 4_096, Duration.ofSeconds(1));
+        try (final var gateway = new FileCategoryGateway(directory, settings, Duration.ZERO)) {
+            final var chunk = new ArrayList<Category>(CHUNK_SIZE);
+            for (int i = 0; i < records; i++) {
+                chunk.add(Category.newCategory("Category " + i, "Created for the recovery benchmark", true));
+                if (chunk.size() == CHUNK_SIZE || i == records - 1) {
+                    gateway.createAll(chunk);
+                    for (final var category : chunk) {
+                        gateway.update(category.update(category.getName(), "Updated once", true));
+                    }
+                    chunk.clear();
+                }
+            }
+            if (compacted) {
+                gateway.compact();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileCategoryGatewayBenchmark.delete(directory);
+    }
+
+    @Benchmark
+    public FileCategoryGateway recover() throws IOException {
+        final var gateway = new FileCategoryGateway(directory, LogSettings.defaults(), Duration.ZERO);
+        gateway.close();
+        return gateway;
+    }
+}
@@ -0,0 +1,84 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.application.UseCase;
+import dev.urieloalves.application.category.create.CreateCategoryCommand;
+import dev.urieloalves.application.category.create.CreateCategoryOutput;
+import dev.urieloalves.application.category.create.DefaultCreateCategoryUseCase;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.validation.handler.Notification;
+import dev.urieloalves.infrastructure.metrics.InstrumentedCategoryGateway;
+import dev.urieloalves.infrastructure.metrics.InstrumentedUseCase;
+import dev.urieloalves.infrastructure.metrics.MetricsRegistry;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+
+/**
+ * Cost of the metrics decorators over a gateway that does nothing: the difference between the plain and the
+ * instrumented variants is what every call pays, and the 4-thread variants show contention on the shared
+ * counters. {@code jfr} also builds an event per call, left uncommitted since no recording enables it.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class InstrumentationOverheadBenchmark {
+
+    @Param({"false", "true"})
+    public boolean jfr;
+
+    private CategoryGateway plainGateway;
+    private CategoryGateway instrumentedGateway;
+    private UseCase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> plainUseCase;
+    private UseCase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> instrumentedUseCase;
+    private CategoryId id;
+    private CreateCategoryCommand invalidCommand;
+
+    @Setup
+    public void setUp() {
+        final var registry = new MetricsRegistry();
+        plainGateway = new NoopCategoryGateway();
+        instrumentedGateway = new InstrumentedCategoryGateway(plainGateway, "noop", registry, jfr);
+        plainUseCase = new DefaultCreateCategoryUseCase(plainGateway);
+        instrumentedUseCase = new InstrumentedUseCase<>(new DefaultCreateCategoryUseCase(plainGateway), "create", registry, jfr);
+        id = Category.newCategory("Movies", null, true).getId();
+        invalidCommand = CreateCategoryCommand.with(null, "The most watched category", true);
+    }
+
+    @Benchmark
+    public Optional<Category> gatewayPlain() {
+        return plainGateway.findById(id);
+    }
+
+    @Benchmark
+    public Optional<Category> gatewayInstrumented() {
+        return instrumentedGateway.findById(id);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<Category> gatewayInstrumentedContended() {
+        return instrumentedGateway.findById(id);
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> useCasePlain() {
+        return plainUseCase.execute(invalidCommand);
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> useCaseInstrumented() {
+        return instrumentedUseCase.execute(invalidCommand);
+    }
+}
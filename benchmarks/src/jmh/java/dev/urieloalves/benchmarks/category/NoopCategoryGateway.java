@@ -0,0 +1,50 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryCursorQuery;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.pagination.CursorPagination;
+import dev.urieloalves.domain.pagination.Pagination;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+class NoopCategoryGateway implements CategoryGateway {
+
+    @Override
+    public Category create(final Category category) {
+        return category;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return categories;
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return category;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return new Pagination<>(query.page(), query.perPage(), 0, List.of());
+    }
+
+    @Override
+    public CursorPagination<Category> findAllAfter(final CategoryCursorQuery query) {
+        return new CursorPagination<>(query.perPage(), null, OptionalLong.empty(), List.of());
+    }
+}
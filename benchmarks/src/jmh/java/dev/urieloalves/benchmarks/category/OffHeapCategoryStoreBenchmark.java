@@ -0,0 +1,70 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.infrastructure.cache.OffHeapCategoryStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution of the off-heap tier filled to capacity, with a heap far smaller than the categories
+ * it holds. Lookups are uniformly random, so nearly every one misses the CPU caches; puts overwrite existing
+ * categories and keep the clock hand moving.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx512m", "-XX:MaxDirectMemorySize=8g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OffHeapCategoryStoreBenchmark {
+
+    // about 140 bytes per category
+    private static final int RECORD_BYTES = 140;
+
+    @Param({"268435456", "2147483648"})
+    public long bytes;
+
+    private OffHeapCategoryStore store;
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+
+    @Setup
+    public void setUp() {
+        store = new OffHeapCategoryStore(bytes);
+        final var count = (int) (bytes / RECORD_BYTES);
+        mostSignificantBits = new long[count];
+        leastSignificantBits = new long[count];
+        for (int i = 0; i < count; i++) {
+            final var category = Category.newCategory("Category name " + i, "A description of category " + i, true);
+            mostSignificantBits[i] = category.getId().getMostSignificantBits();
+            leastSignificantBits[i] = category.getId().getLeastSignificantBits();
+            store.put(category);
+        }
+    }
+
+    @Benchmark
+    public Category get() {
+        final var i = ThreadLocalRandom.current().nextInt(mostSignificantBits.length);
+        return store.get(CategoryId.from(mostSignificantBits[i], leastSignificantBits[i]));
+    }
+
+    @Benchmark
+    public void put() {
+        final var i = ThreadLocalRandom.current().nextInt(mostSignificantBits.length);
+        final var id = CategoryId.from(mostSignificantBits[i], leastSignificantBits[i]);
+        store.put(Category.with(id, "Category name " + i, "Updated", true, null, null, null));
+    }
+}
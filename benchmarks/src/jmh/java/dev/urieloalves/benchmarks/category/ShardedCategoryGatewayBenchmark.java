@@ -0,0 +1,91 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.pagination.Pagination;
+import dev.urieloalves.infrastructure.category.InMemoryCategoryGateway;
+import dev.urieloalves.infrastructure.category.ShardedCategoryGateway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Reads from 8 threads against 200k categories spread over {@code shards} in-process shards. Lookups touch a
+ * single shard; searches fan out to every shard on a pool with one thread per shard and merge the pages, so
+ * they only scale with shard count when there are cores to run the shards on.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+public class ShardedCategoryGatewayBenchmark {
+
+    private static final String[] WORDS = {"action", "drama", "comedy", "horror", "documentary", "animation", "family", "music"};
+
+    @Param({"1", "2", "4", "8"})
+    public int shards;
+
+    private ExecutorService executor;
+    private ShardedCategoryGateway gateway;
+    private CategoryId[] ids;
+
+    @Setup
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(shards);
+        final var gateways = new ArrayList<InMemoryCategoryGateway>();
+        for (int i = 0; i < shards; i++) {
+            gateways.add(new InMemoryCategoryGateway());
+        }
+        gateway = new ShardedCategoryGateway(gateways, executor);
+
+        final var random = ThreadLocalRandom.current();
+        final var categories = new ArrayList<Category>();
+        ids = new CategoryId[200_000];
+        for (int i = 0; i < ids.length; i++) {
+            final var name = WORDS[random.nextInt(WORDS.length)] + " " + i;
+            final var category = Category.newCategory(name, WORDS[random.nextInt(WORDS.length)], true);
+            ids[i] = category.getId();
+            categories.add(category);
+            if (categories.size() == 10_000) {
+                gateway.createAll(categories);
+                categories.clear();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Optional<Category> findById() {
+        return gateway.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    public Pagination<Category> firstPageByName() {
+        return gateway.findAll(new CategorySearchQuery(0, 20, null, "name", "asc"));
+    }
+
+    @Benchmark
+    public Pagination<Category> searchByName() {
+        final var term = WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)];
+        return gateway.findAll(new CategorySearchQuery(0, 20, term, "name", "asc"));
+    }
+}
@@ -0,0 +1,112 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.pagination.Pagination;
+import dev.urieloalves.infrastructure.category.InMemoryCategoryGateway;
+import dev.urieloalves.infrastructure.category.SingleFlightCategoryGateway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 64 readers asking for a handful of hot categories, or the same first page, from a store that takes
+ * {@code latencyMicros} to answer, as a remote database would. {@code direct} sends every read to the store;
+ * {@code singleFlight} lets reads that arrive while an identical one is in flight share its result. Throughput
+ * is bounded by the readers either way; what changes is the number of store calls, printed at teardown.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SingleFlightCategoryGatewayBenchmark {
+
+    private static final CategorySearchQuery FIRST_PAGE = new CategorySearchQuery(0, 20, "", "name", "asc");
+
+    @Param({"0", "200"})
+    public int latencyMicros;
+
+    @Param({"direct", "singleFlight"})
+    public String gateway;
+
+    private CategoryGateway categories;
+    private SlowCategoryGateway store;
+    private SingleFlightCategoryGateway singleFlight;
+    private CategoryId[] ids;
+
+    @Setup
+    public void setUp() {
+        store = new SlowCategoryGateway(latencyMicros * 1_000L);
+        ids = new CategoryId[4];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = store.create(Category.newCategory("Category " + i, null, true)).getId();
+        }
+        for (int i = ids.length; i < 1_000; i++) {
+            store.create(Category.newCategory("Category " + i, null, true));
+        }
+        store.calls.reset();
+        singleFlight = "singleFlight".equals(gateway) ? new SingleFlightCategoryGateway(store) : null;
+        categories = singleFlight != null ? singleFlight : store;
+    }
+
+    @TearDown
+    public void tearDown() {
+        final var ratio = singleFlight != null ? singleFlight.coalescingRatio() : 0.0;
+        System.out.printf("%nstore calls: %d, coalescing ratio: %.3f%n", store.calls.sum(), ratio);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Optional<Category> findById() {
+        return categories.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Pagination<Category> findAll() {
+        return categories.findAll(FIRST_PAGE);
+    }
+
+    private static class SlowCategoryGateway extends InMemoryCategoryGateway {
+
+        private final long latencyNanos;
+        private final LongAdder calls = new LongAdder();
+
+        private SlowCategoryGateway(final long latencyNanos) {
+            this.latencyNanos = latencyNanos;
+        }
+
+        @Override
+        public Optional<Category> findById(final CategoryId id) {
+            respond();
+            return super.findById(id);
+        }
+
+        @Override
+        public Pagination<Category> findAll(final CategorySearchQuery query) {
+            respond();
+            return super.findAll(query);
+        }
+
+        private void respond() {
+            this.calls.increment();
+            if (this.latencyNanos > 0) {
+                LockSupport.parkNanos(this.latencyNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package dev.urieloalves.benchmarks.category;
+
+import dev.urieloalves.application.category.update.DefaultUpdateCategoryUseCase;
+import dev.urieloalves.application.category.update.UpdateCategoryCommand;
+import dev.urieloalves.application.category.update.UpdateCategoryOutput;
+import dev.urieloalves.application.retry.RetryPolicy;
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.events.DomainEventPublisher;
+import dev.urieloalves.domain.validation.handler.Notification;
+import dev.urieloalves.infrastructure.category.InMemoryCategoryGateway;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Optimistic updates from many threads spread over {@code categories} categories: with one category every
+ * writer conflicts with every other, with many they rarely meet.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UpdateCategoryUseCaseBenchmark {
+
+    @Param({"1", "1024"})
+    public int categories;
+
+    private DefaultUpdateCategoryUseCase useCase;
+    private String[] ids;
+
+    @Setup
+    public void setUp() {
+        final var gateway = new InMemoryCategoryGateway();
+        useCase = new DefaultUpdateCategoryUseCase(
+                gateway,
+                DomainEventPublisher.noop(),
+                new RetryPolicy(100, Duration.ofNanos(1_000), Duration.ofMillis(1))
+        );
+        ids = new String[categories];
+        for (int i = 0; i < categories; i++) {
+            ids[i] = gateway.create(Category.newCategory("Category " + i, null, true)).getId().getValue();
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Either<Notification, UpdateCategoryOutput> update() {
+        final var id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+        return useCase.execute(UpdateCategoryCommand.with(id, "Movies", "Updated", true));
+    }
+}
@@ -0,0 +1,53 @@
+package dev.urieloalves.benchmarks.footprint;
+
+import dev.urieloalves.domain.category.CategoryId;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.UUID;
+
+/**
+ * Compares the retained size of {@link CategoryId} with the previous String backed layout.
+ * <p>
+ * Run with {@code ./gradlew :benchmarks:footprint}.
+ */
+public class CategoryIdFootprint {
+
+    private static final int COUNT = 100_000;
+
+    public static void main(final String[] args) {
+        final var stringIds = new StringCategoryId[COUNT];
+        final var compactIds = new CategoryId[COUNT];
+        final var renderedIds = new CategoryId[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            final var uuid = UUID.randomUUID();
+            stringIds[i] = new StringCategoryId(uuid.toString());
+            compactIds[i] = CategoryId.from(uuid);
+            renderedIds[i] = CategoryId.from(uuid);
+            renderedIds[i].getValue();
+        }
+
+        System.out.println(ClassLayout.parseClass(StringCategoryId.class).toPrintable());
+        System.out.println(ClassLayout.parseClass(CategoryId.class).toPrintable());
+
+        report("String backed", GraphLayout.parseInstance((Object[]) stringIds));
+        report("Two longs", GraphLayout.parseInstance((Object[]) compactIds));
+        report("Two longs, value rendered", GraphLayout.parseInstance((Object[]) renderedIds));
+    }
+
+    private static void report(final String label, final GraphLayout layout) {
+        System.out.printf("%-28s %8.1f bytes/id%n", label, (double) layout.totalSize() / COUNT);
+    }
+
+    /**
+     * Layout of {@link CategoryId} before it was backed by two longs.
+     */
+    private static final class StringCategoryId {
+
+        private final String value;
+
+        private StringCategoryId(final String value) {
+            this.value = value;
+        }
+    }
+}
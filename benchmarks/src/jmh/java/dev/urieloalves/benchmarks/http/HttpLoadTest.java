@@ -0,0 +1,191 @@
+package dev.urieloalves.benchmarks.http;
+
+import dev.urieloalves.application.category.create.DefaultCreateCategoryUseCase;
+import dev.urieloalves.infrastructure.api.CategoryHttpHandler;
+import dev.urieloalves.infrastructure.api.HttpApiServer;
+import dev.urieloalves.infrastructure.category.InMemoryCategoryGateway;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop load test of the category HTTP API reporting throughput and latency percentiles.
+ * <p>
+ * Starts the API in-process unless a base url is given:
+ * {@code ./gradlew :benchmarks:loadTest -Pargs="--threads 64 --seconds 30 --url http://localhost:8080"}.
+ * Each client thread issues 80% {@code GET /categories/{id}}, 10% {@code GET /categories} and 10%
+ * {@code POST /categories}.
+ */
+public class HttpLoadTest {
+
+    private static final int SEED_CATEGORIES = 1_000;
+
+    public static void main(final String[] args) throws Exception {
+        final var threads = intArg(args, "--threads", 32);
+        final var seconds = intArg(args, "--seconds", 20);
+        final var warmupSeconds = intArg(args, "--warmup", 5);
+        var url = stringArg(args, "--url", null);
+
+        HttpApiServer server = null;
+        if (url == null) {
+            final var gateway = new InMemoryCategoryGateway();
+            server = HttpApiServer.start(
+                    new InetSocketAddress("127.0.0.1", 0),
+                    new CategoryHttpHandler(new DefaultCreateCategoryUseCase(gateway), gateway)
+            );
+            url = "http://127.0.0.1:" + server.port();
+        }
+
+        final var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        final var ids = seed(client, url);
+
+        run(client, url, ids, threads, warmupSeconds);
+        final var result = run(client, url, ids, threads, seconds);
+
+        System.out.printf("threads=%d duration=%ds requests=%d errors=%d%n", threads, seconds, result.latencies.length, result.errors);
+        System.out.printf("throughput=%.0f req/s%n", result.latencies.length / (double) seconds);
+        System.out.printf("p50=%.3f ms p90=%.3f ms p99=%.3f ms p99.9=%.3f ms max=%.3f ms%n",
+                percentile(result.latencies, 0.50), percentile(result.latencies, 0.90),
+                percentile(result.latencies, 0.99), percentile(result.latencies, 0.999),
+                percentile(result.latencies, 1.0));
+
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private static List<String> seed(final HttpClient client, final String url) throws Exception {
+        final var ids = new ArrayList<String>(SEED_CATEGORIES);
+        for (int i = 0; i < SEED_CATEGORIES; i++) {
+            final var response = client.send(create(url, i), HttpResponse.BodyHandlers.ofString());
+            final var body = response.body();
+            ids.add(body.substring(body.indexOf(":\"") + 2, body.lastIndexOf('"')));
+        }
+        return ids;
+    }
+
+    private static Result run(
+            final HttpClient client,
+            final String url,
+            final List<String> ids,
+            final int threads,
+            final int seconds
+    ) throws InterruptedException {
+        final var deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        final var workers = new Worker[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker(client, url, ids, deadline);
+            workers[i].start();
+        }
+
+        var total = 0;
+        var errors = 0L;
+        for (final var worker : workers) {
+            worker.join();
+            total += worker.count;
+            errors += worker.errors;
+        }
+        final var latencies = new long[total];
+        var offset = 0;
+        for (final var worker : workers) {
+            System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+            offset += worker.count;
+        }
+        Arrays.sort(latencies);
+        return new Result(latencies, errors);
+    }
+
+    private static HttpRequest create(final String url, final int i) {
+        return HttpRequest.newBuilder(URI.create(url + "/categories"))
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"name\":\"Category %d\",\"description\":\"Load test\",\"is_active\":true}".formatted(i)))
+                .header("Content-Type", "application/json")
+                .build();
+    }
+
+    private static double percentile(final long[] sortedNanos, final double percentile) {
+        if (sortedNanos.length == 0) {
+            return Double.NaN;
+        }
+        final var index = (int) Math.min(sortedNanos.length - 1, Math.ceil(percentile * sortedNanos.length) - 1);
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static int intArg(final String[] args, final String name, final int defaultValue) {
+        final var value = stringArg(args, name, null);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static String stringArg(final String[] args, final String name, final String defaultValue) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return defaultValue;
+    }
+
+    private record Result(long[] latencies, long errors) {
+    }
+
+    private static final class Worker extends Thread {
+
+        private final HttpClient client;
+        private final String url;
+        private final List<String> ids;
+        private final long deadline;
+        private long[] latencies = new long[1 << 16];
+        private int count;
+        private long errors;
+
+        private Worker(final HttpClient client, final String url, final List<String> ids, final long deadline) {
+            this.client = client;
+            this.url = url;
+            this.ids = ids;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            final var random = ThreadLocalRandom.current();
+            while (System.nanoTime() < this.deadline) {
+                final var dice = random.nextInt(10);
+                final HttpRequest request;
+                if (dice < 8) {
+                    request = HttpRequest.newBuilder(URI.create(this.url + "/categories/" + this.ids.get(random.nextInt(this.ids.size())))).build();
+                } else if (dice < 9) {
+                    request = HttpRequest.newBuilder(URI.create(this.url + "/categories?perPage=10&sort=name&dir=asc")).build();
+                } else {
+                    request = create(this.url, random.nextInt());
+                }
+
+                final var start = System.nanoTime();
+                try {
+                    final var response = this.client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 400) {
+                        this.errors++;
+                    }
+                } catch (final Exception e) {
+                    this.errors++;
+                    continue;
+                }
+                record(System.nanoTime() - start);
+            }
+        }
+
+        private void record(final long latency) {
+            if (this.count == this.latencies.length) {
+                this.latencies = Arrays.copyOf(this.latencies, this.count * 2);
+            }
+            this.latencies[this.count++] = latency;
+        }
+    }
+}
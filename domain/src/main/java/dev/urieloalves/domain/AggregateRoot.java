@@ -1,10 +1,59 @@
 package dev.urieloalves.domain;
 
-import dev.urieloalves.domain.validation.ValidationHandler;
+import dev.urieloalves.domain.events.DomainEvent;
+import dev.urieloalves.domain.events.DomainEventPublisher;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Records the {@link DomainEvent}s raised by its changes until they are published, which callers do once the
+ * change has been stored.
+ * <p>
+ * The version is the number of updates stored before this instance was read. Gateways only store an update
+ * when its version still matches the stored one, so concurrent writers cannot overwrite each other.
+ */
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
 
+    private final long version;
+    private List<DomainEvent> domainEvents;
+
     protected AggregateRoot(final ID id) {
+        this(id, 0);
+    }
+
+    protected AggregateRoot(final ID id, final long version) {
         super(id);
+        this.version = version;
+    }
+
+    public long getVersion() {
+        return this.version;
+    }
+
+    public List<DomainEvent> getDomainEvents() {
+        return this.domainEvents == null ? List.of() : Collections.unmodifiableList(this.domainEvents);
+    }
+
+    /**
+     * Hands every recorded event to {@code publisher}, in the order they were raised, and forgets them.
+     */
+    public void publishDomainEvents(final DomainEventPublisher publisher) {
+        Objects.requireNonNull(publisher);
+        if (this.domainEvents == null) {
+            return;
+        }
+        final var events = this.domainEvents;
+        this.domainEvents = null;
+        events.forEach(publisher::publishEvent);
+    }
+
+    protected void registerEvent(final DomainEvent event) {
+        if (this.domainEvents == null) {
+            this.domainEvents = new ArrayList<>(2);
+        }
+        this.domainEvents.add(Objects.requireNonNull(event));
     }
 }
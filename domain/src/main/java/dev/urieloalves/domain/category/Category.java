@@ -3,10 +3,13 @@ package dev.urieloalves.domain.category;
 import dev.urieloalves.domain.AggregateRoot;
 import dev.urieloalves.domain.validation.ValidationHandler;
 
+import java.time.Clock;
 import java.time.Instant;
 
 public class Category extends AggregateRoot<CategoryId> {
 
+    private static final Clock SYSTEM_CLOCK = Clock.systemUTC();
+
     private String name;
     private String description;
     private boolean active;
@@ -21,9 +24,10 @@ public class Category extends AggregateRoot<CategoryId> {
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final long version
     ) {
-        super(id);
+        super(id, version);
         this.name = name;
         this.description = description;
         this.active = active;
@@ -36,51 +40,163 @@ public class Category extends AggregateRoot<CategoryId> {
             final String name,
             final String description,
             final boolean isActive
+    ) {
+        return newCategory(name, description, isActive, SYSTEM_CLOCK);
+    }
+
+    /**
+     * Same as {@link #newCategory(String, String, boolean)}, with timestamps read from {@code clock}.
+     */
+    public static Category newCategory(
+            final String name,
+            final String description,
+            final boolean isActive,
+            final Clock clock
     ) {
         final var id = CategoryId.unique();
-        final var now = Instant.now();
+        final var now = clock.instant();
         final var deletedAt = isActive ? null : now;
-        return new Category(
+        final var category = new Category(
                 id,
                 name,
                 description,
                 isActive,
                 now,
                 now,
-                deletedAt
+                deletedAt,
+                0
+        );
+        category.registerEvent(CategoryCreated.from(category));
+        return category;
+    }
+
+    public static Category with(
+            final CategoryId id,
+            final String name,
+            final String description,
+            final boolean active,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt
+    ) {
+        return with(id, name, description, active, createdAt, updatedAt, deletedAt, 0);
+    }
+
+    public static Category with(
+            final CategoryId id,
+            final String name,
+            final String description,
+            final boolean active,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt,
+            final long version
+    ) {
+        return new Category(
+                id,
+                name,
+                description,
+                active,
+                createdAt,
+                updatedAt,
+                deletedAt,
+                version
+        );
+    }
+
+    public static Category with(final Category category) {
+        return with(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt(),
+                category.getVersion()
+        );
+    }
+
+    /**
+     * Copy of this category as stored by a successful update: same state, next version.
+     */
+    public Category nextVersion() {
+        return with(
+                getId(),
+                getName(),
+                getDescription(),
+                isActive(),
+                getCreatedAt(),
+                getUpdatedAt(),
+                getDeletedAt(),
+                getVersion() + 1
         );
     }
 
     @Override
     public void validate(final ValidationHandler handler) {
-        new CategoryValidator(this, handler).validate();
+        // the static check instead of a CategoryValidator instance, so a valid category allocates nothing
+        CategoryValidator.validateName(getName(), handler);
     }
 
     public Category deactivate() {
-        if(getDeletedAt() == null) {
-            this.deletedAt = Instant.now();
-        }
-        this.active = false;
-        this.updatedAt = Instant.now();
-        return this;
+        return deactivate(SYSTEM_CLOCK);
+    }
+
+    public Category deactivate(final Clock clock) {
+        return deactivate(clock.instant());
     }
 
     public Category activate() {
-        this.deletedAt = null;
-        this.active = true;
-        this.updatedAt = Instant.now();
-        return this;
+        return activate(SYSTEM_CLOCK);
+    }
+
+    public Category activate(final Clock clock) {
+        return activate(clock.instant());
     }
 
+    /**
+     * Changes name, description and status under a single timestamp, shared by {@code updatedAt}, a new
+     * {@code deletedAt} and the events registered along the way.
+     */
     public Category update(final String name, final String description, final boolean isActive) {
+        return update(name, description, isActive, SYSTEM_CLOCK);
+    }
+
+    public Category update(final String name, final String description, final boolean isActive, final Clock clock) {
+        final var now = clock.instant();
         if(isActive) {
-            activate();
+            activate(now);
         } else {
-            deactivate();
+            deactivate(now);
         }
         this.name = name;
         this.description = description;
-        this.updatedAt = Instant.now();
+        registerEvent(CategoryUpdated.from(this));
+        return this;
+    }
+
+    private Category deactivate(final Instant now) {
+        if(getDeletedAt() == null) {
+            this.deletedAt = now;
+        }
+        final var wasActive = this.active;
+        this.active = false;
+        this.updatedAt = now;
+        if (wasActive) {
+            registerEvent(new CategoryDeactivated(getId(), now));
+        }
+        return this;
+    }
+
+    private Category activate(final Instant now) {
+        this.deletedAt = null;
+        final var wasActive = this.active;
+        this.active = true;
+        this.updatedAt = now;
+        if (!wasActive) {
+            registerEvent(new CategoryActivated(getId(), now));
+        }
         return this;
     }
 
@@ -0,0 +1,8 @@
+package dev.urieloalves.domain.category;
+
+import dev.urieloalves.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record CategoryActivated(CategoryId aggregateId, Instant occurredOn) implements DomainEvent {
+}
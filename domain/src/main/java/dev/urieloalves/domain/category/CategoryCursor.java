@@ -0,0 +1,46 @@
+package dev.urieloalves.domain.category;
+
+import dev.urieloalves.domain.exceptions.DomainException;
+import dev.urieloalves.domain.validation.Error;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last category of a page: the sort it was read with, its sort key and its id. Clients only
+ * see it as an opaque token.
+ */
+public record CategoryCursor(
+        String sort,
+        String direction,
+        String key,
+        CategoryId id
+) {
+
+    public static final Error INVALID_CURSOR = new Error(1_101, "'cursor' is invalid");
+
+    private static final char SEPARATOR = '\n';
+
+    public String encode() {
+        final var token = sort + SEPARATOR + direction + SEPARATOR + id.getValue() + SEPARATOR
+                + (key == null ? "0" : "1" + key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CategoryCursor decode(final String token) {
+        final String value;
+        try {
+            value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (final IllegalArgumentException e) {
+            throw DomainException.with(INVALID_CURSOR);
+        }
+
+        // the key goes last since it is the only part that may contain the separator
+        final var parts = value.split(String.valueOf(SEPARATOR), 4);
+        if (parts.length != 4 || parts[3].isEmpty()) {
+            throw DomainException.with(INVALID_CURSOR);
+        }
+        final var key = parts[3].charAt(0) == '1' ? parts[3].substring(1) : null;
+        return new CategoryCursor(parts[0], parts[1], key, CategoryId.from(parts[2]));
+    }
+}
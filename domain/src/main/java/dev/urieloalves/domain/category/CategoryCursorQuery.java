@@ -0,0 +1,15 @@
+package dev.urieloalves.domain.category;
+
+/**
+ * Keyset search over categories. {@code cursor} is the {@code nextCursor} of the previous page, or
+ * {@code null} for the first one, and must be used with the same terms, sort and direction.
+ */
+public record CategoryCursorQuery(
+        String cursor,
+        int perPage,
+        String terms,
+        String sort,
+        String direction,
+        boolean withTotal
+) {
+}
@@ -1,18 +1,69 @@
 package dev.urieloalves.domain.category;
 
+import dev.urieloalves.domain.pagination.CursorPagination;
 import dev.urieloalves.domain.pagination.Pagination;
 
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface CategoryGateway {
 
     Category create(Category category);
 
+    List<Category> createAll(List<Category> categories);
+
     void deleteById(CategoryId id);
 
     Optional<Category> findById(CategoryId id);
 
+    /**
+     * Stores {@code category} if its version is still the stored one and returns it with the next version.
+     *
+     * @throws dev.urieloalves.domain.exceptions.OptimisticLockException if the category was updated since
+     *                                                                   it was read
+     */
     Category update(Category category);
 
     Pagination<Category> findAll(CategorySearchQuery query);
+
+    CursorPagination<Category> findAllAfter(CategoryCursorQuery query);
+
+    /**
+     * Every category in creation order, read lazily in keyset pages of {@code pageSize} so only one page is
+     * held at a time. Writes made while the stream is consumed may or may not be seen.
+     */
+    default Stream<Category> streamAll(final int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("'pageSize' should be greater than zero");
+        }
+        final var pages = new Spliterators.AbstractSpliterator<Category>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+
+            private Iterator<Category> page = Collections.emptyIterator();
+            private String cursor;
+            private boolean last;
+
+            @Override
+            public boolean tryAdvance(final Consumer<? super Category> action) {
+                while (!this.page.hasNext()) {
+                    if (this.last) {
+                        return false;
+                    }
+                    final var next = findAllAfter(new CategoryCursorQuery(this.cursor, pageSize, null, "createdAt", "asc", false));
+                    this.page = next.items().iterator();
+                    this.cursor = next.nextCursor();
+                    this.last = !next.hasNext();
+                }
+                action.accept(this.page.next());
+                return true;
+            }
+        };
+        return StreamSupport.stream(pages, false);
+    }
 }
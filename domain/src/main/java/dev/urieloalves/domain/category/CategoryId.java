@@ -5,41 +5,143 @@ import dev.urieloalves.domain.Identifier;
 import java.util.Objects;
 import java.util.UUID;
 
-public class CategoryId extends Identifier {
+/**
+ * Ids in canonical lowercase UUID form are kept as two longs and rendered back to a string only when
+ * {@link #getValue()} is called. Any other value is kept as given, so {@link #from(String)} always
+ * round-trips.
+ */
+public class CategoryId extends Identifier implements Comparable<CategoryId> {
 
-    private final String value;
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+    private final String raw;
+    private String value;
 
-    private CategoryId(final String value) {
-        Objects.requireNonNull(value);
-        this.value = value;
+    private CategoryId(final long mostSignificantBits, final long leastSignificantBits) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+        this.raw = null;
     }
 
+    private CategoryId(final String raw) {
+        Objects.requireNonNull(raw);
+        this.mostSignificantBits = 0L;
+        this.leastSignificantBits = 0L;
+        this.raw = raw;
+        this.value = raw;
+    }
+
+    /**
+     * A new id from the current {@link CategoryIdStrategy}.
+     */
     public static CategoryId unique() {
-        return CategoryId.from(UUID.randomUUID());
+        return CategoryIdStrategy.current().next();
     }
 
     public static CategoryId from(final String id) {
-        return new CategoryId(id);
+        Objects.requireNonNull(id);
+        if (id.length() != 36) {
+            return new CategoryId(id);
+        }
+
+        var mostSignificantBits = 0L;
+        var leastSignificantBits = 0L;
+        var nibble = 0;
+        for (int i = 0; i < 36; i++) {
+            final var c = id.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return new CategoryId(id);
+                }
+                continue;
+            }
+            final var digit = hexDigit(c);
+            if (digit < 0) {
+                return new CategoryId(id);
+            }
+            if (nibble++ < 16) {
+                mostSignificantBits = mostSignificantBits << 4 | digit;
+            } else {
+                leastSignificantBits = leastSignificantBits << 4 | digit;
+            }
+        }
+        return new CategoryId(mostSignificantBits, leastSignificantBits);
     }
 
     public static CategoryId from(final UUID id) {
-        return new CategoryId(id.toString());
+        return new CategoryId(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    public static CategoryId from(final long mostSignificantBits, final long leastSignificantBits) {
+        return new CategoryId(mostSignificantBits, leastSignificantBits);
     }
 
     public String getValue() {
+        var value = this.value;
+        if (value == null) {
+            // racy but idempotent: every thread renders the same string
+            value = new UUID(this.mostSignificantBits, this.leastSignificantBits).toString();
+            this.value = value;
+        }
         return value;
     }
 
+    /**
+     * Whether this id is a UUID held as two longs rather than an arbitrary string.
+     */
+    public boolean isUuid() {
+        return this.raw == null;
+    }
+
+    public long getMostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSignificantBits;
+    }
+
+    /**
+     * UUIDs compare as unsigned 128-bit numbers, which matches the order of their canonical strings, and sort
+     * before non UUID ids.
+     */
+    @Override
+    public int compareTo(final CategoryId other) {
+        if (this.raw != null || other.raw != null) {
+            if (this.raw == null) return -1;
+            if (other.raw == null) return 1;
+            return this.raw.compareTo(other.raw);
+        }
+        final var result = Long.compareUnsigned(this.mostSignificantBits, other.mostSignificantBits);
+        return result != 0 ? result : Long.compareUnsigned(this.leastSignificantBits, other.leastSignificantBits);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         final CategoryId that = (CategoryId) o;
-        return Objects.equals(getValue(), that.getValue());
+        return this.mostSignificantBits == that.mostSignificantBits
+                && this.leastSignificantBits == that.leastSignificantBits
+                && Objects.equals(this.raw, that.raw);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getValue());
+        if (this.raw != null) {
+            return this.raw.hashCode();
+        }
+        final var bits = this.mostSignificantBits ^ this.leastSignificantBits;
+        return (int) (bits >> 32) ^ (int) bits;
+    }
+
+    private static int hexDigit(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        return -1;
     }
 }
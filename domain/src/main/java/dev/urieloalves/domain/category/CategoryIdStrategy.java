@@ -0,0 +1,86 @@
+package dev.urieloalves.domain.category;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * How {@link CategoryId#unique()} generates ids.
+ * <p>
+ * The strategy defaults to the {@code category.id.strategy} system property ({@code random} or
+ * {@code time-ordered}) and falls back to {@link #RANDOM}, with a warning when the property is not recognised.
+ */
+public enum CategoryIdStrategy {
+
+    /**
+     * Random version 4 UUIDs.
+     */
+    RANDOM {
+        @Override
+        public CategoryId next() {
+            return CategoryId.from(UUID.randomUUID());
+        }
+    },
+
+    /**
+     * Version 7 UUIDs: 48 bits of unix milliseconds, a 12 bit sequence and 62 random bits. Ids generated by
+     * this process are strictly increasing, so inserts land at the right edge of any sorted index.
+     */
+    TIME_ORDERED {
+        // unix millis << 12 | sequence of the last id handed out
+        private final AtomicLong last = new AtomicLong();
+
+        @Override
+        public CategoryId next() {
+            final var timestamp = System.currentTimeMillis() << 12;
+            long previous;
+            long next;
+            do {
+                previous = this.last.get();
+                // when the sequence overflows within a millisecond it borrows from the next one
+                next = Math.max(previous + 1, timestamp);
+            } while (!this.last.compareAndSet(previous, next));
+
+            final var mostSignificantBits = (next >>> 12) << 16 | 0x7000L | (next & 0xFFFL);
+            final var leastSignificantBits = ThreadLocalRandom.current().nextLong() >>> 2 | 0x8000000000000000L;
+            return CategoryId.from(mostSignificantBits, leastSignificantBits);
+        }
+    };
+
+    private static final System.Logger LOGGER = System.getLogger(CategoryIdStrategy.class.getName());
+
+    private static volatile CategoryIdStrategy current = configured(System.getProperty("category.id.strategy"));
+
+    public abstract CategoryId next();
+
+    public static CategoryIdStrategy current() {
+        return current;
+    }
+
+    public static void use(final CategoryIdStrategy strategy) {
+        current = Objects.requireNonNull(strategy);
+    }
+
+    public static CategoryIdStrategy of(final String value) {
+        if (value == null || value.isBlank()) {
+            return RANDOM;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "random" -> RANDOM;
+            case "time-ordered" -> TIME_ORDERED;
+            default -> throw new IllegalArgumentException("Unsupported category id strategy '%s'".formatted(value));
+        };
+    }
+
+    // a typo in the property must not fail class initialization and every id generated after it
+    static CategoryIdStrategy configured(final String value) {
+        try {
+            return of(value);
+        } catch (final IllegalArgumentException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Unsupported category id strategy '%s', using random".formatted(value));
+            return RANDOM;
+        }
+    }
+}
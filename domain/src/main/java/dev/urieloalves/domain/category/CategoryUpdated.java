@@ -0,0 +1,24 @@
+package dev.urieloalves.domain.category;
+
+import dev.urieloalves.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record CategoryUpdated(
+        CategoryId aggregateId,
+        String name,
+        String description,
+        boolean active,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public static CategoryUpdated from(final Category category) {
+        return new CategoryUpdated(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getUpdatedAt()
+        );
+    }
+}
@@ -8,6 +8,14 @@ public class CategoryValidator extends Validator {
 
     public static final int NAME_MIN_LENGTH = 3;
     public static final int NAME_MAX_LENGTH = 255;
+
+    public static final Error NAME_NULL = new Error(1_001, "'name' should not be null");
+    public static final Error NAME_EMPTY = new Error(1_002, "'name' should not be empty");
+    public static final Error NAME_LENGTH = new Error(
+            1_003,
+            "'name' must be between %d and %d characters".formatted(NAME_MIN_LENGTH, NAME_MAX_LENGTH)
+    );
+
     private final Category category;
 
     public CategoryValidator(final Category category, final ValidationHandler handler) {
@@ -17,22 +25,39 @@ public class CategoryValidator extends Validator {
 
     @Override
     public void validate() {
-        validateName();
+        validateName(this.category.getName(), this.validationHandler());
     }
 
-    private void validateName() {
-        final var name = this.category.getName();
+    /**
+     * Lets callers reject a name before paying for a new category's id and timestamps.
+     */
+    public static void validateName(final String name, final ValidationHandler handler) {
         if(name == null) {
-            this.validationHandler().append(new Error("'name' should not be null"));
+            handler.append(NAME_NULL);
             return;
         }
         if(name.isBlank()) {
-            this.validationHandler().append(new Error("'name' should not be empty"));
+            handler.append(NAME_EMPTY);
             return;
         }
-        final var length = name.trim().length();
+        final var length = trimmedLength(name);
         if(length < NAME_MIN_LENGTH || length > NAME_MAX_LENGTH) {
-            this.validationHandler().append(new Error("'name' must be between 3 and 255 characters"));
+            handler.append(NAME_LENGTH);
+        }
+    }
+
+    /**
+     * Same as {@code value.trim().length()} without copying the string.
+     */
+    private static int trimmedLength(final String value) {
+        var start = 0;
+        var end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
         }
+        return end - start;
     }
 }
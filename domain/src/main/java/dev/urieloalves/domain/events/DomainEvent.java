@@ -0,0 +1,12 @@
+package dev.urieloalves.domain.events;
+
+import dev.urieloalves.domain.Identifier;
+
+import java.time.Instant;
+
+public interface DomainEvent {
+
+    Identifier aggregateId();
+
+    Instant occurredOn();
+}
@@ -0,0 +1,12 @@
+package dev.urieloalves.domain.events;
+
+@FunctionalInterface
+public interface DomainEventPublisher {
+
+    void publishEvent(DomainEvent event);
+
+    static DomainEventPublisher noop() {
+        return event -> {
+        };
+    }
+}
@@ -8,7 +8,7 @@ public class DomainException extends NoStackTraceException {
 
     private final List<Error> errors;
 
-    private DomainException(final String message, final List<Error> errors) {
+    protected DomainException(final String message, final List<Error> errors) {
         super(message);
         this.errors = errors;
     }
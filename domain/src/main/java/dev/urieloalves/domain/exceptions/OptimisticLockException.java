@@ -0,0 +1,26 @@
+package dev.urieloalves.domain.exceptions;
+
+import dev.urieloalves.domain.validation.Error;
+
+import java.util.List;
+
+/**
+ * Thrown when an aggregate is written with a version other than the stored one, meaning someone else
+ * changed it since it was read.
+ */
+public class OptimisticLockException extends DomainException {
+
+    public static final int CODE = 2_001;
+
+    private OptimisticLockException(final Error error) {
+        super(error.message(), List.of(error));
+    }
+
+    public static OptimisticLockException with(final String aggregate, final String id, final long expectedVersion, final long actualVersion) {
+        return new OptimisticLockException(new Error(
+                CODE,
+                "%s with ID %s was modified concurrently: expected version %d but found %d"
+                        .formatted(aggregate, id, expectedVersion, actualVersion)
+        ));
+    }
+}
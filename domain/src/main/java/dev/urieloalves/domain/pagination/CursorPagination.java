@@ -0,0 +1,20 @@
+package dev.urieloalves.domain.pagination;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * A page of a keyset search. {@code nextCursor} is {@code null} on the last page and {@code total} is only
+ * present when the query asked for it.
+ */
+public record CursorPagination<T>(
+        int perPage,
+        String nextCursor,
+        OptionalLong total,
+        List<T> items
+) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,77 @@
+package dev.urieloalves.domain.time;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A UTC clock that reads the system time once per {@code resolution} on a daemon thread and hands out that
+ * same {@link Instant} until the next tick. Reading it is a volatile load, with no system call and no
+ * allocation, at the price of timestamps that lag by up to one resolution and repeat within it.
+ */
+public final class CoarseClock extends Clock implements AutoCloseable {
+
+    private final long resolutionNanos;
+    private final Thread ticker;
+    private volatile Instant now;
+    private volatile boolean closed;
+
+    private CoarseClock(final Duration resolution) {
+        if (resolution.isNegative() || resolution.isZero()) {
+            throw new IllegalArgumentException("'resolution' should be greater than zero");
+        }
+        this.resolutionNanos = resolution.toNanos();
+        this.now = Instant.now();
+        this.ticker = new Thread(this::tick, "coarse-clock");
+        this.ticker.setDaemon(true);
+    }
+
+    public static CoarseClock start(final Duration resolution) {
+        final var clock = new CoarseClock(Objects.requireNonNull(resolution));
+        clock.ticker.start();
+        return clock;
+    }
+
+    private void tick() {
+        while (!this.closed) {
+            LockSupport.parkNanos(this.resolutionNanos);
+            this.now = Instant.now();
+        }
+    }
+
+    @Override
+    public Instant instant() {
+        return this.now;
+    }
+
+    @Override
+    public long millis() {
+        return this.now.toEpochMilli();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+        if (ZoneOffset.UTC.equals(zone)) {
+            return this;
+        }
+        throw new UnsupportedOperationException("CoarseClock only runs in UTC");
+    }
+
+    /**
+     * Stops the ticker; the clock then keeps returning the last time it read.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.ticker);
+    }
+}
@@ -1,4 +1,18 @@
 package dev.urieloalves.domain.validation;
 
-public record Error(String message) {
+/**
+ * A validation or business rule failure. {@code code} identifies the rule independently of the message
+ * wording; errors raised on hot paths are preallocated constants so rejecting a command allocates nothing
+ * for them.
+ */
+public record Error(int code, String message) {
+
+    /**
+     * Code of errors that were not assigned one, e.g. built from an unexpected exception.
+     */
+    public static final int UNSPECIFIED = 0;
+
+    public Error(final String message) {
+        this(UNSPECIFIED, message);
+    }
 }
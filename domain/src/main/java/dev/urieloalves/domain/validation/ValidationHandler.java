@@ -16,6 +16,18 @@ public interface ValidationHandler {
         return getErrors() != null && !getErrors().isEmpty();
     }
 
+    default boolean hasError(final int code) {
+        final var errors = getErrors();
+        if (errors != null) {
+            for (final var error : errors) {
+                if (error.code() == code) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     interface Validation {
         void validate();
     }
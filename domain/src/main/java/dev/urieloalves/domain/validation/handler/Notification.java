@@ -9,18 +9,18 @@ import java.util.List;
 
 public class Notification implements ValidationHandler {
 
-    private final List<Error> errors;
+    // allocated on the first error, so a notification that never fails costs a single object
+    private List<Error> errors;
 
-    private Notification(List<Error> errors) {
-        this.errors = errors;
+    private Notification() {
     }
 
     public static Notification create() {
-        return new Notification(new ArrayList<>());
+        return new Notification();
     }
 
     public static Notification create(final Error error) {
-        return new Notification(new ArrayList<>()).append(error);
+        return new Notification().append(error);
     }
 
     public static Notification create(final Throwable t) {
@@ -29,13 +29,15 @@ public class Notification implements ValidationHandler {
 
     @Override
     public Notification append(final Error error) {
-        this.errors.add(error);
+        errors().add(error);
         return this;
     }
 
     @Override
     public Notification append(final ValidationHandler handler) {
-        this.errors.addAll(handler.getErrors());
+        if (handler.hasError()) {
+            errors().addAll(handler.getErrors());
+        }
         return this;
     }
 
@@ -44,15 +46,27 @@ public class Notification implements ValidationHandler {
         try {
             validation.validate();
         } catch (final DomainException e) {
-            this.errors.addAll(e.getErrors());
+            errors().addAll(e.getErrors());
         } catch (final Throwable t) {
-            this.errors.add(new Error(t.getMessage()));
+            errors().add(new Error(t.getMessage()));
         }
         return this;
     }
 
     @Override
     public List<Error> getErrors() {
+        return this.errors == null ? List.of() : this.errors;
+    }
+
+    @Override
+    public boolean hasError() {
+        return this.errors != null && !this.errors.isEmpty();
+    }
+
+    private List<Error> errors() {
+        if (this.errors == null) {
+            this.errors = new ArrayList<>(1);
+        }
         return this.errors;
     }
 }
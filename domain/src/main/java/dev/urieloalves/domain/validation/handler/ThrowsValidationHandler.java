@@ -22,6 +22,8 @@ public class ThrowsValidationHandler implements ValidationHandler {
     public ValidationHandler validate(final Validation validation) {
         try {
             validation.validate();
+        } catch (final DomainException ex) {
+            throw ex;
         } catch (final Exception ex) {
             throw DomainException.with(List.of(new Error(ex.getMessage())));
         }
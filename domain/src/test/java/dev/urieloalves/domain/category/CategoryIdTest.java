@@ -0,0 +1,124 @@
+package dev.urieloalves.domain.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CategoryIdTest {
+
+    @Test
+    public void givenUuid_whenCallFrom_thenShouldKeepItAsTwoLongs() {
+        final var expectedUuid = UUID.randomUUID();
+
+        final var actualId = CategoryId.from(expectedUuid);
+
+        Assertions.assertTrue(actualId.isUuid());
+        Assertions.assertEquals(expectedUuid.getMostSignificantBits(), actualId.getMostSignificantBits());
+        Assertions.assertEquals(expectedUuid.getLeastSignificantBits(), actualId.getLeastSignificantBits());
+        Assertions.assertEquals(expectedUuid.toString(), actualId.getValue());
+    }
+
+    @Test
+    public void givenCanonicalUuidString_whenCallFrom_thenShouldEqualIdFromUuid() {
+        final var expectedUuid = UUID.randomUUID();
+
+        final var actualId = CategoryId.from(expectedUuid.toString());
+
+        Assertions.assertTrue(actualId.isUuid());
+        Assertions.assertEquals(CategoryId.from(expectedUuid), actualId);
+        Assertions.assertEquals(CategoryId.from(expectedUuid).hashCode(), actualId.hashCode());
+        Assertions.assertEquals(expectedUuid.toString(), actualId.getValue());
+    }
+
+    @Test
+    public void givenNonCanonicalValues_whenCallFrom_thenShouldRoundTripThemUnchanged() {
+        final var expectedUppercase = UUID.randomUUID().toString().toUpperCase();
+        final var expectedPlain = "123";
+
+        final var uppercaseId = CategoryId.from(expectedUppercase);
+        final var plainId = CategoryId.from(expectedPlain);
+
+        Assertions.assertFalse(uppercaseId.isUuid());
+        Assertions.assertFalse(plainId.isUuid());
+        Assertions.assertEquals(expectedUppercase, uppercaseId.getValue());
+        Assertions.assertEquals(expectedPlain, plainId.getValue());
+        Assertions.assertEquals(CategoryId.from(expectedPlain), plainId);
+        Assertions.assertNotEquals(CategoryId.from(expectedUppercase.toLowerCase()), uppercaseId);
+    }
+
+    @Test
+    public void givenDifferentIds_whenCallEquals_thenShouldNotBeEqual() {
+        Assertions.assertNotEquals(CategoryId.unique(), CategoryId.unique());
+        Assertions.assertNotEquals(CategoryId.from("00000000-0000-0000-0000-000000000000"), CategoryId.from("0"));
+    }
+
+    @Test
+    public void givenUuids_whenCallCompareTo_thenShouldFollowTheirCanonicalStringOrder() {
+        final var lower = CategoryId.from("7fffffff-ffff-ffff-0000-000000000000");
+        final var higher = CategoryId.from("80000000-0000-0000-0000-000000000000");
+
+        Assertions.assertTrue(lower.compareTo(higher) < 0);
+        Assertions.assertTrue(higher.compareTo(lower) > 0);
+        Assertions.assertTrue(higher.compareTo(CategoryId.from("123")) < 0);
+        Assertions.assertEquals(0, lower.compareTo(CategoryId.from(lower.getValue())));
+    }
+
+    @Test
+    public void givenTimeOrderedStrategy_whenCallNext_thenShouldGenerateVersion7Uuids() {
+        final var actualId = CategoryIdStrategy.TIME_ORDERED.next();
+        final var actualUuid = UUID.fromString(actualId.getValue());
+
+        Assertions.assertTrue(actualId.isUuid());
+        Assertions.assertEquals(7, actualUuid.version());
+        Assertions.assertEquals(2, actualUuid.variant());
+        Assertions.assertTrue(Math.abs(System.currentTimeMillis() - (actualUuid.getMostSignificantBits() >>> 16)) < 10_000);
+    }
+
+    @Test
+    public void givenTimeOrderedStrategy_whenManyThreadsCallNext_thenIdsShouldBeUniqueAndIncreasingPerThread() throws Exception {
+        final var expectedThreads = 8;
+        final var expectedIdsPerThread = 20_000;
+        final var ids = ConcurrentHashMap.<CategoryId>newKeySet();
+        final var threads = new Thread[expectedThreads];
+        final var failures = new AtomicInteger();
+
+        for (int t = 0; t < expectedThreads; t++) {
+            threads[t] = new Thread(() -> {
+                var previous = CategoryIdStrategy.TIME_ORDERED.next();
+                ids.add(previous);
+                for (int i = 1; i < expectedIdsPerThread; i++) {
+                    final var next = CategoryIdStrategy.TIME_ORDERED.next();
+                    if (next.compareTo(previous) <= 0) {
+                        failures.incrementAndGet();
+                    }
+                    ids.add(next);
+                    previous = next;
+                }
+            });
+            threads[t].start();
+        }
+        for (final var thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertEquals(0, failures.get());
+        Assertions.assertEquals(expectedThreads * expectedIdsPerThread, ids.size());
+    }
+
+    @Test
+    public void givenStrategyName_whenCallOf_thenShouldResolveStrategy() {
+        Assertions.assertEquals(CategoryIdStrategy.RANDOM, CategoryIdStrategy.of(null));
+        Assertions.assertEquals(CategoryIdStrategy.RANDOM, CategoryIdStrategy.of("random"));
+        Assertions.assertEquals(CategoryIdStrategy.TIME_ORDERED, CategoryIdStrategy.of(" Time-Ordered "));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CategoryIdStrategy.of("sequential"));
+    }
+
+    @Test
+    public void givenUnsupportedStrategyProperty_whenCallConfigured_thenShouldFallBackToRandom() {
+        Assertions.assertEquals(CategoryIdStrategy.RANDOM, CategoryIdStrategy.configured("sequential"));
+        Assertions.assertEquals(CategoryIdStrategy.TIME_ORDERED, CategoryIdStrategy.configured("time-ordered"));
+    }
+}
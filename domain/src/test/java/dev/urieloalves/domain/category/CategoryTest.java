@@ -1,10 +1,19 @@
 package dev.urieloalves.domain.category;
 
+import dev.urieloalves.domain.events.DomainEvent;
 import dev.urieloalves.domain.exceptions.DomainException;
+import dev.urieloalves.domain.validation.handler.Notification;
 import dev.urieloalves.domain.validation.handler.ThrowsValidationHandler;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
 public class CategoryTest {
 
     @Test
@@ -24,6 +33,28 @@ public class CategoryTest {
         Assertions.assertNull(actualCategory.getDeletedAt());
     }
 
+    @Test
+    public void givenValidCategory_whenCallValidate_thenShouldNotAllocate() {
+        final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final var thread = Thread.currentThread().getId();
+        final var category = Category.newCategory("  Movies  ", "The most watched category", true);
+        final var notification = Notification.create();
+        final var calls = 100_000;
+        for (int i = 0; i < calls; i++) {
+            category.validate(notification);
+        }
+
+        final var before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < calls; i++) {
+            category.validate(notification);
+        }
+        final var actualAllocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        Assertions.assertFalse(notification.hasError());
+        // anything per call would add up to at least 16 bytes per call; what is left is the measurement itself
+        Assertions.assertTrue(actualAllocated < calls, actualAllocated + " bytes allocated by " + calls + " calls");
+    }
+
     @Test
     public void givenInvalidEmptyName_whenCallingNewCategoryAndValidate_thenShouldReceiveError() {
         final String expectedName = " ";
@@ -76,6 +107,66 @@ public class CategoryTest {
         Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
     }
 
+    @Test
+    public void givenInvalidNameLengthLessThan3SurroundedByWhitespace_whenCallingNewCategoryAndValidate_thenShouldReceiveError() {
+        final String expectedName = " \t fi \n ";
+        final var expectedDescription = "The most watched category";
+        final var expectedIsActive = true;
+        final var expectedErrorCount = 1;
+        final var expectedErrorMessage = "'name' must be between 3 and 255 characters";
+
+        final var actualCategory = Category.newCategory(expectedName, expectedDescription, expectedIsActive);
+
+        final var notification = Notification.create();
+        actualCategory.validate(notification);
+
+        Assertions.assertEquals(expectedErrorCount, notification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenInvalidNullName_whenCallValidateName_thenShouldReceivePreallocatedError() {
+        final var expectedError = CategoryValidator.NAME_NULL;
+
+        final var notification = Notification.create();
+        CategoryValidator.validateName(null, notification);
+
+        Assertions.assertEquals(1, notification.getErrors().size());
+        Assertions.assertSame(expectedError, notification.getErrors().get(0));
+        Assertions.assertTrue(notification.hasError(expectedError.code()));
+        Assertions.assertFalse(notification.hasError(CategoryValidator.NAME_EMPTY.code()));
+    }
+
+    @Test
+    public void givenInvalidName_whenCallValidateWithThrowsValidationHandler_thenShouldKeepErrorCode() {
+        final var expectedError = CategoryValidator.NAME_LENGTH;
+
+        final var actualCategory = Category.newCategory("fi", null, true);
+
+        final var handler = new ThrowsValidationHandler();
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> handler.validate(() -> actualCategory.validate(handler))
+        );
+
+        Assertions.assertEquals(List.of(expectedError), actualException.getErrors());
+    }
+
+    @Test
+    public void givenValidNameSurroundedByWhitespace_whenCallingNewCategoryAndValidate_thenShouldReceiveOk() {
+        final String expectedName = "\t Movies \n";
+        final var expectedDescription = "The most watched category";
+        final var expectedIsActive = true;
+
+        final var actualCategory = Category.newCategory(expectedName, expectedDescription, expectedIsActive);
+
+        final var notification = Notification.create();
+        actualCategory.validate(notification);
+
+        Assertions.assertFalse(notification.hasError());
+        Assertions.assertTrue(notification.getErrors().isEmpty());
+    }
+
     @Test
     public void givenValidEmptyDescription_whenCallingNewCategoryAndValidate_thenShouldReceiveOk() {
         final String expectedName = "Movies";
@@ -243,4 +334,63 @@ public class CategoryTest {
         Assertions.assertTrue(actualCategory.getUpdatedAt().isAfter(updatedAt));
         Assertions.assertNull(actualCategory.getDeletedAt());
     }
+
+    @Test
+    public void givenNewCategory_whenCallPublishDomainEvents_thenShouldPublishCategoryCreatedOnce() {
+        final var expectedName = "Movies";
+        final var category = Category.newCategory(expectedName, "The most watched category", true);
+        final var actualEvents = new ArrayList<DomainEvent>();
+
+        category.publishDomainEvents(actualEvents::add);
+        category.publishDomainEvents(actualEvents::add);
+
+        Assertions.assertEquals(1, actualEvents.size());
+        final var created = (CategoryCreated) actualEvents.get(0);
+        Assertions.assertEquals(category.getId(), created.aggregateId());
+        Assertions.assertEquals(expectedName, created.name());
+        Assertions.assertEquals(category.getCreatedAt(), created.occurredOn());
+        Assertions.assertTrue(category.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenActiveCategory_whenCallUpdateAndDeactivate_thenShouldRecordOnlyStatusTransitions() {
+        final var category = Category.with(Category.newCategory("Movies", null, true));
+
+        category.update("Series", "Long running shows", false);
+        category.deactivate();
+        category.activate();
+        category.activate();
+
+        final var actualTypes = category.getDomainEvents().stream().map(Object::getClass).toList();
+        Assertions.assertEquals(List.of(CategoryDeactivated.class, CategoryUpdated.class, CategoryActivated.class), actualTypes);
+        Assertions.assertEquals("Series", ((CategoryUpdated) category.getDomainEvents().get(1)).name());
+    }
+
+    @Test
+    public void givenFixedClock_whenCallUpdateToInactive_thenShouldStampEverythingWithOneTimestamp() {
+        final var expectedNow = Instant.parse("2024-03-01T10:15:30.123456789Z");
+        final var category = Category.with(Category.newCategory("Movies", null, true));
+
+        category.update("Series", "Long running shows", false, Clock.fixed(expectedNow, ZoneOffset.UTC));
+
+        Assertions.assertEquals(expectedNow, category.getUpdatedAt());
+        Assertions.assertEquals(expectedNow, category.getDeletedAt());
+        Assertions.assertEquals(expectedNow, category.getDomainEvents().get(0).occurredOn());
+        Assertions.assertEquals(expectedNow, category.getDomainEvents().get(1).occurredOn());
+    }
+
+    @Test
+    public void givenStoredVersion_whenCallNextVersionAndCopy_thenShouldKeepStateAndCountVersions() {
+        final var expectedVersion = 2L;
+        final var category = Category.newCategory("Movies", "The most watched category", true);
+
+        final var actualCategory = Category.with(category.nextVersion().nextVersion());
+
+        Assertions.assertEquals(0, category.getVersion());
+        Assertions.assertEquals(expectedVersion, actualCategory.getVersion());
+        Assertions.assertEquals(category.getId(), actualCategory.getId());
+        Assertions.assertEquals(category.getName(), actualCategory.getName());
+        Assertions.assertEquals(category.getUpdatedAt(), actualCategory.getUpdatedAt());
+        Assertions.assertTrue(actualCategory.getDomainEvents().isEmpty());
+    }
 }
@@ -0,0 +1,43 @@
+package dev.urieloalves.domain.time;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public class CoarseClockTest {
+
+    @Test
+    public void givenRunningClock_whenCallInstantRepeatedly_thenShouldAdvanceInTicks() throws InterruptedException {
+        try (final var clock = CoarseClock.start(Duration.ofMillis(1))) {
+            final var first = clock.instant();
+            Assertions.assertSame(first, clock.instant());
+
+            final var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (clock.instant() == first && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            Assertions.assertTrue(clock.instant().isAfter(first));
+            Assertions.assertFalse(clock.instant().isAfter(Instant.now()));
+        }
+    }
+
+    @Test
+    public void givenClosedClock_whenCallInstant_thenShouldKeepLastTick() throws InterruptedException {
+        final var clock = CoarseClock.start(Duration.ofMillis(1));
+        clock.close();
+        Thread.sleep(20);
+
+        final var expectedInstant = clock.instant();
+        Thread.sleep(20);
+
+        Assertions.assertSame(expectedInstant, clock.instant());
+    }
+
+    @Test
+    public void givenNonPositiveResolution_whenCallStart_thenShouldThrow() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CoarseClock.start(Duration.ZERO));
+    }
+}
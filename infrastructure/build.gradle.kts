@@ -1,5 +1,6 @@
 plugins {
     id("java")
+    id("application")
 }
 
 group = "dev.urieloalves.infrastructure"
@@ -13,10 +14,20 @@ dependencies {
     implementation(project(":domain"))
     implementation(project(":application"))
 
+    implementation("io.vavr:vavr:0.10.4")
+
     testImplementation(platform("org.junit:junit-bom:5.9.1"))
     testImplementation("org.junit.jupiter:junit-jupiter")
 }
 
+application {
+    mainClass.set("dev.urieloalves.infrastructure.Main")
+}
+
 tasks.test {
     useJUnitPlatform()
+}
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
 }
\ No newline at end of file
@@ -1,7 +1,123 @@
 package dev.urieloalves.infrastructure;
 
+import dev.urieloalves.application.category.create.DefaultCreateCategoriesBatchUseCase;
+import dev.urieloalves.application.category.create.DefaultCreateCategoryUseCase;
+import dev.urieloalves.infrastructure.api.CategoryHttpHandler;
+import dev.urieloalves.infrastructure.api.HttpApiServer;
+import dev.urieloalves.infrastructure.api.MetricsHttpHandler;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.events.DomainEventPublisher;
+import dev.urieloalves.domain.time.CoarseClock;
+import dev.urieloalves.infrastructure.category.FileCategoryGateway;
+import dev.urieloalves.infrastructure.category.InMemoryCategoryGateway;
+import dev.urieloalves.infrastructure.events.RingBufferDomainEventDispatcher;
+import dev.urieloalves.infrastructure.exporter.CategoryExporter;
+import dev.urieloalves.infrastructure.exporter.ExportFormat;
+import dev.urieloalves.infrastructure.importer.CategoryImporter;
+import dev.urieloalves.infrastructure.importer.ImportProgress;
+import dev.urieloalves.infrastructure.io.DirectBufferPool;
+import dev.urieloalves.infrastructure.metrics.InstrumentedCategoryGateway;
+import dev.urieloalves.infrastructure.metrics.InstrumentedUseCase;
+import dev.urieloalves.infrastructure.metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
 public class Main {
-    public static void main(String[] args) {
-        System.out.println("Hello world!");
+
+    private static final System.Logger LOGGER = System.getLogger(Main.class.getName());
+
+    public static void main(String[] args) throws IOException {
+        final var port = Integer.parseInt(System.getenv().getOrDefault("PORT", "8080"));
+
+        final var dataDirectory = System.getenv("DATA_DIR");
+
+        final CategoryGateway storage = dataDirectory == null
+                ? new InMemoryCategoryGateway()
+                : new FileCategoryGateway(Path.of(dataDirectory));
+        if (args.length == 2 && "import".equals(args[0])) {
+            importFile(storage, Path.of(args[1]));
+            return;
+        }
+        if (args.length == 2 && "export".equals(args[0])) {
+            exportFile(storage, Path.of(args[1]));
+            return;
+        }
+        final var metrics = new MetricsRegistry();
+        final var jfrEvents = Boolean.parseBoolean(System.getenv().getOrDefault("JFR_EVENTS", "false"));
+        final var categoryGateway = new InstrumentedCategoryGateway(storage, "category", metrics, jfrEvents);
+        final var eventDispatcher = new RingBufferDomainEventDispatcher();
+        metrics.gauge("domain_events_dropped_total", eventDispatcher::droppedEvents);
+        final var createCategoryUseCase = new InstrumentedUseCase<>(
+                new DefaultCreateCategoryUseCase(categoryGateway, eventDispatcher),
+                "create_category",
+                metrics,
+                jfrEvents
+        );
+
+        final var server = HttpApiServer.start(
+                new InetSocketAddress(port),
+                new CategoryHttpHandler(createCategoryUseCase, categoryGateway),
+                new MetricsHttpHandler(metrics)
+        );
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            eventDispatcher.close();
+            if (storage instanceof FileCategoryGateway fileGateway) {
+                try {
+                    fileGateway.close();
+                } catch (final IOException e) {
+                    LOGGER.log(System.Logger.Level.ERROR, "Failed to close the category store", e);
+                }
+            }
+        }));
+
+        final var startup = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        System.out.printf("Listening on port %d, started in %d ms%n", server.port(), startup);
+    }
+
+    private static void importFile(final CategoryGateway categoryGateway, final Path source) throws IOException {
+        final var errors = source.resolveSibling(source.getFileName() + ".errors.ndjson");
+        final ImportProgress result;
+        // thousands of categories are created per millisecond, so reading the system time for each is wasted
+        try (final var clock = CoarseClock.start(Duration.ofMillis(1))) {
+            final var importer = new CategoryImporter(new DefaultCreateCategoriesBatchUseCase(
+                    categoryGateway,
+                    DefaultCreateCategoriesBatchUseCase.DEFAULT_CHUNK_SIZE,
+                    DomainEventPublisher.noop(),
+                    clock
+            ));
+            result = importer.importFile(
+                    source,
+                    errors,
+                    source.resolveSibling(source.getFileName() + ".checkpoint"),
+                    progress -> System.out.printf("\r%5.1f%% %d imported, %d rejected", progress.fraction() * 100, progress.imported(), progress.rejected())
+            );
+        } finally {
+            closeStore(categoryGateway);
+        }
+        System.out.printf("%nImported %d categories, rejected %d (see %s)%n", result.imported(), result.rejected(), errors);
+    }
+
+    private static void exportFile(final CategoryGateway categoryGateway, final Path target) throws IOException {
+        final var exporter = new CategoryExporter(new DirectBufferPool(256 * 1024, 1));
+        try (final var out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             final var categories = categoryGateway.streamAll(1_000)) {
+            final var count = exporter.export(categories, ExportFormat.of(target), out);
+            System.out.printf("Exported %d categories to %s%n", count, target);
+        } finally {
+            closeStore(categoryGateway);
+        }
+    }
+
+    private static void closeStore(final CategoryGateway categoryGateway) throws IOException {
+        if (categoryGateway instanceof FileCategoryGateway fileGateway) {
+            fileGateway.close();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,194 @@
+package dev.urieloalves.infrastructure.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import dev.urieloalves.application.UseCase;
+import dev.urieloalves.application.category.create.CreateCategoryCommand;
+import dev.urieloalves.application.category.create.CreateCategoryOutput;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.exceptions.DomainException;
+import dev.urieloalves.domain.validation.Error;
+import dev.urieloalves.domain.validation.handler.Notification;
+import dev.urieloalves.infrastructure.api.json.JsonReader;
+import dev.urieloalves.infrastructure.api.json.JsonWriter;
+import io.vavr.control.Either;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Serves {@code POST /categories}, {@code GET /categories/{id}} and {@code GET /categories}.
+ */
+public class CategoryHttpHandler implements HttpHandler {
+
+    private static final System.Logger LOGGER = System.getLogger(CategoryHttpHandler.class.getName());
+
+    private static final String PATH = "/categories";
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+    private static final int MAX_PER_PAGE = 100;
+
+    private final UseCase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> createCategoryUseCase;
+    private final CategoryGateway categoryGateway;
+
+    /**
+     * @param createCategoryUseCase a {@link dev.urieloalves.application.category.create.CreateCategoryUseCase}
+     *                              or a decorator around one
+     */
+    public CategoryHttpHandler(
+            final UseCase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> createCategoryUseCase,
+            final CategoryGateway categoryGateway
+    ) {
+        this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void handle(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            final var method = exchange.getRequestMethod();
+            final var path = exchange.getRequestURI().getPath();
+            try {
+                if (PATH.equals(path) && "POST".equals(method)) {
+                    create(exchange);
+                } else if (PATH.equals(path) && "GET".equals(method)) {
+                    list(exchange);
+                } else if (path.startsWith(PATH + "/") && "GET".equals(method)) {
+                    get(exchange, path.substring(PATH.length() + 1));
+                } else {
+                    sendError(exchange, 404, "Not found");
+                }
+            } catch (final DomainException e) {
+                send(exchange, 422, json -> CategoryJson.write(json, notificationOf(e)));
+            } catch (final IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage());
+            } catch (final RuntimeException e) {
+                LOGGER.log(System.Logger.Level.ERROR, "Failed to handle %s %s".formatted(method, path), e);
+                sendError(exchange, 500, "Internal server error");
+            }
+        }
+    }
+
+    private void create(final HttpExchange exchange) throws IOException {
+        final var body = readBody(exchange);
+        if (body == null) {
+            sendError(exchange, 413, "Request body too large");
+            return;
+        }
+        final var fields = JsonReader.readObject(body);
+        final var isActive = fields.get("is_active");
+        final var command = CreateCategoryCommand.with(
+                stringOf(fields.get("name")),
+                stringOf(fields.get("description")),
+                isActive == null || booleanOf(isActive)
+        );
+
+        final var output = this.createCategoryUseCase.execute(command);
+        if (output.isLeft()) {
+            send(exchange, 422, json -> CategoryJson.write(json, output.getLeft()));
+        } else {
+            final var id = output.get().id().getValue();
+            exchange.getResponseHeaders().set("Location", PATH + "/" + id);
+            send(exchange, 201, json -> CategoryJson.writeId(json, id));
+        }
+    }
+
+    private void get(final HttpExchange exchange, final String id) throws IOException {
+        final var category = this.categoryGateway.findById(CategoryId.from(id));
+        if (category.isEmpty()) {
+            sendError(exchange, 404, "Category with ID %s was not found".formatted(id));
+            return;
+        }
+        send(exchange, 200, json -> CategoryJson.write(json, category.get()));
+    }
+
+    private void list(final HttpExchange exchange) throws IOException {
+        final var params = queryParams(exchange.getRequestURI().getRawQuery());
+        final var query = new CategorySearchQuery(
+                intParam(params, "page", 0),
+                Math.min(intParam(params, "perPage", 10), MAX_PER_PAGE),
+                params.getOrDefault("search", ""),
+                params.getOrDefault("sort", "name"),
+                params.getOrDefault("dir", "asc")
+        );
+        final var page = this.categoryGateway.findAll(query);
+        send(exchange, 200, json -> CategoryJson.write(json, page));
+    }
+
+    private static String readBody(final HttpExchange exchange) throws IOException {
+        try (final var in = exchange.getRequestBody()) {
+            final var bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+            return bytes.length > MAX_BODY_BYTES ? null : new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void sendError(final HttpExchange exchange, final int status, final String message) throws IOException {
+        send(exchange, status, json -> CategoryJson.write(json, Notification.create(new Error(message))));
+    }
+
+    private static void send(final HttpExchange exchange, final int status, final Consumer<JsonWriter> body) throws IOException {
+        final var out = new StringBuilder(256);
+        body.accept(new JsonWriter(out));
+        final var bytes = out.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static Notification notificationOf(final DomainException e) {
+        final var notification = Notification.create();
+        e.getErrors().forEach(notification::append);
+        return notification;
+    }
+
+    private static String stringOf(final Object value) {
+        if (value != null && !(value instanceof String)) {
+            throw new IllegalArgumentException("Expected a string but got %s".formatted(value));
+        }
+        return (String) value;
+    }
+
+    private static boolean booleanOf(final Object value) {
+        if (!(value instanceof Boolean)) {
+            throw new IllegalArgumentException("Expected a boolean but got %s".formatted(value));
+        }
+        return (Boolean) value;
+    }
+
+    private static int intParam(final Map<String, String> params, final String name, final int defaultValue) {
+        final var value = params.get(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        final int number;
+        try {
+            number = Integer.parseInt(value);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("'%s' should be a number".formatted(name));
+        }
+        if (number < 0) {
+            throw new IllegalArgumentException("'%s' should not be negative".formatted(name));
+        }
+        return number;
+    }
+
+    private static Map<String, String> queryParams(final String rawQuery) {
+        final var params = new HashMap<String, String>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (final var pair : rawQuery.split("&")) {
+            final var separator = pair.indexOf('=');
+            final var name = separator < 0 ? pair : pair.substring(0, separator);
+            final var value = separator < 0 ? "" : pair.substring(separator + 1);
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+}
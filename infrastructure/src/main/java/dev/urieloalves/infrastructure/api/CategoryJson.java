@@ -0,0 +1,53 @@
+package dev.urieloalves.infrastructure.api;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.pagination.Pagination;
+import dev.urieloalves.domain.validation.handler.Notification;
+import dev.urieloalves.infrastructure.api.json.JsonWriter;
+
+/**
+ * JSON representations of the category API, written field by field.
+ */
+public final class CategoryJson {
+
+    private CategoryJson() {
+    }
+
+    public static void write(final JsonWriter json, final Category category) {
+        json.beginObject()
+                .name("id").value(category.getId().getValue())
+                .name("name").value(category.getName())
+                .name("description").value(category.getDescription())
+                .name("is_active").value(category.isActive())
+                .name("created_at").value(category.getCreatedAt())
+                .name("updated_at").value(category.getUpdatedAt())
+                .name("deleted_at").value(category.getDeletedAt())
+                .endObject();
+    }
+
+    public static void write(final JsonWriter json, final Pagination<Category> page) {
+        json.beginObject()
+                .name("current_page").value(page.currentPage())
+                .name("per_page").value(page.perPage())
+                .name("total").value(page.total())
+                .name("items").beginArray();
+        page.items().forEach(category -> write(json, category));
+        json.endArray().endObject();
+    }
+
+    public static void write(final JsonWriter json, final Notification notification) {
+        final var errors = notification.getErrors();
+        json.beginObject()
+                .name("message").value(errors.isEmpty() ? null : errors.get(0).message())
+                .name("errors").beginArray();
+        errors.forEach(error -> json.beginObject()
+                .name("code").value(error.code())
+                .name("message").value(error.message())
+                .endObject());
+        json.endArray().endObject();
+    }
+
+    public static void writeId(final JsonWriter json, final String id) {
+        json.beginObject().name("id").value(id).endObject();
+    }
+}
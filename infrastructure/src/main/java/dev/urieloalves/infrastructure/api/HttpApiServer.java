@@ -0,0 +1,61 @@
+package dev.urieloalves.infrastructure.api;
+
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import dev.urieloalves.application.async.UseCaseExecutor;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Embedded JDK HTTP server handling every exchange on its own virtual thread when available.
+ */
+public class HttpApiServer implements AutoCloseable {
+
+    private static final String NO_DELAY = "sun.net.httpserver.nodelay";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private HttpApiServer(final HttpServer server, final ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    public static HttpApiServer start(final InetSocketAddress address, final HttpHandler categories) throws IOException {
+        return start(address, Map.of("/categories", categories));
+    }
+
+    public static HttpApiServer start(
+            final InetSocketAddress address,
+            final HttpHandler categories,
+            final HttpHandler metrics
+    ) throws IOException {
+        return start(address, Map.of("/categories", categories, "/metrics", metrics));
+    }
+
+    private static HttpApiServer start(final InetSocketAddress address, final Map<String, HttpHandler> contexts) throws IOException {
+        // headers and body go out in separate writes, so with Nagle on every response waits for a delayed ACK
+        if (System.getProperty(NO_DELAY) == null) {
+            System.setProperty(NO_DELAY, "true");
+        }
+        final var server = HttpServer.create(address, 1024);
+        final var executor = UseCaseExecutor.newThreadPerTaskExecutor();
+        contexts.forEach(server::createContext);
+        server.setExecutor(executor);
+        server.start();
+        return new HttpApiServer(server, executor);
+    }
+
+    public int port() {
+        return this.server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.shutdown();
+    }
+}
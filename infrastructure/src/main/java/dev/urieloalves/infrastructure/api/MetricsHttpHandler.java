@@ -0,0 +1,36 @@
+package dev.urieloalves.infrastructure.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import dev.urieloalves.infrastructure.metrics.MetricsRegistry;
+import dev.urieloalves.infrastructure.metrics.PrometheusExporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Serves {@code GET /metrics} in the Prometheus text format.
+ */
+public class MetricsHttpHandler implements HttpHandler {
+
+    private final MetricsRegistry registry;
+
+    public MetricsHttpHandler(final MetricsRegistry registry) {
+        this.registry = Objects.requireNonNull(registry);
+    }
+
+    @Override
+    public void handle(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            final var bytes = PrometheusExporter.scrape(this.registry).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", PrometheusExporter.CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        }
+    }
+}
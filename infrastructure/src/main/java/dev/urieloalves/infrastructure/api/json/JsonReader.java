@@ -0,0 +1,188 @@
+package dev.urieloalves.infrastructure.api.json;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads a flat JSON object whose values are strings, numbers, booleans or {@code null}. Nested objects and
+ * arrays are rejected since no request body needs them.
+ */
+public final class JsonReader {
+
+    private final CharSequence in;
+    private int position;
+
+    private JsonReader(final CharSequence in) {
+        this.in = in;
+    }
+
+    public static Map<String, Object> readObject(final CharSequence in) {
+        final var reader = new JsonReader(in);
+        reader.whitespace();
+        final var object = reader.object();
+        reader.whitespace();
+        if (reader.position != in.length()) {
+            throw reader.error("unexpected content after the object");
+        }
+        return object;
+    }
+
+    private Map<String, Object> object() {
+        final var object = new HashMap<String, Object>();
+        expect('{');
+        whitespace();
+        if (peek() == '}') {
+            this.position++;
+            return object;
+        }
+        while (true) {
+            whitespace();
+            final var name = string();
+            whitespace();
+            expect(':');
+            whitespace();
+            object.put(name, value());
+            whitespace();
+            final var c = next();
+            if (c == '}') {
+                return object;
+            }
+            if (c != ',') {
+                throw error("expected ',' or '}'");
+            }
+        }
+    }
+
+    private Object value() {
+        final var c = peek();
+        if (c == '"') {
+            return string();
+        }
+        if (c == '-' || (c >= '0' && c <= '9')) {
+            return number();
+        }
+        if (literal("true")) {
+            return Boolean.TRUE;
+        }
+        if (literal("false")) {
+            return Boolean.FALSE;
+        }
+        if (literal("null")) {
+            return null;
+        }
+        throw error("unsupported value");
+    }
+
+    private String string() {
+        expect('"');
+        final var value = new StringBuilder();
+        while (true) {
+            final var c = next();
+            if (c == '"') {
+                return value.toString();
+            }
+            if (c < 0x20) {
+                throw error("unescaped control character");
+            }
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            final var escaped = next();
+            switch (escaped) {
+                case '"', '\\', '/' -> value.append(escaped);
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'n' -> value.append('\n');
+                case 'r' -> value.append('\r');
+                case 't' -> value.append('\t');
+                case 'u' -> value.append(unicodeEscape());
+                default -> throw error("invalid escape");
+            }
+        }
+    }
+
+    // exactly four hex digits; a surrogate pair arrives as two escapes and is appended one half at a time
+    private char unicodeEscape() {
+        if (this.position + 4 > this.in.length()) {
+            throw error("truncated unicode escape");
+        }
+        var code = 0;
+        for (int i = 0; i < 4; i++) {
+            final var digit = hexDigit(this.in.charAt(this.position++));
+            if (digit < 0) {
+                throw error("invalid unicode escape");
+            }
+            code = code << 4 | digit;
+        }
+        return (char) code;
+    }
+
+    private Number number() {
+        final var start = this.position;
+        while (this.position < this.in.length() && "+-0123456789.eE".indexOf(this.in.charAt(this.position)) >= 0) {
+            this.position++;
+        }
+        final var text = this.in.subSequence(start, this.position).toString();
+        try {
+            // not a conditional expression, which would promote the long to a double
+            if (text.contains(".") || text.contains("e") || text.contains("E")) {
+                return Double.parseDouble(text);
+            }
+            return Long.parseLong(text);
+        } catch (final NumberFormatException e) {
+            throw error("invalid number");
+        }
+    }
+
+    private static int hexDigit(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private boolean literal(final String literal) {
+        if (this.position + literal.length() <= this.in.length()
+                && this.in.subSequence(this.position, this.position + literal.length()).toString().equals(literal)) {
+            this.position += literal.length();
+            return true;
+        }
+        return false;
+    }
+
+    private void whitespace() {
+        while (this.position < this.in.length() && Character.isWhitespace(this.in.charAt(this.position))) {
+            this.position++;
+        }
+    }
+
+    private void expect(final char expected) {
+        if (next() != expected) {
+            throw error("expected '" + expected + "'");
+        }
+    }
+
+    private char peek() {
+        if (this.position >= this.in.length()) {
+            throw error("unexpected end of input");
+        }
+        return this.in.charAt(this.position);
+    }
+
+    private char next() {
+        final var c = peek();
+        this.position++;
+        return c;
+    }
+
+    private IllegalArgumentException error(final String message) {
+        return new IllegalArgumentException("Invalid JSON at position %d: %s".formatted(this.position, message));
+    }
+}
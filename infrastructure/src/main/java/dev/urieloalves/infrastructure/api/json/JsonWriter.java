@@ -0,0 +1,121 @@
+package dev.urieloalves.infrastructure.api.json;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Streaming JSON writer appending straight to a {@link StringBuilder}; callers drive the structure, so no
+ * reflection or intermediate tree is involved.
+ */
+public class JsonWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final StringBuilder out;
+    // whether the current object or array already holds a value and the next one needs a comma
+    private boolean needsComma;
+
+    public JsonWriter(final StringBuilder out) {
+        this.out = out;
+    }
+
+    public JsonWriter beginObject() {
+        comma();
+        this.out.append('{');
+        this.needsComma = false;
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        this.out.append('}');
+        this.needsComma = true;
+        return this;
+    }
+
+    public JsonWriter beginArray() {
+        comma();
+        this.out.append('[');
+        this.needsComma = false;
+        return this;
+    }
+
+    public JsonWriter endArray() {
+        this.out.append(']');
+        this.needsComma = true;
+        return this;
+    }
+
+    public JsonWriter name(final String name) {
+        comma();
+        string(name);
+        this.out.append(':');
+        this.needsComma = false;
+        return this;
+    }
+
+    public JsonWriter value(final String value) {
+        comma();
+        if (value == null) {
+            this.out.append("null");
+        } else {
+            string(value);
+        }
+        this.needsComma = true;
+        return this;
+    }
+
+    public JsonWriter value(final Instant value) {
+        if (value == null) {
+            return value((String) null);
+        }
+        // ISO-8601 needs no escaping, so format straight into the output instead of through toString()
+        comma();
+        this.out.append('"');
+        DateTimeFormatter.ISO_INSTANT.formatTo(value, this.out);
+        this.out.append('"');
+        this.needsComma = true;
+        return this;
+    }
+
+    public JsonWriter value(final long value) {
+        comma();
+        this.out.append(value);
+        this.needsComma = true;
+        return this;
+    }
+
+    public JsonWriter value(final boolean value) {
+        comma();
+        this.out.append(value);
+        this.needsComma = true;
+        return this;
+    }
+
+    private void comma() {
+        if (this.needsComma) {
+            this.out.append(',');
+        }
+    }
+
+    private void string(final String value) {
+        this.out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            switch (c) {
+                case '"' -> this.out.append("\\\"");
+                case '\\' -> this.out.append("\\\\");
+                case '\n' -> this.out.append("\\n");
+                case '\r' -> this.out.append("\\r");
+                case '\t' -> this.out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        this.out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        this.out.append(c);
+                    }
+                }
+            }
+        }
+        this.out.append('"');
+    }
+}
@@ -0,0 +1,167 @@
+package dev.urieloalves.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Size bounded cache with per entry time to live.
+ * <p>
+ * Keys are spread over independently locked segments, each one an access ordered {@link LinkedHashMap}
+ * evicting its least recently used entry. Loads for the same key are coalesced, and a load that raced with
+ * an invalidation of its segment is discarded instead of caching the value it read before the write; loads
+ * in other segments are unaffected.
+ */
+public class BoundedCache<K, V> {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final SingleFlight<K, V> loads = new SingleFlight<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedCache(final long maximumSize, final Duration ttl) {
+        this(maximumSize, ttl, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    public BoundedCache(final long maximumSize, final Duration ttl, final LongSupplier ticker) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("'maximumSize' should be greater than zero");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = Objects.requireNonNull(ticker);
+        this.segments = new Segment[SEGMENTS];
+        final var segmentSize = Math.max(1, (maximumSize + SEGMENTS - 1) / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            this.segments[i] = new Segment<>(segmentSize, this.evictions);
+        }
+    }
+
+    /**
+     * The cached value, or {@code null} when absent or expired.
+     */
+    public V getIfPresent(final K key) {
+        final var segment = segmentFor(key);
+        synchronized (segment) {
+            final var entry = segment.get(key);
+            if (entry != null && entry.expiresAt - this.ticker.getAsLong() > 0) {
+                this.hits.increment();
+                return entry.value;
+            }
+            if (entry != null) {
+                segment.remove(key);
+                this.evictions.increment();
+            }
+        }
+        this.misses.increment();
+        return null;
+    }
+
+    /**
+     * The cached value, loading and caching it on a miss. Concurrent misses on the same key share one load.
+     */
+    public V get(final K key, final Function<K, V> loader) {
+        final var cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        return this.loads.execute(key, () -> {
+            final var invalidationsBeforeLoad = segmentFor(key).invalidations;
+            final var value = loader.apply(key);
+            if (value != null) {
+                putIfNotInvalidatedSince(key, value, invalidationsBeforeLoad);
+            }
+            return value;
+        });
+    }
+
+    public void put(final K key, final V value) {
+        final var segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, new Entry<>(Objects.requireNonNull(value), this.ticker.getAsLong() + this.ttlNanos));
+        }
+    }
+
+    public void invalidate(final K key) {
+        final var segment = segmentFor(key);
+        synchronized (segment) {
+            segment.invalidations++;
+            this.loads.forget(key);
+            segment.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        this.loads.forgetAll();
+        for (final var segment : this.segments) {
+            synchronized (segment) {
+                segment.invalidations++;
+                segment.clear();
+            }
+        }
+    }
+
+    public long size() {
+        var size = 0L;
+        for (final var segment : this.segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(this.hits.sum(), this.misses.sum(), this.evictions.sum(), size());
+    }
+
+    private void putIfNotInvalidatedSince(final K key, final V value, final long invalidations) {
+        final var segment = segmentFor(key);
+        synchronized (segment) {
+            // checked under the segment lock, so an invalidation of this key either already happened or runs after the put
+            if (segment.invalidations == invalidations) {
+                segment.put(key, new Entry<>(value, this.ticker.getAsLong() + this.ttlNanos));
+            }
+        }
+    }
+
+    private Segment<K, V> segmentFor(final K key) {
+        final var hash = key.hashCode();
+        return this.segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private static final class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+
+        private final long maximumSize;
+        private final LongAdder evictions;
+        // bumped under the segment lock by every invalidation of the segment, read before a load without it
+        private volatile long invalidations;
+
+        private Segment(final long maximumSize, final LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+            if (size() > this.maximumSize) {
+                this.evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package dev.urieloalves.infrastructure.cache;
+
+public record CacheStats(
+        long hits,
+        long misses,
+        long evictions,
+        long size
+) {
+
+    public double hitRate() {
+        final var requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,356 @@
+package dev.urieloalves.infrastructure.cache;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.infrastructure.codec.CategoryCodec;
+import dev.urieloalves.infrastructure.codec.CategoryView;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of categories kept outside the heap, in {@link CategoryCodec} form, so millions of them cost the
+ * garbage collector nothing to trace.
+ * <p>
+ * The budget is split over independently locked segments. Each one appends records to a ring of direct
+ * memory and finds them through an open addressing hash table, also in direct memory, keyed by the two
+ * longs of the id. When the ring or the table is full the oldest record is reclaimed CLOCK style: a record
+ * read since it was written gets a second chance and is appended again, any other one is evicted.
+ * <p>
+ * Only UUID ids are cached; records larger than an eighth of a segment are not cached either. Both are simply
+ * misses.
+ */
+public class OffHeapCategoryStore {
+
+    public static final int DEFAULT_SEGMENTS = 64;
+
+    // length of the codec bytes, id, referenced flag
+    private static final int HEADER_BYTES = Integer.BYTES + 2 * Long.BYTES + 1;
+    private static final int REFERENCED = Integer.BYTES + 2 * Long.BYTES;
+    // length written where the ring wraps around before its end
+    private static final int WRAP = -1;
+    // most, least significant bits of the id and ring offset + 1 of its record, 0 when the slot is free
+    private static final int INDEX_ENTRY_BYTES = 3 * Long.BYTES;
+    // the index is sized for records of this many bytes on average
+    private static final int EXPECTED_RECORD_BYTES = 128;
+    private static final int MAX_SEGMENT_BYTES = 1 << 30;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public OffHeapCategoryStore(final long maximumBytes) {
+        this(maximumBytes, DEFAULT_SEGMENTS);
+    }
+
+    /**
+     * @param maximumBytes for the records; the index takes a quarter to a half as much on top
+     * @param segments     rounded up to a power of two, and raised until no segment exceeds 1 GiB
+     */
+    public OffHeapCategoryStore(final long maximumBytes, final int segments) {
+        if (segments <= 0) {
+            throw new IllegalArgumentException("'segments' should be greater than zero");
+        }
+        var count = Integer.highestOneBit(segments);
+        count = count < segments ? count << 1 : count;
+        while (maximumBytes / count > MAX_SEGMENT_BYTES) {
+            count <<= 1;
+        }
+        final var segmentBytes = (int) (maximumBytes / count);
+        if (segmentBytes < 4 * 1_024) {
+            throw new IllegalArgumentException("'maximumBytes' should leave at least 4 KiB per segment");
+        }
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            this.segments[i] = new Segment(segmentBytes, this.evictions);
+        }
+        this.segmentShift = Long.SIZE - Integer.numberOfTrailingZeros(count);
+    }
+
+    /**
+     * The cached category, or {@code null}.
+     */
+    public Category get(final CategoryId id) {
+        final var category = id.isUuid() ? segmentFor(hash(id)).get(id, hash(id)) : null;
+        (category == null ? this.misses : this.hits).increment();
+        return category;
+    }
+
+    /**
+     * A token to pass to {@link #put(Category, long)} after loading the category, so the load is discarded
+     * if the category was invalidated meanwhile.
+     */
+    public long stamp(final CategoryId id) {
+        return id.isUuid() ? segmentFor(hash(id)).stamp() : 0L;
+    }
+
+    public void put(final Category category) {
+        put(category, stamp(category.getId()));
+    }
+
+    public void put(final Category category, final long stamp) {
+        final var id = category.getId();
+        if (id.isUuid()) {
+            segmentFor(hash(id)).put(category, hash(id), stamp);
+        }
+    }
+
+    public void invalidate(final CategoryId id) {
+        if (id.isUuid()) {
+            segmentFor(hash(id)).invalidate(id, hash(id));
+        }
+    }
+
+    public void invalidateAll() {
+        for (final var segment : this.segments) {
+            segment.clear();
+        }
+    }
+
+    public CacheStats stats() {
+        var size = 0L;
+        for (final var segment : this.segments) {
+            size += segment.size();
+        }
+        return new CacheStats(this.hits.sum(), this.misses.sum(), this.evictions.sum(), size);
+    }
+
+    private Segment segmentFor(final long hash) {
+        return this.segments.length == 1 ? this.segments[0] : this.segments[(int) (hash >>> this.segmentShift)];
+    }
+
+    private static long hash(final CategoryId id) {
+        return hash(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    private static long hash(final long msb, final long lsb) {
+        var hash = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class Segment {
+
+        private final ByteBuffer ring;
+        private final int capacity;
+        private final ByteBuffer index;
+        private final int mask;
+        private final int maxEntries;
+        private final CategoryView view = new CategoryView();
+        private final LongAdder evictions;
+        private byte[] scratch = new byte[256];
+        private int head;
+        private int tail;
+        private int used;
+        private int entries;
+        private long invalidations;
+
+        private Segment(final int capacity, final LongAdder evictions) {
+            this.capacity = capacity;
+            this.ring = ByteBuffer.allocateDirect(capacity);
+            final var slots = Integer.highestOneBit(Math.max(16, capacity / EXPECTED_RECORD_BYTES * 4 / 3) * 2 - 1);
+            this.index = ByteBuffer.allocateDirect(slots * INDEX_ENTRY_BYTES);
+            this.mask = slots - 1;
+            this.maxEntries = slots * 3 / 4;
+            this.evictions = evictions;
+        }
+
+        synchronized Category get(final CategoryId id, final long hash) {
+            final var slot = find(id.getMostSignificantBits(), id.getLeastSignificantBits(), hash);
+            if (slot < 0) {
+                return null;
+            }
+            final var offset = offsetAt(slot);
+            this.ring.put(offset + REFERENCED, (byte) 1);
+            return this.view.wrap(this.ring, offset + HEADER_BYTES).toCategory();
+        }
+
+        synchronized long stamp() {
+            return this.invalidations;
+        }
+
+        synchronized void put(final Category category, final long hash, final long stamp) {
+            if (stamp != this.invalidations) {
+                return;
+            }
+            final var length = CategoryCodec.encodedSize(category);
+            final var size = HEADER_BYTES + length;
+            if (size > this.capacity / 8) {
+                return;
+            }
+            final var id = category.getId();
+            final var msb = id.getMostSignificantBits();
+            final var lsb = id.getLeastSignificantBits();
+
+            final var existing = find(msb, lsb, hash);
+            if (existing >= 0) {
+                // the old record becomes garbage the next time the clock hand passes it
+                remove(existing);
+            }
+            while (this.entries >= this.maxEntries) {
+                reclaim();
+            }
+            final var offset = reserve(size);
+            this.ring.putInt(offset, length).putLong(offset + Integer.BYTES, msb).putLong(offset + Integer.BYTES + Long.BYTES, lsb);
+            this.ring.put(offset + REFERENCED, (byte) 0);
+            this.ring.position(offset + HEADER_BYTES);
+            CategoryCodec.encode(category, this.ring);
+            insert(msb, lsb, hash, offset);
+        }
+
+        synchronized void invalidate(final CategoryId id, final long hash) {
+            this.invalidations++;
+            final var slot = find(id.getMostSignificantBits(), id.getLeastSignificantBits(), hash);
+            if (slot >= 0) {
+                remove(slot);
+            }
+        }
+
+        synchronized void clear() {
+            this.invalidations++;
+            for (int slot = 0; slot <= this.mask; slot++) {
+                this.index.putLong(slot * INDEX_ENTRY_BYTES + 2 * Long.BYTES, 0L);
+            }
+            this.entries = 0;
+            this.head = 0;
+            this.tail = 0;
+            this.used = 0;
+        }
+
+        synchronized int size() {
+            return this.entries;
+        }
+
+        /**
+         * Room for {@code size} contiguous bytes at the tail, reclaiming the oldest records until there is.
+         */
+        private int reserve(final int size) {
+            while (true) {
+                final var free = this.capacity - this.used;
+                if (this.tail + size <= this.capacity) {
+                    if (free >= size) {
+                        final var offset = this.tail;
+                        this.tail += size;
+                        this.used += size;
+                        return offset;
+                    }
+                } else {
+                    final var padding = this.capacity - this.tail;
+                    if (free >= padding + size) {
+                        if (padding >= Integer.BYTES) {
+                            this.ring.putInt(this.tail, WRAP);
+                        }
+                        this.used += padding;
+                        this.tail = 0;
+                        continue;
+                    }
+                }
+                reclaim();
+            }
+        }
+
+        /**
+         * Frees the record at the head of the ring: garbage is dropped, a record read since it was written is
+         * moved to the tail with its flag cleared, and any other one is evicted.
+         */
+        private void reclaim() {
+            if (this.capacity - this.head < Integer.BYTES || this.ring.getInt(this.head) == WRAP) {
+                this.used -= this.capacity - this.head;
+                this.head = 0;
+                return;
+            }
+            final var offset = this.head;
+            final var length = this.ring.getInt(offset);
+            final var size = HEADER_BYTES + length;
+            final var msb = this.ring.getLong(offset + Integer.BYTES);
+            final var lsb = this.ring.getLong(offset + Integer.BYTES + Long.BYTES);
+            final var referenced = this.ring.get(offset + REFERENCED) != 0;
+            this.head += size;
+            this.used -= size;
+
+            final var hash = hash(msb, lsb);
+            final var slot = find(msb, lsb, hash);
+            if (slot < 0 || offsetAt(slot) != offset) {
+                return;
+            }
+            if (!referenced || !fitsWithoutReclaiming(size)) {
+                remove(slot);
+                this.evictions.increment();
+                return;
+            }
+            if (this.scratch.length < size) {
+                this.scratch = new byte[Math.max(size, this.scratch.length * 2)];
+            }
+            this.ring.get(offset, this.scratch, 0, size);
+            final var moved = reserve(size);
+            this.ring.put(moved, this.scratch, 0, size);
+            this.ring.put(moved + REFERENCED, (byte) 0);
+            this.index.putLong(slot * INDEX_ENTRY_BYTES + 2 * Long.BYTES, moved + 1L);
+        }
+
+        private boolean fitsWithoutReclaiming(final int size) {
+            final var free = this.capacity - this.used;
+            return this.tail + size <= this.capacity ? free >= size : free >= this.capacity - this.tail + size;
+        }
+
+        private int find(final long msb, final long lsb, final long hash) {
+            var slot = (int) hash & this.mask;
+            while (true) {
+                final var position = slot * INDEX_ENTRY_BYTES;
+                if (this.index.getLong(position + 2 * Long.BYTES) == 0L) {
+                    return -1;
+                }
+                if (this.index.getLong(position) == msb && this.index.getLong(position + Long.BYTES) == lsb) {
+                    return slot;
+                }
+                slot = (slot + 1) & this.mask;
+            }
+        }
+
+        private void insert(final long msb, final long lsb, final long hash, final int offset) {
+            var slot = (int) hash & this.mask;
+            while (this.index.getLong(slot * INDEX_ENTRY_BYTES + 2 * Long.BYTES) != 0L) {
+                slot = (slot + 1) & this.mask;
+            }
+            final var position = slot * INDEX_ENTRY_BYTES;
+            this.index.putLong(position, msb).putLong(position + Long.BYTES, lsb).putLong(position + 2 * Long.BYTES, offset + 1L);
+            this.entries++;
+        }
+
+        /**
+         * Backward shift deletion: moves later entries of the probe sequence up, so lookups never need
+         * tombstones.
+         */
+        private void remove(final int removed) {
+            var free = removed;
+            var slot = removed;
+            while (true) {
+                slot = (slot + 1) & this.mask;
+                final var position = slot * INDEX_ENTRY_BYTES;
+                if (this.index.getLong(position + 2 * Long.BYTES) == 0L) {
+                    break;
+                }
+                final var home = (int) hash(this.index.getLong(position), this.index.getLong(position + Long.BYTES)) & this.mask;
+                // the entry may fill the hole only if its home is not cyclically between the hole and itself
+                final var between = free <= slot ? free < home && home <= slot : free < home || home <= slot;
+                if (!between) {
+                    final var target = free * INDEX_ENTRY_BYTES;
+                    this.index.putLong(target, this.index.getLong(position))
+                            .putLong(target + Long.BYTES, this.index.getLong(position + Long.BYTES))
+                            .putLong(target + 2 * Long.BYTES, this.index.getLong(position + 2 * Long.BYTES));
+                    free = slot;
+                }
+            }
+            this.index.putLong(free * INDEX_ENTRY_BYTES + 2 * Long.BYTES, 0L);
+            this.entries--;
+        }
+
+        private int offsetAt(final int slot) {
+            return (int) (this.index.getLong(slot * INDEX_ENTRY_BYTES + 2 * Long.BYTES) - 1);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package dev.urieloalves.infrastructure.cache;
+
+import dev.urieloalves.domain.exceptions.NoStackTraceException;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one call per key at a time; callers arriving while a call is in flight wait for its result
+ * instead of starting their own.
+ * <p>
+ * Joining a flight is a single {@link ConcurrentHashMap#putIfAbsent}, with no lock of its own. A waiter that
+ * is interrupted stops waiting without affecting the flight. A leader that is cancelled, by an interrupt or
+ * a {@link CancellationException}, fails alone: its waiters start over and one of them leads a new call.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final LongAdder leaders;
+    private final LongAdder followers;
+
+    public SingleFlight() {
+        this(new LongAdder(), new LongAdder());
+    }
+
+    /**
+     * @param leaders   counts calls that ran
+     * @param followers counts calls that shared the result of another one
+     */
+    public SingleFlight(final LongAdder leaders, final LongAdder followers) {
+        this.leaders = Objects.requireNonNull(leaders);
+        this.followers = Objects.requireNonNull(followers);
+    }
+
+    public V execute(final K key, final Supplier<V> call) {
+        while (true) {
+            final var flight = new CompletableFuture<V>();
+            final var inFlight = this.calls.putIfAbsent(key, flight);
+            if (inFlight == null) {
+                this.leaders.increment();
+                return lead(key, flight, call);
+            }
+            this.followers.increment();
+            try {
+                return await(inFlight);
+            } catch (final Abandoned e) {
+                // the leader was cancelled; its flight is gone, so the next attempt starts a new one
+            }
+        }
+    }
+
+    /**
+     * Detaches the call in flight for the key, if any: callers arriving afterwards start a new call while the
+     * current waiters still get the detached result.
+     */
+    public void forget(final K key) {
+        this.calls.remove(key);
+    }
+
+    public void forgetAll() {
+        this.calls.clear();
+    }
+
+    public long leaders() {
+        return this.leaders.sum();
+    }
+
+    public long followers() {
+        return this.followers.sum();
+    }
+
+    private V lead(final K key, final CompletableFuture<V> flight, final Supplier<V> call) {
+        final V result;
+        try {
+            result = call.get();
+        } catch (final Throwable t) {
+            this.calls.remove(key, flight);
+            final var cancelled = t instanceof CancellationException || Thread.currentThread().isInterrupted();
+            flight.completeExceptionally(cancelled ? Abandoned.INSTANCE : t);
+            throw t;
+        }
+        // detached before completing, so callers arriving afterwards start a new call instead of getting this result
+        this.calls.remove(key, flight);
+        flight.complete(result);
+        return result;
+    }
+
+    private static <V> V await(final CompletableFuture<V> flight) {
+        try {
+            return flight.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a call in flight");
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static final class Abandoned extends NoStackTraceException {
+
+        private static final Abandoned INSTANCE = new Abandoned();
+
+        private Abandoned() {
+            super("Call in flight was cancelled");
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryCursorQuery;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.pagination.CursorPagination;
+import dev.urieloalves.domain.pagination.Pagination;
+import dev.urieloalves.infrastructure.concurrent.StripedLock;
+import dev.urieloalves.infrastructure.filter.CountingBloomFilter;
+import dev.urieloalves.infrastructure.metrics.MetricsRegistry;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Answers {@code findById} for ids that were never stored without calling another {@link CategoryGateway},
+ * by checking them against a {@link CountingBloomFilter} of the stored ids first. Ids the filter may hold are
+ * looked up as usual, so a false positive costs only the lookup the filter did not save.
+ * <p>
+ * The filter is kept in step with {@code create}, {@code createAll} and {@code deleteById}, and filled from a
+ * full scan on construction and on {@link #rebuild()}. Categories stored without going through this gateway
+ * are not seen until the next rebuild, so every writer should go through it.
+ */
+public class BloomFilterCategoryGateway implements CategoryGateway {
+
+    private static final int REBUILD_PAGE_SIZE = 1_000;
+
+    private final CategoryGateway delegate;
+    private final long expectedCategories;
+    private final double falsePositiveRate;
+    // writes hold the read lock so a rebuild can switch filters between them, never in the middle of one
+    private final ReentrantReadWriteLock writes = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuilds = new ReentrantLock();
+    private final StripedLock deletes = new StripedLock(64);
+
+    private final LongAdder negatives;
+    private final LongAdder falsePositives;
+    private final LongAdder found;
+
+    private volatile CountingBloomFilter filter;
+    // also receives every id added while a rebuild scans, so ids created behind the scan are not missed
+    private volatile CountingBloomFilter rebuilding;
+
+    public BloomFilterCategoryGateway(
+            final CategoryGateway delegate,
+            final long expectedCategories,
+            final double falsePositiveRate
+    ) {
+        this(delegate, expectedCategories, falsePositiveRate, new LongAdder(), new LongAdder(), new LongAdder());
+    }
+
+    /**
+     * Also exports {@code gateway_bloom_lookups_total} per {@code result}: {@code negative} for lookups
+     * answered by the filter, {@code false_positive} for ids the filter let through that were not found and
+     * {@code found} for the rest. The observed false positive rate is {@code false_positive} over
+     * {@code negative + false_positive}; the rate the filter's fill implies is exported as
+     * {@code gateway_bloom_expected_false_positives_per_million}.
+     */
+    public BloomFilterCategoryGateway(
+            final CategoryGateway delegate,
+            final long expectedCategories,
+            final double falsePositiveRate,
+            final String name,
+            final MetricsRegistry registry
+    ) {
+        this(
+                delegate,
+                expectedCategories,
+                falsePositiveRate,
+                registry.counter("gateway_bloom_lookups_total", "gateway", name, "result", "negative"),
+                registry.counter("gateway_bloom_lookups_total", "gateway", name, "result", "false_positive"),
+                registry.counter("gateway_bloom_lookups_total", "gateway", name, "result", "found")
+        );
+        registry.gauge(
+                "gateway_bloom_expected_false_positives_per_million",
+                () -> Math.round(expectedFalsePositiveRate() * 1_000_000),
+                "gateway", name
+        );
+    }
+
+    private BloomFilterCategoryGateway(
+            final CategoryGateway delegate,
+            final long expectedCategories,
+            final double falsePositiveRate,
+            final LongAdder negatives,
+            final LongAdder falsePositives,
+            final LongAdder found
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.expectedCategories = expectedCategories;
+        this.falsePositiveRate = falsePositiveRate;
+        this.negatives = negatives;
+        this.falsePositives = falsePositives;
+        this.found = found;
+        this.filter = CountingBloomFilter.create(expectedCategories, falsePositiveRate);
+        rebuild();
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var hash = hash(category.getId());
+        this.writes.readLock().lock();
+        try {
+            // added before the write, so a concurrent lookup never misses a category that is already stored;
+            // a failed create leaves a count behind, which costs false positives only
+            add(hash);
+            return this.delegate.create(category);
+        } finally {
+            this.writes.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        this.writes.readLock().lock();
+        try {
+            categories.forEach(category -> add(hash(category.getId())));
+            return this.delegate.createAll(categories);
+        } finally {
+            this.writes.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        final var hash = hash(id);
+        if (!this.filter.mightContain(hash)) {
+            this.delegate.deleteById(id);
+            return;
+        }
+        // only ids known to be stored are removed, once, or the counts of other ids could drop to zero
+        this.deletes.withLock(id, () -> {
+            this.writes.readLock().lock();
+            try {
+                final var stored = this.delegate.findById(id).isPresent();
+                this.delegate.deleteById(id);
+                if (stored) {
+                    // from the current filter only: one being rebuilt may not have seen the id, and an extra
+                    // count there costs false positives only
+                    this.filter.remove(hash);
+                }
+            } finally {
+                this.writes.readLock().unlock();
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        if (!this.filter.mightContain(hash(id))) {
+            this.negatives.increment();
+            return Optional.empty();
+        }
+        final var category = this.delegate.findById(id);
+        (category.isPresent() ? this.found : this.falsePositives).increment();
+        return category;
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return this.delegate.update(category);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public CursorPagination<Category> findAllAfter(final CategoryCursorQuery query) {
+        return this.delegate.findAllAfter(query);
+    }
+
+    /**
+     * Replaces the filter with one filled from a full scan of the delegate, dropping counts left by failed
+     * creates and picking up categories stored behind this gateway's back. The new filter is sized for the
+     * larger of the expected number of categories and the number the current filter holds. Lookups and
+     * writes carry on during the scan.
+     *
+     * @return the number of categories scanned
+     */
+    public long rebuild() {
+        this.rebuilds.lock();
+        try {
+            final var fresh = CountingBloomFilter.create(Math.max(this.expectedCategories, this.filter.size()), this.falsePositiveRate);
+            swap(this.filter, fresh);
+            var scanned = 0L;
+            try (final var categories = this.delegate.streamAll(REBUILD_PAGE_SIZE)) {
+                final var iterator = categories.iterator();
+                while (iterator.hasNext()) {
+                    fresh.add(hash(iterator.next().getId()));
+                    scanned++;
+                }
+            } catch (final RuntimeException e) {
+                swap(this.filter, null);
+                throw e;
+            }
+            swap(fresh, null);
+            return scanned;
+        } finally {
+            this.rebuilds.unlock();
+        }
+    }
+
+    /**
+     * Share of lookups for missing ids that the filter let through, between 0 and 1.
+     */
+    public double falsePositiveRate() {
+        final var falsePositives = this.falsePositives.sum();
+        final var misses = this.negatives.sum() + falsePositives;
+        return misses == 0 ? 0.0 : (double) falsePositives / misses;
+    }
+
+    /**
+     * False positive rate the current filter's fill implies.
+     */
+    public double expectedFalsePositiveRate() {
+        return this.filter.expectedFalsePositiveRate();
+    }
+
+    private void add(final long hash) {
+        this.filter.add(hash);
+        final var rebuilding = this.rebuilding;
+        if (rebuilding != null) {
+            rebuilding.add(hash);
+        }
+    }
+
+    private void swap(final CountingBloomFilter filter, final CountingBloomFilter rebuilding) {
+        this.writes.writeLock().lock();
+        try {
+            this.filter = filter;
+            this.rebuilding = rebuilding;
+        } finally {
+            this.writes.writeLock().unlock();
+        }
+    }
+
+    private static long hash(final CategoryId id) {
+        return id.isUuid()
+                ? id.getMostSignificantBits() * 31 + id.getLeastSignificantBits()
+                : id.getValue().hashCode();
+    }
+}
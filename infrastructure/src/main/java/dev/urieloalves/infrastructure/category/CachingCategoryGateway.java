@@ -0,0 +1,187 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryCursorQuery;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.events.DomainEvent;
+import dev.urieloalves.domain.pagination.CursorPagination;
+import dev.urieloalves.domain.pagination.Pagination;
+import dev.urieloalves.infrastructure.cache.BoundedCache;
+import dev.urieloalves.infrastructure.cache.CacheStats;
+import dev.urieloalves.infrastructure.cache.OffHeapCategoryStore;
+import dev.urieloalves.infrastructure.events.DomainEventSubscriber;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Read-through cache in front of another {@link CategoryGateway}.
+ * <p>
+ * {@code findById} results, including misses, are cached per id and {@code findAll} pages per normalized
+ * query. A write evicts the ids it touched and every cached page, since it may move categories between
+ * pages or change totals. Cached categories are copied on the way out, so callers can mutate what they get.
+ * <p>
+ * An {@link OffHeapCategoryStore} may back the per id cache as a second, much larger tier: categories
+ * evicted from the small on-heap tier are then decoded from direct memory instead of loaded again, and only
+ * the hot ones stay on the heap. The off-heap tier has no time to live and relies on invalidations alone.
+ * <p>
+ * Subscribed to domain events, it also evicts categories changed through other gateway instances.
+ */
+public class CachingCategoryGateway implements CategoryGateway, DomainEventSubscriber {
+
+    private final CategoryGateway delegate;
+    private final BoundedCache<CategoryId, Optional<Category>> categories;
+    private final BoundedCache<CategorySearchQuery, Pagination<Category>> pages;
+    // null without a second tier
+    private final OffHeapCategoryStore offHeap;
+
+    public CachingCategoryGateway(
+            final CategoryGateway delegate,
+            final long maximumCategories,
+            final long maximumPages,
+            final Duration ttl
+    ) {
+        this(delegate, maximumCategories, maximumPages, ttl, null);
+    }
+
+    public CachingCategoryGateway(
+            final CategoryGateway delegate,
+            final long maximumCategories,
+            final long maximumPages,
+            final Duration ttl,
+            final OffHeapCategoryStore offHeap
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.categories = new BoundedCache<>(maximumCategories, ttl);
+        this.pages = new BoundedCache<>(maximumPages, ttl);
+        this.offHeap = offHeap;
+    }
+
+    @Override
+    public Category create(final Category category) {
+        try {
+            return this.delegate.create(category);
+        } finally {
+            invalidate(category.getId());
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        try {
+            return this.delegate.createAll(categories);
+        } finally {
+            categories.forEach(category -> invalidateCategory(category.getId()));
+            this.pages.invalidateAll();
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        try {
+            this.delegate.deleteById(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return this.categories.get(id, this::load).map(Category::with);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        try {
+            return this.delegate.update(category);
+        } finally {
+            invalidate(category.getId());
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        final var page = this.pages.get(normalize(query), this.delegate::findAll);
+        final var items = new ArrayList<Category>(page.items().size());
+        page.items().forEach(category -> items.add(Category.with(category)));
+        return new Pagination<>(page.currentPage(), page.perPage(), page.total(), items);
+    }
+
+    @Override
+    public CursorPagination<Category> findAllAfter(final CategoryCursorQuery query) {
+        return this.delegate.findAllAfter(query);
+    }
+
+    @Override
+    public void onEvents(final List<DomainEvent> events) {
+        var changed = false;
+        for (final var event : events) {
+            if (event.aggregateId() instanceof CategoryId id) {
+                invalidateCategory(id);
+                changed = true;
+            }
+        }
+        if (changed) {
+            this.pages.invalidateAll();
+        }
+    }
+
+    public CacheStats categoryStats() {
+        return this.categories.stats();
+    }
+
+    public CacheStats pageStats() {
+        return this.pages.stats();
+    }
+
+    public Optional<CacheStats> offHeapStats() {
+        return Optional.ofNullable(this.offHeap).map(OffHeapCategoryStore::stats);
+    }
+
+    private Optional<Category> load(final CategoryId id) {
+        if (this.offHeap == null) {
+            return this.delegate.findById(id);
+        }
+        final var cached = this.offHeap.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        final var stamp = this.offHeap.stamp(id);
+        final var loaded = this.delegate.findById(id);
+        loaded.ifPresent(category -> this.offHeap.put(category, stamp));
+        return loaded;
+    }
+
+    private void invalidate(final CategoryId id) {
+        invalidateCategory(id);
+        this.pages.invalidateAll();
+    }
+
+    private void invalidateCategory(final CategoryId id) {
+        // the off-heap tier first, so the on-heap tier cannot be refilled from it with the old category
+        if (this.offHeap != null) {
+            this.offHeap.invalidate(id);
+        }
+        this.categories.invalidate(id);
+    }
+
+    private static CategorySearchQuery normalize(final CategorySearchQuery query) {
+        return new CategorySearchQuery(
+                query.page(),
+                query.perPage(),
+                normalize(query.terms()),
+                query.sort() == null || query.sort().isBlank() ? null : query.sort().trim(),
+                normalize(query.direction())
+        );
+    }
+
+    private static String normalize(final String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,107 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.infrastructure.codec.CategoryCodec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary encoding of the records written by {@link FileCategoryGateway}.
+ * <p>
+ * A record is a type byte followed, for {@link #CATEGORY}, by the category as encoded by {@link CategoryCodec}
+ * or, for {@link #DELETE}, by the category id: two longs when it is a UUID and a string otherwise.
+ */
+final class CategoryRecords {
+
+    static final byte DELETE = 2;
+    static final byte CATEGORY = 3;
+
+    private static final byte UUID_ID = 0;
+    private static final byte RAW_ID = 1;
+
+    private CategoryRecords() {
+    }
+
+    static ByteBuffer put(final Category category) {
+        final var buffer = ByteBuffer.allocate(1 + CategoryCodec.encodedSize(category));
+        buffer.put(CATEGORY);
+        CategoryCodec.encode(category, buffer);
+        return buffer.flip();
+    }
+
+    static ByteBuffer delete(final CategoryId id) {
+        final var buffer = ByteBuffer.allocate(1 + idSize(id));
+        buffer.put(DELETE);
+        putId(buffer, id);
+        return buffer.flip();
+    }
+
+    static byte type(final ByteBuffer record) {
+        return record.get(record.position());
+    }
+
+    static Category readCategory(final ByteBuffer record) {
+        final var buffer = record.duplicate();
+        final var type = buffer.get();
+        if (type != CATEGORY) {
+            throw new IllegalArgumentException("Record is not a category");
+        }
+        return CategoryCodec.decode(buffer);
+    }
+
+    static CategoryId readDeletedId(final ByteBuffer record) {
+        final var buffer = record.duplicate();
+        if (buffer.get() != DELETE) {
+            throw new IllegalArgumentException("Record is not a deletion");
+        }
+        return readId(buffer);
+    }
+
+    private static int idSize(final CategoryId id) {
+        return 1 + (id.isUuid() ? Long.BYTES * 2 : stringSize(bytes(id.getValue())));
+    }
+
+    private static void putId(final ByteBuffer buffer, final CategoryId id) {
+        if (id.isUuid()) {
+            buffer.put(UUID_ID).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+        } else {
+            buffer.put(RAW_ID);
+            putString(buffer, bytes(id.getValue()));
+        }
+    }
+
+    private static CategoryId readId(final ByteBuffer buffer) {
+        if (buffer.get() == UUID_ID) {
+            return CategoryId.from(buffer.getLong(), buffer.getLong());
+        }
+        return CategoryId.from(readString(buffer));
+    }
+
+    private static byte[] bytes(final String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int stringSize(final byte[] value) {
+        return Integer.BYTES + (value == null ? 0 : value.length);
+    }
+
+    private static void putString(final ByteBuffer buffer, final byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(value.length).put(value);
+        }
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final var length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final var value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
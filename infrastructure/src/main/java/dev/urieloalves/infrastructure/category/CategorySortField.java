@@ -0,0 +1,88 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryId;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * Fields a {@link dev.urieloalves.domain.category.CategorySearchQuery} can sort by. Ties are broken by id so
+ * that every category has a unique position in an index.
+ */
+public enum CategorySortField {
+
+    NAME("name", Category::getName) {
+        @Override
+        public Category probe(final String key, final CategoryId id) {
+            return Category.with(id, key, null, false, null, null, null);
+        }
+    },
+    CREATED_AT("createdAt", Category::getCreatedAt) {
+        @Override
+        public Category probe(final String key, final CategoryId id) {
+            return Category.with(id, null, null, false, parse(key), null, null);
+        }
+    },
+    UPDATED_AT("updatedAt", Category::getUpdatedAt) {
+        @Override
+        public Category probe(final String key, final CategoryId id) {
+            return Category.with(id, null, null, false, null, parse(key), null);
+        }
+    };
+
+    /**
+     * Sort value ordering search matches by relevance rather than by a field; without search terms it sorts
+     * by {@link #NAME}. Only supported by offset pagination, since scores depend on the query.
+     */
+    public static final String RELEVANCE = "relevance";
+
+    private final String value;
+    private final Function<Category, ?> extractor;
+    private final Comparator<Category> comparator;
+
+    <T extends Comparable<? super T>> CategorySortField(final String value, final Function<Category, T> extractor) {
+        this.value = value;
+        this.extractor = extractor;
+        this.comparator = Comparator.comparing(extractor, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Category::getId);
+    }
+
+    public static CategorySortField of(final String sort) {
+        if (sort == null || sort.isBlank()) {
+            return NAME;
+        }
+        for (final var field : values()) {
+            if (field.value.equalsIgnoreCase(sort)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort field '%s'".formatted(sort));
+    }
+
+    /**
+     * A category that sorts exactly where a category with this key and id would, used to seek an index.
+     */
+    public abstract Category probe(String key, CategoryId id);
+
+    /**
+     * The sort key of the category as a string {@link #probe(String, CategoryId)} understands.
+     */
+    public String keyOf(final Category category) {
+        final var key = this.extractor.apply(category);
+        return key == null ? null : key.toString();
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public Comparator<Category> comparator() {
+        return comparator;
+    }
+
+    private static Instant parse(final String key) {
+        return key == null ? null : Instant.parse(key);
+    }
+}
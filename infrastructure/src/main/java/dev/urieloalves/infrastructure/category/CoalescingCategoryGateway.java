@@ -0,0 +1,95 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryCursorQuery;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.pagination.CursorPagination;
+import dev.urieloalves.domain.pagination.Pagination;
+import dev.urieloalves.infrastructure.concurrent.StripedLock;
+import dev.urieloalves.infrastructure.concurrent.WriteCoalescer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serializes writes per category in front of another {@link CategoryGateway} and merges bursts of identical
+ * updates to the same category into one.
+ * <p>
+ * An update arriving while another update of the same category is pending joins it only when both were read
+ * at the same version and set the same name, description and active flag, so storing one stores both; every
+ * caller of the burst then shares its result, conflict included. Any other update is written on its own, and
+ * the delegate's optimistic locking decides between them exactly as without this gateway.
+ * <p>
+ * Deletes take the same per-category stripe, so they never interleave with an update's write.
+ */
+public class CoalescingCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final StripedLock locks;
+    private final WriteCoalescer<CategoryId, Category, Category> updates;
+
+    public CoalescingCategoryGateway(final CategoryGateway delegate, final int stripes, final Duration window) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.locks = new StripedLock(stripes);
+        this.updates = new WriteCoalescer<>(this.locks, window, CoalescingCategoryGateway::sameChange);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return this.delegate.create(category);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return this.delegate.createAll(categories);
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        this.locks.withLock(id, () -> {
+            this.delegate.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final var stored = this.updates.write(category.getId(), category, this.delegate::update);
+        // every caller of a burst shares the stored instance, so each gets its own copy
+        return Category.with(stored);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public CursorPagination<Category> findAllAfter(final CategoryCursorQuery query) {
+        return this.delegate.findAllAfter(query);
+    }
+
+    /**
+     * Updates merged instead of written.
+     */
+    public long coalesced() {
+        return this.updates.coalesced();
+    }
+
+    // updatedAt is left out: callers stamp it when they apply the change, so it never matches
+    private static boolean sameChange(final Category pending, final Category next) {
+        return pending.getVersion() == next.getVersion()
+                && pending.isActive() == next.isActive()
+                && Objects.equals(pending.getName(), next.getName())
+                && Objects.equals(pending.getDescription(), next.getDescription());
+    }
+}
@@ -0,0 +1,390 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryCursorQuery;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.pagination.CursorPagination;
+import dev.urieloalves.domain.pagination.Pagination;
+import dev.urieloalves.infrastructure.log.LogSettings;
+import dev.urieloalves.infrastructure.log.SegmentedLog;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+
+/**
+ * {@link CategoryGateway} that serves reads from an {@link InMemoryCategoryGateway} and makes every write
+ * durable in a {@link SegmentedLog} in {@code directory}.
+ * <p>
+ * A write is applied in memory first, which validates it, and then appended to the log while still holding
+ * the write lock, so the log order always matches the in-memory order. The caller then waits for the group
+ * commit outside the lock. If the log ever fails, every later write fails too, since memory and disk may
+ * have diverged.
+ * <p>
+ * Compaction seals the active segment, writes the categories current at that point as a snapshot and
+ * deletes the segments the snapshot covers. Snapshot records are framed and checksummed like log records.
+ * On startup the latest snapshot is loaded and only the segments written after it are replayed.
+ */
+public class FileCategoryGateway implements CategoryGateway, AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(FileCategoryGateway.class.getName());
+
+    private static final int RECORD_HEADER = Integer.BYTES * 2;
+    private static final Pattern SNAPSHOT = Pattern.compile("snapshot-(\\d{10})\\.snap");
+
+    private final Path directory;
+    private final InMemoryCategoryGateway memory = new InMemoryCategoryGateway();
+    private final Lock writes = new ReentrantLock();
+    private final Lock compaction = new ReentrantLock();
+    private final AtomicLong appendedSinceSnapshot = new AtomicLong();
+    private final SegmentedLog log;
+    private final ScheduledExecutorService compactor;
+    private volatile Throwable failure;
+
+    public FileCategoryGateway(final Path directory) {
+        this(directory, LogSettings.defaults(), Duration.ofMinutes(10));
+    }
+
+    /**
+     * @param compactionInterval how often to compact in the background, or {@link Duration#ZERO} to only
+     *                           compact when {@link #compact()} is called
+     */
+    public FileCategoryGateway(final Path directory, final LogSettings settings, final Duration compactionInterval) {
+        this.directory = Objects.requireNonNull(directory);
+        try {
+            Files.createDirectories(directory);
+            final var snapshot = latestSnapshot();
+            if (snapshot > 0) {
+                loadSnapshot(snapshot);
+            }
+            this.log = SegmentedLog.open(directory, settings, snapshot, this::replay);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (compactionInterval.isZero()) {
+            this.compactor = null;
+        } else {
+            this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final var thread = new Thread(runnable, "category-log-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            final var interval = compactionInterval.toMillis();
+            this.compactor.scheduleWithFixedDelay(() -> {
+                if (this.appendedSinceSnapshot.get() > 0 && this.failure == null) {
+                    try {
+                        compact();
+                    } catch (final RuntimeException e) {
+                        // thrown out of the task it would cancel every later run without a trace
+                        LOGGER.log(System.Logger.Level.ERROR, "Category log compaction failed", e);
+                    }
+                }
+            }, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final Category created;
+        final CompletableFuture<Void> written;
+        this.writes.lock();
+        try {
+            ensureWritable();
+            created = this.memory.create(category);
+            written = append(CategoryRecords.put(created));
+        } finally {
+            this.writes.unlock();
+        }
+        join(written);
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final List<Category> created;
+        final var written = new ArrayList<CompletableFuture<Void>>(categories.size());
+        this.writes.lock();
+        try {
+            ensureWritable();
+            created = this.memory.createAll(categories);
+            created.forEach(category -> written.add(append(CategoryRecords.put(category))));
+        } finally {
+            this.writes.unlock();
+        }
+        written.forEach(this::join);
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        CompletableFuture<Void> written = null;
+        this.writes.lock();
+        try {
+            ensureWritable();
+            if (this.memory.findById(id).isPresent()) {
+                this.memory.deleteById(id);
+                written = append(CategoryRecords.delete(id));
+            }
+        } finally {
+            this.writes.unlock();
+        }
+        if (written != null) {
+            join(written);
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return this.memory.findById(id);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final Category updated;
+        final CompletableFuture<Void> written;
+        this.writes.lock();
+        try {
+            ensureWritable();
+            updated = this.memory.update(category);
+            written = append(CategoryRecords.put(updated));
+        } finally {
+            this.writes.unlock();
+        }
+        join(written);
+        return updated;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.memory.findAll(query);
+    }
+
+    @Override
+    public CursorPagination<Category> findAllAfter(final CategoryCursorQuery query) {
+        return this.memory.findAllAfter(query);
+    }
+
+    /**
+     * Replaces every sealed segment with a snapshot of the current categories, dropping superseded versions
+     * and deleted categories from disk.
+     */
+    public void compact() {
+        this.compaction.lock();
+        try {
+            final CompletableFuture<Long> rolled;
+            final List<Category> categories;
+            this.writes.lock();
+            try {
+                ensureWritable();
+                rolled = this.log.roll();
+                categories = this.memory.snapshot();
+                this.appendedSinceSnapshot.set(0);
+            } finally {
+                this.writes.unlock();
+            }
+
+            final long segment = join(rolled);
+            writeSnapshot(segment, categories);
+            this.log.deleteSegmentsBefore(segment);
+            deleteSnapshotsBefore(segment);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            this.compaction.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.compactor != null) {
+            this.compactor.shutdown();
+            try {
+                this.compactor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        this.log.close();
+    }
+
+    private CompletableFuture<Void> append(final ByteBuffer record) {
+        this.appendedSinceSnapshot.incrementAndGet();
+        return this.log.append(record);
+    }
+
+    private void ensureWritable() {
+        if (this.failure != null) {
+            throw new IllegalStateException("Category log failed, refusing further writes", this.failure);
+        }
+    }
+
+    private <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            this.failure = e.getCause();
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private void replay(final ByteBuffer record) {
+        switch (CategoryRecords.type(record)) {
+            case CategoryRecords.CATEGORY -> this.memory.restore(CategoryRecords.readCategory(record));
+            case CategoryRecords.DELETE -> this.memory.deleteById(CategoryRecords.readDeletedId(record));
+            default -> throw new IllegalStateException("Unknown category record type %d".formatted(CategoryRecords.type(record)));
+        }
+    }
+
+    private void writeSnapshot(final long segment, final List<Category> categories) throws IOException {
+        final var target = this.directory.resolve(snapshotName(segment));
+        final var temporary = this.directory.resolve(snapshotName(segment) + ".tmp");
+        try (final var channel = FileChannel.open(
+                temporary,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+        )) {
+            final var buffer = ByteBuffer.allocateDirect(1 << 20);
+            final var crc = new CRC32C();
+            buffer.putInt(categories.size());
+            for (final var category : categories) {
+                final var record = CategoryRecords.put(category);
+                crc.reset();
+                crc.update(record.duplicate());
+                if (buffer.remaining() < RECORD_HEADER + record.remaining()) {
+                    drain(channel, buffer);
+                }
+                if (buffer.remaining() < RECORD_HEADER + record.remaining()) {
+                    buffer.putInt(record.remaining()).putInt((int) crc.getValue());
+                    drain(channel, buffer);
+                    while (record.hasRemaining()) {
+                        channel.write(record);
+                    }
+                } else {
+                    buffer.putInt(record.remaining()).putInt((int) crc.getValue()).put(record);
+                }
+            }
+            drain(channel, buffer);
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // streamed through a reused buffer rather than mapped, since a single mapping cannot exceed 2 GB
+    private void loadSnapshot(final long segment) throws IOException {
+        final var file = this.directory.resolve(snapshotName(segment));
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var buffer = ByteBuffer.allocateDirect(1 << 20).limit(0);
+            final var crc = new CRC32C();
+            buffer = fill(channel, buffer, Integer.BYTES);
+            final var count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                buffer = fill(channel, buffer, RECORD_HEADER);
+                final var length = buffer.getInt();
+                final var checksum = buffer.getInt();
+                if (length < 0) {
+                    throw new IOException("Corrupt snapshot %s: record %d has length %d".formatted(file, i, length));
+                }
+                buffer = fill(channel, buffer, length);
+                final var record = buffer.slice(buffer.position(), length);
+                crc.reset();
+                crc.update(record.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    throw new IOException("Corrupt snapshot %s: record %d fails its checksum".formatted(file, i));
+                }
+                this.memory.restore(CategoryRecords.readCategory(record));
+                buffer.position(buffer.position() + length);
+            }
+            if (buffer.hasRemaining() || channel.position() < channel.size()) {
+                throw new IOException("Corrupt snapshot %s: unexpected bytes after %d records".formatted(file, count));
+            }
+        }
+    }
+
+    private long latestSnapshot() throws IOException {
+        var latest = 0L;
+        for (final var snapshot : snapshots()) {
+            latest = Math.max(latest, snapshot);
+        }
+        return latest;
+    }
+
+    private void deleteSnapshotsBefore(final long segment) throws IOException {
+        for (final var snapshot : snapshots()) {
+            if (snapshot < segment) {
+                Files.deleteIfExists(this.directory.resolve(snapshotName(snapshot)));
+            }
+        }
+    }
+
+    private List<Long> snapshots() throws IOException {
+        final var snapshots = new ArrayList<Long>();
+        try (final var files = Files.list(this.directory)) {
+            files.forEach(file -> {
+                final var matcher = SNAPSHOT.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    snapshots.add(Long.parseLong(matcher.group(1)));
+                }
+            });
+        }
+        return snapshots;
+    }
+
+    // makes at least {@code bytes} readable, reading more of the file and growing the buffer when needed
+    private static ByteBuffer fill(final FileChannel channel, final ByteBuffer buffer, final int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return buffer;
+        }
+        var target = buffer;
+        if (buffer.capacity() < bytes) {
+            target = ByteBuffer.allocateDirect(Math.max(bytes, buffer.capacity() * 2)).put(buffer);
+        } else {
+            buffer.compact();
+        }
+        while (target.position() < bytes) {
+            if (channel.read(target) < 0) {
+                throw new EOFException("Snapshot ends in the middle of a record");
+            }
+        }
+        return target.flip();
+    }
+
+    private static void drain(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static String snapshotName(final long segment) {
+        return "snapshot-%010d.snap".formatted(segment);
+    }
+}
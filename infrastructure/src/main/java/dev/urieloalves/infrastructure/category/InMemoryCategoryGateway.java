@@ -0,0 +1,338 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryCursor;
+import dev.urieloalves.domain.category.CategoryCursorQuery;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.exceptions.DomainException;
+import dev.urieloalves.domain.exceptions.OptimisticLockException;
+import dev.urieloalves.domain.pagination.CursorPagination;
+import dev.urieloalves.domain.pagination.Pagination;
+import dev.urieloalves.infrastructure.search.InvertedIndex;
+import dev.urieloalves.infrastructure.search.Tokenizer;
+
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link CategoryGateway} that keeps every category in memory.
+ * <p>
+ * Stored categories are private copies, so callers mutating the instances they pass in or get back never
+ * corrupt the sorted indexes. Reads share a read lock and writes take the write lock.
+ * <p>
+ * Search terms are matched through an {@link InvertedIndex} over the name and description, and sorting by
+ * {@value CategorySortField#RELEVANCE} orders matches by how well they match, best first.
+ */
+public class InMemoryCategoryGateway implements CategoryGateway {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<CategoryId, Category> categories = new HashMap<>();
+    private final Map<CategorySortField, NavigableSet<Category>> indexes = new EnumMap<>(CategorySortField.class);
+    private final InvertedIndex<CategoryId> search = new InvertedIndex<>();
+
+    public InMemoryCategoryGateway() {
+        for (final var field : CategorySortField.values()) {
+            this.indexes.put(field, new TreeSet<>(field.comparator()));
+        }
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var copy = Category.with(Objects.requireNonNull(category));
+        this.lock.writeLock().lock();
+        try {
+            if (this.categories.containsKey(copy.getId())) {
+                throw new IllegalArgumentException("Category with ID %s already exists".formatted(copy.getId().getValue()));
+            }
+            index(copy);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+        return Category.with(copy);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var copies = new ArrayList<Category>(categories.size());
+        categories.forEach(category -> copies.add(Category.with(Objects.requireNonNull(category))));
+
+        this.lock.writeLock().lock();
+        try {
+            final var ids = new HashSet<CategoryId>(copies.size());
+            for (final var copy : copies) {
+                if (this.categories.containsKey(copy.getId()) || !ids.add(copy.getId())) {
+                    throw new IllegalArgumentException("Category with ID %s already exists".formatted(copy.getId().getValue()));
+                }
+            }
+            copies.forEach(this::index);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        final var created = new ArrayList<Category>(copies.size());
+        copies.forEach(copy -> created.add(Category.with(copy)));
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        this.lock.writeLock().lock();
+        try {
+            final var current = this.categories.get(id);
+            if (current != null) {
+                unindex(current);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        this.lock.readLock().lock();
+        try {
+            return Optional.ofNullable(this.categories.get(id)).map(Category::with);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final var copy = Objects.requireNonNull(category).nextVersion();
+        this.lock.writeLock().lock();
+        try {
+            final var current = this.categories.get(copy.getId());
+            if (current == null) {
+                throw new IllegalArgumentException("Category with ID %s was not found".formatted(copy.getId().getValue()));
+            }
+            if (current.getVersion() != category.getVersion()) {
+                throw OptimisticLockException.with("Category", copy.getId().getValue(), category.getVersion(), current.getVersion());
+            }
+            unindex(current);
+            index(copy);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+        return Category.with(copy);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        final var relevance = CategorySortField.RELEVANCE.equalsIgnoreCase(query.sort());
+        final var field = relevance ? CategorySortField.NAME : CategorySortField.of(query.sort());
+        final var descending = "desc".equalsIgnoreCase(query.direction());
+        final var page = Math.max(query.page(), 0);
+        final var perPage = Math.max(query.perPage(), 0);
+        final var offset = (long) page * perPage;
+        final var queryTerms = Tokenizer.tokenize(query.terms());
+
+        this.lock.readLock().lock();
+        try {
+            if (queryTerms.isEmpty()) {
+                final var index = descending ? this.indexes.get(field).descendingSet() : this.indexes.get(field);
+                return new Pagination<>(page, perPage, index.size(), slice(index, offset, perPage));
+            }
+            if (relevance) {
+                final var hits = this.search.rank(queryTerms);
+                final var matches = new ArrayList<Category>(hits.size());
+                hits.forEach(hit -> matches.add(this.categories.get(hit.key())));
+                return new Pagination<>(page, perPage, matches.size(), slice(matches, offset, perPage));
+            }
+
+            final var ids = this.search.match(queryTerms);
+            final var index = descending ? this.indexes.get(field).descendingSet() : this.indexes.get(field);
+            final var matches = ordered(ids, index, null, offset + perPage);
+            return new Pagination<>(page, perPage, ids.size(), slice(matches, offset, perPage));
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public CursorPagination<Category> findAllAfter(final CategoryCursorQuery query) {
+        final var field = CategorySortField.of(query.sort());
+        final var direction = "desc".equalsIgnoreCase(query.direction()) ? "desc" : "asc";
+        final var descending = "desc".equals(direction);
+        final var perPage = Math.max(query.perPage(), 0);
+        // one extra item tells whether there is a next page
+        final var limit = perPage == 0 ? 0 : perPage + 1;
+        final var queryTerms = Tokenizer.tokenize(query.terms());
+        final var after = query.cursor() == null ? null : probe(query.cursor(), field, direction);
+
+        final List<Category> items;
+        final long total;
+        this.lock.readLock().lock();
+        try {
+            if (queryTerms.isEmpty()) {
+                final var index = descending ? this.indexes.get(field).descendingSet() : this.indexes.get(field);
+                items = slice(after == null ? index : index.tailSet(after, false), 0, limit);
+                total = index.size();
+            } else {
+                final var ids = this.search.match(queryTerms);
+                final var index = descending ? this.indexes.get(field).descendingSet() : this.indexes.get(field);
+                items = slice(ordered(ids, index, after, limit), 0, limit);
+                total = ids.size();
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        String nextCursor = null;
+        if (items.size() > perPage) {
+            items.remove(perPage);
+            final var last = items.get(perPage - 1);
+            nextCursor = new CategoryCursor(field.getValue(), direction, field.keyOf(last), last.getId()).encode();
+        }
+        return new CursorPagination<>(
+                perPage,
+                nextCursor,
+                query.withTotal() ? OptionalLong.of(total) : OptionalLong.empty(),
+                items
+        );
+    }
+
+    /**
+     * Stores {@code category} as is, replacing any current version; used to rebuild state from a log.
+     */
+    void restore(final Category category) {
+        this.lock.writeLock().lock();
+        try {
+            final var current = this.categories.get(category.getId());
+            if (current != null) {
+                unindex(current);
+            }
+            index(category);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Current version of every category. Stored categories are never mutated, so the list is a consistent
+     * point-in-time view that can be read without holding the lock. Categories come in creation order, which
+     * keeps index inserts mostly appends when the view is restored.
+     */
+    List<Category> snapshot() {
+        this.lock.readLock().lock();
+        try {
+            return new ArrayList<>(this.indexes.get(CategorySortField.CREATED_AT));
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private static Category probe(final String token, final CategorySortField field, final String direction) {
+        final var cursor = CategoryCursor.decode(token);
+        if (!field.getValue().equals(cursor.sort()) || !direction.equals(cursor.direction())) {
+            throw DomainException.with(CategoryCursor.INVALID_CURSOR);
+        }
+        try {
+            return field.probe(cursor.key(), cursor.id());
+        } catch (final DateTimeParseException e) {
+            throw DomainException.with(CategoryCursor.INVALID_CURSOR);
+        }
+    }
+
+    private void index(final Category category) {
+        this.categories.put(category.getId(), category);
+        this.indexes.values().forEach(index -> index.add(category));
+        this.search.put(category.getId(), category.getName(), category.getDescription());
+    }
+
+    private void unindex(final Category category) {
+        this.categories.remove(category.getId());
+        this.indexes.values().forEach(index -> index.remove(category));
+        this.search.remove(category.getId());
+    }
+
+    /**
+     * The first {@code limit} of the matching categories in {@code index} order, after {@code after} if given.
+     * <p>
+     * Walks the sorted index, keeping the matching ones, when matches are dense enough for the walk to stop
+     * early; a few matches of a rare term are cheaper to sort than the whole index is to walk.
+     */
+    private List<Category> ordered(
+            final List<CategoryId> ids,
+            final NavigableSet<Category> index,
+            final Category after,
+            final long limit
+    ) {
+        if (ids.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        final var matches = ids.size();
+        final var walk = (double) limit * index.size() / matches;
+        final var sort = matches * (Math.log(matches) / Math.log(2) + 1);
+        if (walk <= sort) {
+            final var wanted = new HashSet<>(ids);
+            final var items = new ArrayList<Category>((int) Math.min(limit, matches));
+            for (final var category : after == null ? index : index.tailSet(after, false)) {
+                if (wanted.contains(category.getId())) {
+                    items.add(category);
+                    if (items.size() == limit || items.size() == matches) {
+                        break;
+                    }
+                }
+            }
+            return items;
+        }
+
+        final var sorted = new ArrayList<Category>(matches);
+        ids.forEach(id -> sorted.add(this.categories.get(id)));
+        sorted.sort(index.comparator());
+        var from = 0;
+        if (after != null) {
+            final var position = Collections.binarySearch(sorted, after, index.comparator());
+            from = position >= 0 ? position + 1 : -position - 1;
+        }
+        return sorted.subList(from, (int) Math.min(sorted.size(), from + limit));
+    }
+
+    private static List<Category> slice(final List<Category> categories, final long offset, final int perPage) {
+        if (perPage == 0 || offset >= categories.size()) {
+            return new ArrayList<>();
+        }
+        final var from = (int) offset;
+        final var to = (int) Math.min(categories.size(), offset + perPage);
+        final var items = new ArrayList<Category>(to - from);
+        categories.subList(from, to).forEach(category -> items.add(Category.with(category)));
+        return items;
+    }
+
+    private static List<Category> slice(final Collection<Category> categories, final long offset, final int perPage) {
+        if (perPage == 0) {
+            return new ArrayList<>();
+        }
+        // size() of a tailSet view walks the whole view, which would make keyset paging quadratic
+        final var items = new ArrayList<Category>(Math.min(perPage, 1_024));
+        var skipped = 0L;
+        for (final var category : categories) {
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            items.add(Category.with(category));
+            if (items.size() == perPage) {
+                break;
+            }
+        }
+        return items;
+    }
+}
@@ -0,0 +1,411 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryCursor;
+import dev.urieloalves.domain.category.CategoryCursorQuery;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.pagination.CursorPagination;
+import dev.urieloalves.domain.pagination.Pagination;
+import dev.urieloalves.infrastructure.concurrent.StripedLock;
+import dev.urieloalves.infrastructure.search.Tokenizer;
+import dev.urieloalves.infrastructure.sharding.ConsistentHashRing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * {@link CategoryGateway} that spreads categories over several shards by a consistent hash of their id.
+ * <p>
+ * Writes and {@code findById} go to the owning shard only. Searches ask every shard for its part of the
+ * page, on {@code executor}, and k-way merge the sorted answers; totals are the sum of the shard totals.
+ * An offset page {@code p} needs the first {@code (p + 1) * perPage} matches of every shard, so deep pages
+ * are better read with {@link #findAllAfter(CategoryCursorQuery)}. Shards rank relevance with their own
+ * term statistics, so relevance pages interleave the shard rankings instead of merging scores.
+ * <p>
+ * {@link #addShard(CategoryGateway)} grows the ring while the gateway keeps serving: categories whose owner
+ * changed are moved one by one, and until they are, reads fall back to their previous shard and a write
+ * moves its category first. A search running alongside a move may count the moving category twice in its
+ * total, never in its items. {@code createAll} is split per shard and not atomic across shards.
+ */
+public class ShardedCategoryGateway implements CategoryGateway {
+
+    public static final int VIRTUAL_NODES = 128;
+
+    private static final int MOVE_PAGE_SIZE = 1_000;
+
+    private final Executor executor;
+    private final StripedLock ids = new StripedLock(1_024);
+    // writers share it, a rebalance takes it only to switch rings, after every write routed by the old one
+    private final ReadWriteLock routes = new ReentrantReadWriteLock();
+    private final Lock rebalance = new ReentrantLock();
+    private volatile Routing routing;
+
+    public ShardedCategoryGateway(final List<? extends CategoryGateway> shards) {
+        this(shards, Runnable::run);
+    }
+
+    /**
+     * @param executor runs the per shard calls of a search; {@code Runnable::run} queries shards one after
+     *                 the other in the caller's thread
+     */
+    public ShardedCategoryGateway(final List<? extends CategoryGateway> shards, final Executor executor) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("'shards' should not be empty");
+        }
+        this.executor = Objects.requireNonNull(executor);
+        this.routing = new Routing(List.copyOf(shards), ConsistentHashRing.of(shards.size(), VIRTUAL_NODES), null);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        this.routes.readLock().lock();
+        try {
+            return this.routing.owner(category.getId()).create(category);
+        } finally {
+            this.routes.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        this.routes.readLock().lock();
+        try {
+            final var routing = this.routing;
+            final var batches = new HashMap<CategoryGateway, List<Category>>();
+            categories.forEach(category -> batches.computeIfAbsent(routing.owner(category.getId()), shard -> new ArrayList<>()).add(category));
+
+            final var created = new HashMap<CategoryId, Category>(categories.size());
+            batches.forEach((shard, batch) -> shard.createAll(batch).forEach(category -> created.put(category.getId(), category)));
+
+            final var results = new ArrayList<Category>(categories.size());
+            categories.forEach(category -> results.add(created.get(category.getId())));
+            return results;
+        } finally {
+            this.routes.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        this.routes.readLock().lock();
+        try {
+            this.ids.withLock(id, () -> {
+                final var routing = this.routing;
+                routing.owner(id).deleteById(id);
+                if (routing.previous() != null) {
+                    routing.previousOwner(id).deleteById(id);
+                }
+                return null;
+            });
+        } finally {
+            this.routes.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads without taking {@code routes}: a lookup that misses under a routing replaced in the meantime is
+     * retried with the current one, since a rebalance switches routing before it moves any category.
+     */
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        var routing = this.routing;
+        while (true) {
+            final var found = findById(routing, id);
+            final var current = this.routing;
+            if (found.isPresent() || current == routing) {
+                return found;
+            }
+            routing = current;
+        }
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final var id = category.getId();
+        this.routes.readLock().lock();
+        try {
+            return this.ids.withLock(id, () -> {
+                final var routing = this.routing;
+                if (routing.previous() != null) {
+                    move(routing, id);
+                }
+                return routing.owner(id).update(category);
+            });
+        } finally {
+            this.routes.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        final var page = Math.max(query.page(), 0);
+        final var perPage = Math.max(query.perPage(), 0);
+        final var offset = (long) page * perPage;
+        // every shard may hold the whole page, or none of it
+        final var shardQuery = new CategorySearchQuery(
+                0,
+                (int) Math.min(Integer.MAX_VALUE, offset + perPage),
+                query.terms(),
+                query.sort(),
+                query.direction()
+        );
+        final var pages = scatter(shard -> shard.findAll(shardQuery));
+
+        var total = 0L;
+        final var parts = new ArrayList<List<Category>>(pages.size());
+        for (final var shardPage : pages) {
+            total += shardPage.total();
+            parts.add(shardPage.items());
+        }
+
+        final var relevance = CategorySortField.RELEVANCE.equalsIgnoreCase(query.sort());
+        final List<Category> items;
+        if (relevance && !Tokenizer.tokenize(query.terms()).isEmpty()) {
+            items = interleave(parts, offset, perPage);
+        } else {
+            final var field = relevance ? CategorySortField.NAME : CategorySortField.of(query.sort());
+            items = merge(parts, comparator(field, query.direction()), offset, perPage);
+        }
+        return new Pagination<>(page, perPage, total, items);
+    }
+
+    @Override
+    public CursorPagination<Category> findAllAfter(final CategoryCursorQuery query) {
+        final var field = CategorySortField.of(query.sort());
+        final var direction = "desc".equalsIgnoreCase(query.direction()) ? "desc" : "asc";
+        final var perPage = Math.max(query.perPage(), 0);
+        final var pages = scatter(shard -> shard.findAllAfter(query));
+
+        var total = 0L;
+        var more = false;
+        final var parts = new ArrayList<List<Category>>(pages.size());
+        for (final var shardPage : pages) {
+            total += shardPage.total().orElse(0);
+            more |= shardPage.hasNext();
+            parts.add(shardPage.items());
+        }
+
+        // one extra item tells whether the merged page is the last one
+        final var items = merge(parts, comparator(field, direction), 0, perPage == 0 ? 0 : perPage + 1);
+        String nextCursor = null;
+        if (items.size() > perPage || (more && perPage > 0 && items.size() == perPage)) {
+            if (items.size() > perPage) {
+                items.remove(perPage);
+            }
+            final var last = items.get(perPage - 1);
+            nextCursor = new CategoryCursor(field.getValue(), direction, field.keyOf(last), last.getId()).encode();
+        }
+        return new CursorPagination<>(
+                perPage,
+                nextCursor,
+                query.withTotal() ? OptionalLong.of(total) : OptionalLong.empty(),
+                items
+        );
+    }
+
+    /**
+     * Adds {@code shard} to the ring and moves it the categories it now owns, about {@code 1 / shards()} of
+     * them. Returns once every one has moved; reads and writes keep being served meanwhile.
+     */
+    public void addShard(final CategoryGateway shard) {
+        Objects.requireNonNull(shard);
+        this.rebalance.lock();
+        try {
+            final var current = this.routing;
+            final var shards = new ArrayList<CategoryGateway>(current.shards());
+            shards.add(shard);
+            final var moving = new Routing(List.copyOf(shards), current.ring().withShard(), current.ring());
+
+            this.routes.writeLock().lock();
+            try {
+                this.routing = moving;
+            } finally {
+                this.routes.writeLock().unlock();
+            }
+
+            final var target = shards.size() - 1;
+            for (final var source : current.shards()) {
+                try (final var categories = source.streamAll(MOVE_PAGE_SIZE)) {
+                    categories.map(Category::getId)
+                            .filter(id -> moving.ring().shardOf(hash(id)) == target)
+                            .forEach(id -> this.ids.withLock(id, () -> {
+                                move(moving, id);
+                                return null;
+                            }));
+                }
+            }
+
+            this.routing = new Routing(moving.shards(), moving.ring(), null);
+        } finally {
+            this.rebalance.unlock();
+        }
+    }
+
+    private static Optional<Category> findById(final Routing routing, final CategoryId id) {
+        if (routing.previous() == null) {
+            return routing.owner(id).findById(id);
+        }
+        // a move creates the category on its new shard before deleting it from the old one, so looking in the
+        // old shard first never misses it
+        final var previous = routing.previousOwner(id).findById(id);
+        return previous.isPresent() ? previous : routing.owner(id).findById(id);
+    }
+
+    public int shards() {
+        return this.routing.shards().size();
+    }
+
+    /**
+     * Moves a category from its previous shard to its current one, if it is still on the previous one; must
+     * hold the id's stripe.
+     */
+    private static void move(final Routing routing, final CategoryId id) {
+        final var from = routing.previousOwner(id);
+        final var to = routing.owner(id);
+        if (from == to) {
+            return;
+        }
+        from.findById(id).ifPresent(category -> {
+            to.create(category);
+            from.deleteById(id);
+        });
+    }
+
+    private <T> List<T> scatter(final Function<CategoryGateway, T> call) {
+        final var shards = this.routing.shards();
+        final var calls = new ArrayList<CompletableFuture<T>>(shards.size());
+        shards.forEach(shard -> calls.add(CompletableFuture.supplyAsync(() -> call.apply(shard), this.executor)));
+
+        final var results = new ArrayList<T>(calls.size());
+        for (final var result : calls) {
+            try {
+                results.add(result.join());
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    private static Comparator<Category> comparator(final CategorySortField field, final String direction) {
+        return "desc".equalsIgnoreCase(direction) ? field.comparator().reversed() : field.comparator();
+    }
+
+    /**
+     * K-way merge of sorted lists, skipping the first {@code offset} categories and a category that shows up
+     * in two shards while it moves.
+     */
+    private static List<Category> merge(
+            final List<List<Category>> parts,
+            final Comparator<Category> comparator,
+            final long offset,
+            final int limit
+    ) {
+        final var items = new ArrayList<Category>(Math.min(limit, 1_024));
+        if (limit == 0) {
+            return items;
+        }
+        final var heads = new PriorityQueue<Head>(parts.size(), (a, b) -> comparator.compare(a.category, b.category));
+        parts.forEach(part -> Head.of(part.iterator()).ifPresent(heads::add));
+
+        var skipped = 0L;
+        CategoryId last = null;
+        while (!heads.isEmpty() && items.size() < limit) {
+            final var head = heads.poll();
+            final var category = head.category;
+            head.next().ifPresent(heads::add);
+            if (category.getId().equals(last)) {
+                continue;
+            }
+            last = category.getId();
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            items.add(category);
+        }
+        return items;
+    }
+
+    /**
+     * Takes the best remaining category of each shard in turn.
+     */
+    private static List<Category> interleave(final List<List<Category>> parts, final long offset, final int limit) {
+        final var items = new ArrayList<Category>(Math.min(limit, 1_024));
+        var skipped = 0L;
+        for (int rank = 0; items.size() < limit; rank++) {
+            var found = false;
+            for (final var part : parts) {
+                if (rank >= part.size()) {
+                    continue;
+                }
+                found = true;
+                if (skipped < offset) {
+                    skipped++;
+                } else if (items.size() < limit) {
+                    items.add(part.get(rank));
+                }
+            }
+            if (!found) {
+                break;
+            }
+        }
+        return items;
+    }
+
+    static long hash(final CategoryId id) {
+        return id.isUuid()
+                ? id.getMostSignificantBits() * 31 + id.getLeastSignificantBits()
+                : id.getValue().hashCode();
+    }
+
+    private record Routing(List<CategoryGateway> shards, ConsistentHashRing ring, ConsistentHashRing previous) {
+
+        CategoryGateway owner(final CategoryId id) {
+            return this.shards.get(this.ring.shardOf(hash(id)));
+        }
+
+        CategoryGateway previousOwner(final CategoryId id) {
+            return this.shards.get(this.previous.shardOf(hash(id)));
+        }
+    }
+
+    private static final class Head {
+
+        private final Category category;
+        private final Iterator<Category> rest;
+
+        private Head(final Category category, final Iterator<Category> rest) {
+            this.category = category;
+            this.rest = rest;
+        }
+
+        static Optional<Head> of(final Iterator<Category> iterator) {
+            return iterator.hasNext() ? Optional.of(new Head(iterator.next(), iterator)) : Optional.empty();
+        }
+
+        Optional<Head> next() {
+            return of(this.rest);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryCursorQuery;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.pagination.CursorPagination;
+import dev.urieloalves.domain.pagination.Pagination;
+import dev.urieloalves.infrastructure.cache.SingleFlight;
+import dev.urieloalves.infrastructure.metrics.MetricsRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces concurrent identical reads in front of another {@link CategoryGateway}: {@code findById} calls
+ * for the same id, and {@code findAll} calls with equal queries, arriving while one is in flight share its
+ * result instead of reaching the delegate. Nothing is kept once the call returns, so unlike
+ * {@link CachingCategoryGateway} it never serves a result older than the call it joined.
+ * <p>
+ * A write detaches the reads in flight it may affect, so reads arriving after it start over. Shared results
+ * are copied for every caller, who can mutate what they get.
+ */
+public class SingleFlightCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final SingleFlight<CategoryId, Optional<Category>> byId;
+    private final SingleFlight<CategorySearchQuery, Pagination<Category>> pages;
+
+    public SingleFlightCategoryGateway(final CategoryGateway delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.byId = new SingleFlight<>();
+        this.pages = new SingleFlight<>();
+    }
+
+    /**
+     * Also exports {@code gateway_flight_calls_total}, per method and {@code role}: {@code leader} for calls
+     * that reached the delegate, {@code follower} for calls that shared another's result.
+     */
+    public SingleFlightCategoryGateway(final CategoryGateway delegate, final String name, final MetricsRegistry registry) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.byId = new SingleFlight<>(calls(registry, name, "findById", "leader"), calls(registry, name, "findById", "follower"));
+        this.pages = new SingleFlight<>(calls(registry, name, "findAll", "leader"), calls(registry, name, "findAll", "follower"));
+    }
+
+    @Override
+    public Category create(final Category category) {
+        try {
+            return this.delegate.create(category);
+        } finally {
+            detach(category.getId());
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        try {
+            return this.delegate.createAll(categories);
+        } finally {
+            categories.forEach(category -> this.byId.forget(category.getId()));
+            this.pages.forgetAll();
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        try {
+            this.delegate.deleteById(id);
+        } finally {
+            detach(id);
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return this.byId.execute(id, () -> this.delegate.findById(id)).map(Category::with);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        try {
+            return this.delegate.update(category);
+        } finally {
+            detach(category.getId());
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        final var page = this.pages.execute(query, () -> this.delegate.findAll(query));
+        final var items = new ArrayList<Category>(page.items().size());
+        page.items().forEach(category -> items.add(Category.with(category)));
+        return new Pagination<>(page.currentPage(), page.perPage(), page.total(), items);
+    }
+
+    @Override
+    public CursorPagination<Category> findAllAfter(final CategoryCursorQuery query) {
+        return this.delegate.findAllAfter(query);
+    }
+
+    /**
+     * Share of reads served by another call's result, between 0 and 1.
+     */
+    public double coalescingRatio() {
+        final var followers = this.byId.followers() + this.pages.followers();
+        final var total = this.byId.leaders() + this.pages.leaders() + followers;
+        return total == 0 ? 0.0 : (double) followers / total;
+    }
+
+    private void detach(final CategoryId id) {
+        this.byId.forget(id);
+        this.pages.forgetAll();
+    }
+
+    private static LongAdder calls(final MetricsRegistry registry, final String name, final String method, final String role) {
+        return registry.counter("gateway_flight_calls_total", "gateway", name, "method", method, "role", role);
+    }
+}
@@ -0,0 +1,196 @@
+package dev.urieloalves.infrastructure.codec;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryId;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Compact binary encoding of a {@link Category}, shared by the log, snapshots and exports.
+ * <p>
+ * Version 1 layout, big-endian:
+ * <pre>
+ * byte   schema version
+ * byte   flags: raw id, active, then one null bit per instant and per string
+ * byte   one bit per instant whose nanos are not whole microseconds
+ * long   aggregate version
+ * id     two longs for a UUID id, otherwise a string
+ * long   epoch micros of each present instant, followed by a short with the remaining nanos if flagged
+ * string name, then description, if present: an int length and UTF-8 bytes
+ * </pre>
+ * Fixed-size fields come first, so {@link CategoryView} finds any of them without reading the strings.
+ * Decoders reject schema versions they do not know rather than misreading them.
+ */
+public final class CategoryCodec {
+
+    public static final byte SCHEMA_VERSION = 1;
+
+    static final int RAW_ID = 1;
+    static final int ACTIVE = 1 << 1;
+    static final int NO_CREATED_AT = 1 << 2;
+    static final int NO_UPDATED_AT = 1 << 3;
+    static final int NO_DELETED_AT = 1 << 4;
+    static final int NO_NAME = 1 << 5;
+    static final int NO_DESCRIPTION = 1 << 6;
+
+    static final int HEADER_BYTES = 3 + Long.BYTES;
+
+    private CategoryCodec() {
+    }
+
+    public static int encodedSize(final Category category) {
+        final var id = category.getId();
+        var size = HEADER_BYTES + (id.isUuid() ? 2 * Long.BYTES : Integer.BYTES + utf8Length(id.getValue()));
+        size += instantSize(category.getCreatedAt()) + instantSize(category.getUpdatedAt()) + instantSize(category.getDeletedAt());
+        size += stringSize(category.getName()) + stringSize(category.getDescription());
+        return size;
+    }
+
+    /**
+     * Writes {@code category} at the position of {@code out}, which must have {@link #encodedSize(Category)}
+     * bytes remaining, and advances it.
+     */
+    public static void encode(final Category category, final ByteBuffer out) {
+        final var id = category.getId();
+        var flags = id.isUuid() ? 0 : RAW_ID;
+        flags |= category.isActive() ? ACTIVE : 0;
+        flags |= category.getCreatedAt() == null ? NO_CREATED_AT : 0;
+        flags |= category.getUpdatedAt() == null ? NO_UPDATED_AT : 0;
+        flags |= category.getDeletedAt() == null ? NO_DELETED_AT : 0;
+        flags |= category.getName() == null ? NO_NAME : 0;
+        flags |= category.getDescription() == null ? NO_DESCRIPTION : 0;
+        final var precision = subMicros(category.getCreatedAt(), 0)
+                | subMicros(category.getUpdatedAt(), 1)
+                | subMicros(category.getDeletedAt(), 2);
+
+        out.put(SCHEMA_VERSION).put((byte) flags).put((byte) precision).putLong(category.getVersion());
+        if (id.isUuid()) {
+            out.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+        } else {
+            putString(out, id.getValue());
+        }
+        putInstant(out, category.getCreatedAt());
+        putInstant(out, category.getUpdatedAt());
+        putInstant(out, category.getDeletedAt());
+        if (category.getName() != null) {
+            putString(out, category.getName());
+        }
+        if (category.getDescription() != null) {
+            putString(out, category.getDescription());
+        }
+    }
+
+    public static ByteBuffer encode(final Category category) {
+        final var out = ByteBuffer.allocate(encodedSize(category));
+        encode(category, out);
+        return out.flip();
+    }
+
+    /**
+     * Reads a category at the position of {@code in} and advances past it.
+     *
+     * @throws IllegalArgumentException if it was written with an unknown schema version
+     */
+    public static Category decode(final ByteBuffer in) {
+        final var view = new CategoryView().wrap(in, in.position());
+        in.position(in.position() + view.size());
+        return view.toCategory();
+    }
+
+    static CategoryId readId(final ByteBuffer buffer, final int offset, final boolean raw) {
+        return raw
+                ? CategoryId.from(readString(buffer, offset))
+                : CategoryId.from(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES));
+    }
+
+    static Instant readInstant(final ByteBuffer buffer, final int offset, final boolean subMicros) {
+        final var micros = buffer.getLong(offset);
+        final var nanos = Math.floorMod(micros, 1_000_000L) * 1_000L + (subMicros ? buffer.getShort(offset + Long.BYTES) : 0);
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), nanos);
+    }
+
+    static String readString(final ByteBuffer buffer, final int offset) {
+        final var length = buffer.getInt(offset);
+        final var start = offset + Integer.BYTES;
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, length, StandardCharsets.UTF_8);
+        }
+        final var bytes = new byte[length];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int subMicros(final Instant instant, final int bit) {
+        return instant != null && instant.getNano() % 1_000 != 0 ? 1 << bit : 0;
+    }
+
+    private static int instantSize(final Instant instant) {
+        if (instant == null) {
+            return 0;
+        }
+        return Long.BYTES + (instant.getNano() % 1_000 != 0 ? Short.BYTES : 0);
+    }
+
+    private static void putInstant(final ByteBuffer out, final Instant instant) {
+        if (instant == null) {
+            return;
+        }
+        out.putLong(Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000));
+        if (instant.getNano() % 1_000 != 0) {
+            out.putShort((short) (instant.getNano() % 1_000));
+        }
+    }
+
+    private static int stringSize(final String value) {
+        return value == null ? 0 : Integer.BYTES + utf8Length(value);
+    }
+
+    // encoded like String.getBytes(UTF_8), unpaired surrogates becoming '?', without the intermediate array
+    private static void putString(final ByteBuffer out, final String value) {
+        out.putInt(utf8Length(value));
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    final var codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    out.put((byte) (0xF0 | codePoint >> 18))
+                            .put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                            .put((byte) (0x80 | codePoint >> 6 & 0x3F))
+                            .put((byte) (0x80 | codePoint & 0x3F));
+                } else {
+                    out.put((byte) '?');
+                }
+            } else {
+                out.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    private static int utf8Length(final String value) {
+        var length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else {
+                    length++;
+                }
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
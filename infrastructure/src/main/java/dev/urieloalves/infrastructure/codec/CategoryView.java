@@ -0,0 +1,123 @@
+package dev.urieloalves.infrastructure.codec;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryId;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+/**
+ * Flyweight over a category encoded by {@link CategoryCodec}: fields are read from the buffer when asked
+ * for, so checking a flag or the version of a cached or logged category allocates nothing. One view can be
+ * {@link #wrap(ByteBuffer, int) rewrapped} over many records; it never changes the buffer or its position.
+ */
+public final class CategoryView {
+
+    private ByteBuffer buffer;
+    private int offset;
+    private int flags;
+    private int precision;
+    private int createdAt;
+    private int updatedAt;
+    private int deletedAt;
+    private int name;
+    private int description;
+    private int end;
+
+    /**
+     * Points this view at the category encoded at {@code offset}.
+     *
+     * @throws IllegalArgumentException if it was written with an unknown schema version
+     */
+    public CategoryView wrap(final ByteBuffer buffer, final int offset) {
+        final var version = buffer.get(offset);
+        if (version != CategoryCodec.SCHEMA_VERSION) {
+            throw new IllegalArgumentException("Unsupported category schema version %d".formatted(version));
+        }
+        this.buffer = buffer;
+        this.offset = offset;
+        this.flags = buffer.get(offset + 1);
+        this.precision = buffer.get(offset + 2);
+
+        final var id = offset + CategoryCodec.HEADER_BYTES;
+        var position = id + (has(CategoryCodec.RAW_ID) ? Integer.BYTES + buffer.getInt(id) : 2 * Long.BYTES);
+        this.createdAt = has(CategoryCodec.NO_CREATED_AT) ? -1 : position;
+        position += instantSize(CategoryCodec.NO_CREATED_AT, 0);
+        this.updatedAt = has(CategoryCodec.NO_UPDATED_AT) ? -1 : position;
+        position += instantSize(CategoryCodec.NO_UPDATED_AT, 1);
+        this.deletedAt = has(CategoryCodec.NO_DELETED_AT) ? -1 : position;
+        position += instantSize(CategoryCodec.NO_DELETED_AT, 2);
+        this.name = has(CategoryCodec.NO_NAME) ? -1 : position;
+        position += has(CategoryCodec.NO_NAME) ? 0 : Integer.BYTES + buffer.getInt(position);
+        this.description = has(CategoryCodec.NO_DESCRIPTION) ? -1 : position;
+        position += has(CategoryCodec.NO_DESCRIPTION) ? 0 : Integer.BYTES + buffer.getInt(position);
+        this.end = position;
+        return this;
+    }
+
+    /**
+     * Encoded length of the category in bytes.
+     */
+    public int size() {
+        return this.end - this.offset;
+    }
+
+    public long version() {
+        return this.buffer.getLong(this.offset + 3);
+    }
+
+    public boolean isActive() {
+        return has(CategoryCodec.ACTIVE);
+    }
+
+    public boolean isDeleted() {
+        return this.deletedAt >= 0;
+    }
+
+    public CategoryId id() {
+        return CategoryCodec.readId(this.buffer, this.offset + CategoryCodec.HEADER_BYTES, has(CategoryCodec.RAW_ID));
+    }
+
+    public String name() {
+        return this.name < 0 ? null : CategoryCodec.readString(this.buffer, this.name);
+    }
+
+    public String description() {
+        return this.description < 0 ? null : CategoryCodec.readString(this.buffer, this.description);
+    }
+
+    public Instant createdAt() {
+        return this.createdAt < 0 ? null : CategoryCodec.readInstant(this.buffer, this.createdAt, subMicros(0));
+    }
+
+    public Instant updatedAt() {
+        return this.updatedAt < 0 ? null : CategoryCodec.readInstant(this.buffer, this.updatedAt, subMicros(1));
+    }
+
+    public Instant deletedAt() {
+        return this.deletedAt < 0 ? null : CategoryCodec.readInstant(this.buffer, this.deletedAt, subMicros(2));
+    }
+
+    /**
+     * Epoch microseconds of {@link #updatedAt()}, or {@link Long#MIN_VALUE} when absent, without allocating.
+     */
+    public long updatedAtMicros() {
+        return this.updatedAt < 0 ? Long.MIN_VALUE : this.buffer.getLong(this.updatedAt);
+    }
+
+    public Category toCategory() {
+        return Category.with(id(), name(), description(), isActive(), createdAt(), updatedAt(), deletedAt(), version());
+    }
+
+    private boolean has(final int flag) {
+        return (this.flags & flag) != 0;
+    }
+
+    private boolean subMicros(final int instant) {
+        return (this.precision & 1 << instant) != 0;
+    }
+
+    private int instantSize(final int absentFlag, final int instant) {
+        return has(absentFlag) ? 0 : Long.BYTES + (subMicros(instant) ? Short.BYTES : 0);
+    }
+}
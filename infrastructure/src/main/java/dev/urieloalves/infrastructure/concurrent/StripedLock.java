@@ -0,0 +1,58 @@
+package dev.urieloalves.infrastructure.concurrent;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * A fixed set of locks shared by an unbounded set of keys: a key always maps to the same lock, so work on one
+ * key is serialized while work on keys that land on different stripes runs in parallel. Keys that share a
+ * stripe serialize as well, which is what bounds the memory.
+ */
+public class StripedLock {
+
+    private final Lock[] stripes;
+    private final int mask;
+
+    /**
+     * @param stripes rounded up to the next power of two
+     */
+    public StripedLock(final int stripes) {
+        if (stripes <= 0 || stripes > 1 << 30) {
+            throw new IllegalArgumentException("'stripes' should be between 1 and 2^30");
+        }
+        final var size = ceilingPowerOfTwo(stripes);
+        this.stripes = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    public Lock get(final Object key) {
+        return this.stripes[index(key)];
+    }
+
+    public <T> T withLock(final Object key, final Supplier<T> action) {
+        final var lock = get(key);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return this.stripes.length;
+    }
+
+    int index(final Object key) {
+        final var hash = key.hashCode() * 0x9E3779B9;
+        return (hash ^ hash >>> 16) & this.mask;
+    }
+
+    private static int ceilingPowerOfTwo(final int value) {
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
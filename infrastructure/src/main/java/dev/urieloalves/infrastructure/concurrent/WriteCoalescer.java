@@ -0,0 +1,117 @@
+package dev.urieloalves.infrastructure.concurrent;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Collapses concurrent identical writes to the same key into one.
+ * <p>
+ * The first caller for a key opens a batch and leads it: it waits for {@code window} if one is set, then takes
+ * the key's stripe, closes the batch and writes its value. Callers arriving before the batch closes with a
+ * value {@code identical} to the batch's join it and wait for the leader's result or failure; any other value
+ * is written by its caller alone, under the same stripe. Writes to the same key never overlap, no value is
+ * dropped in favour of another, and a burst of identical writes that piles up behind a slow one becomes a
+ * single write.
+ */
+public class WriteCoalescer<K, V, R> {
+
+    private final ConcurrentHashMap<K, Batch<V, R>> pending = new ConcurrentHashMap<>();
+    private final StripedLock locks;
+    private final long windowNanos;
+    private final BiPredicate<? super V, ? super V> identical;
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * @param identical whether writing a later caller's value would store the same as the batch's value
+     */
+    public WriteCoalescer(final StripedLock locks, final Duration window, final BiPredicate<? super V, ? super V> identical) {
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("'window' should not be negative");
+        }
+        this.locks = Objects.requireNonNull(locks);
+        this.windowNanos = window.toNanos();
+        this.identical = Objects.requireNonNull(identical);
+    }
+
+    public R write(final K key, final V value, final Function<? super V, ? extends R> writer) {
+        final var opened = new Batch<V, R>(value);
+        final var batch = this.pending.putIfAbsent(key, opened);
+        if (batch != null) {
+            if (this.identical.test(batch.value, value)) {
+                this.coalesced.increment();
+                return await(batch.result);
+            }
+            return writeAlone(key, value, writer);
+        }
+
+        // waited out before taking the stripe, which other keys and deletes hashing there share
+        if (this.windowNanos > 0) {
+            LockSupport.parkNanos(this.windowNanos);
+        }
+        final var lock = this.locks.get(key);
+        lock.lock();
+        try {
+            // once removed no one can join
+            this.pending.remove(key, opened);
+            final R result;
+            try {
+                result = writer.apply(value);
+            } catch (final Throwable t) {
+                opened.result.completeExceptionally(t);
+                throw t;
+            }
+            opened.result.complete(result);
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Calls that shared another caller's identical write instead of writing themselves.
+     */
+    public long coalesced() {
+        return this.coalesced.sum();
+    }
+
+    private R writeAlone(final K key, final V value, final Function<? super V, ? extends R> writer) {
+        final var lock = this.locks.get(key);
+        lock.lock();
+        try {
+            return writer.apply(value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static <R> R await(final CompletableFuture<R> result) {
+        try {
+            return result.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Batch<V, R> {
+
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+        private final V value;
+
+        private Batch(final V value) {
+            this.value = value;
+        }
+    }
+}
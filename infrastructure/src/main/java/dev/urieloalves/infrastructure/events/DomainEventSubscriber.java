@@ -0,0 +1,15 @@
+package dev.urieloalves.infrastructure.events;
+
+import dev.urieloalves.domain.events.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Receives published events in batches. Events of one aggregate arrive in the order they were published;
+ * the list is only valid during the call.
+ */
+@FunctionalInterface
+public interface DomainEventSubscriber {
+
+    void onEvents(List<DomainEvent> events);
+}
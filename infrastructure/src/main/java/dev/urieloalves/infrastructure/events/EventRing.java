@@ -0,0 +1,80 @@
+package dev.urieloalves.infrastructure.events;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free queue for many producers and one consumer.
+ * <p>
+ * Each slot carries a sequence number: a producer claims a position with a CAS on {@code tail}, writes the
+ * element and then publishes the slot by advancing its sequence, which is what the consumer waits on. The
+ * consumer frees the slot by moving its sequence one lap ahead.
+ */
+final class EventRing<T> {
+
+    private final int mask;
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    EventRing(final int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("'capacity' should be a power of two");
+        }
+        this.mask = capacity - 1;
+        this.elements = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            this.sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds {@code element} unless the ring is full. Safe to call from any thread.
+     */
+    boolean offer(final T element) {
+        while (true) {
+            final var position = this.tail.get();
+            final var index = (int) position & this.mask;
+            final var gap = this.sequences.get(index) - position;
+            if (gap == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.elements[index] = element;
+                    this.sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (gap < 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code max} published elements into {@code batch}, in order. Consumer thread only.
+     */
+    @SuppressWarnings("unchecked")
+    int drainTo(final List<? super T> batch, final int max) {
+        var drained = 0;
+        while (drained < max) {
+            final var index = (int) this.head & this.mask;
+            if (this.sequences.get(index) != this.head + 1) {
+                break;
+            }
+            batch.add((T) this.elements[index]);
+            this.elements[index] = null;
+            this.sequences.set(index, this.head + this.elements.length);
+            this.head++;
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Whether no element is published; from the consumer's point of view.
+     */
+    boolean isEmpty() {
+        return this.sequences.get((int) this.head & this.mask) != this.head + 1;
+    }
+}
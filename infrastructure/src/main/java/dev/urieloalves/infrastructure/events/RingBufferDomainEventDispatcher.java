@@ -0,0 +1,176 @@
+package dev.urieloalves.infrastructure.events;
+
+import dev.urieloalves.domain.events.DomainEvent;
+import dev.urieloalves.domain.events.DomainEventPublisher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process {@link DomainEventPublisher} that hands events to {@link DomainEventSubscriber}s on background
+ * threads.
+ * <p>
+ * Events are spread over {@code partitions} {@link EventRing}s by aggregate id, each drained by its own
+ * thread, so events of one aggregate are delivered in publish order while different aggregates proceed in
+ * parallel. Publishing is a CAS and an array write; the consumer delivers whatever has accumulated, up to
+ * {@code maxBatchSize}, in one call per subscriber. When a ring is full publishers wait for it to drain
+ * instead of dropping events or growing without bound. Once closed, events are dropped and counted rather
+ * than failing a publisher whose write has already succeeded.
+ */
+public class RingBufferDomainEventDispatcher implements DomainEventPublisher, AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(RingBufferDomainEventDispatcher.class.getName());
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final List<DomainEventSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Partition[] partitions;
+    private final int maxBatchSize;
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean closed;
+    private volatile boolean stopped;
+
+    public RingBufferDomainEventDispatcher() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), 8_192, 256);
+    }
+
+    public RingBufferDomainEventDispatcher(final int partitions, final int capacity, final int maxBatchSize) {
+        if (partitions <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("'partitions' and 'maxBatchSize' should be greater than zero");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.partitions = new Partition[partitions];
+        for (int i = 0; i < partitions; i++) {
+            this.partitions[i] = new Partition(new EventRing<>(capacity), i);
+        }
+        for (final var partition : this.partitions) {
+            partition.thread.start();
+        }
+    }
+
+    public void subscribe(final DomainEventSubscriber subscriber) {
+        this.subscribers.add(Objects.requireNonNull(subscriber));
+    }
+
+    /**
+     * Queues {@code event} for delivery, waiting while its partition is full, or drops it if the dispatcher is
+     * closed.
+     */
+    @Override
+    public void publishEvent(final DomainEvent event) {
+        final var partition = this.partitions[Math.floorMod(event.aggregateId().hashCode(), this.partitions.length)];
+        // registered before the closed check, so close() cannot stop the consumer under a pending offer
+        partition.publishing.incrementAndGet();
+        try {
+            if (this.closed) {
+                this.dropped.increment();
+                return;
+            }
+            while (!partition.ring.offer(event)) {
+                if (this.closed) {
+                    this.dropped.increment();
+                    return;
+                }
+                // backpressure: let the consumer catch up
+                LockSupport.unpark(partition.thread);
+                Thread.yield();
+            }
+        } finally {
+            partition.publishing.decrementAndGet();
+        }
+        partition.wakeUp();
+    }
+
+    /**
+     * Events published after {@link #close()} was called and never delivered.
+     */
+    public long droppedEvents() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * Stops accepting events and returns once every queued event has been delivered. Events published while
+     * closing may be dropped.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        for (final var partition : this.partitions) {
+            // publishers past the closed check either land their event or drop it before consumers stop
+            while (partition.publishing.get() != 0) {
+                LockSupport.unpark(partition.thread);
+                Thread.yield();
+            }
+        }
+        this.stopped = true;
+        for (final var partition : this.partitions) {
+            LockSupport.unpark(partition.thread);
+        }
+        for (final var partition : this.partitions) {
+            try {
+                partition.thread.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void deliver(final List<DomainEvent> batch) {
+        final var events = Collections.unmodifiableList(batch);
+        for (final var subscriber : this.subscribers) {
+            try {
+                subscriber.onEvents(events);
+            } catch (final RuntimeException e) {
+                // one failing subscriber must not starve the others or stop the partition
+                LOGGER.log(System.Logger.Level.ERROR, "Domain event subscriber failed", e);
+            }
+        }
+    }
+
+    private final class Partition implements Runnable {
+
+        private final EventRing<DomainEvent> ring;
+        private final Thread thread;
+        private final AtomicInteger publishing = new AtomicInteger();
+        private volatile boolean sleeping;
+
+        private Partition(final EventRing<DomainEvent> ring, final int index) {
+            this.ring = ring;
+            this.thread = new Thread(this, "domain-events-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        private void wakeUp() {
+            if (this.sleeping) {
+                LockSupport.unpark(this.thread);
+            }
+        }
+
+        @Override
+        public void run() {
+            final var batch = new ArrayList<DomainEvent>(maxBatchSize);
+            while (true) {
+                if (this.ring.drainTo(batch, maxBatchSize) > 0) {
+                    deliver(batch);
+                    batch.clear();
+                    continue;
+                }
+                if (stopped && this.ring.isEmpty()) {
+                    return;
+                }
+                this.sleeping = true;
+                if (this.ring.isEmpty() && !stopped) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                this.sleeping = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package dev.urieloalves.infrastructure.exporter;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.infrastructure.api.CategoryJson;
+import dev.urieloalves.infrastructure.api.json.JsonWriter;
+import dev.urieloalves.infrastructure.codec.CategoryCodec;
+import dev.urieloalves.infrastructure.io.DirectBufferPool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Writes a stream of categories to a channel as it is consumed, so exporting the whole catalog through
+ * {@link dev.urieloalves.domain.category.CategoryGateway#streamAll(int)} holds one gateway page and one
+ * output buffer at a time. Output buffers are borrowed from a {@link DirectBufferPool} and handed straight to
+ * the channel, without an intermediate heap copy.
+ */
+public class CategoryExporter {
+
+    public static final byte[] BINARY_MAGIC = {'C', 'A', 'T', '1'};
+
+    // JSON is built in chunks of about this many chars, each encoded to UTF-8 straight into the output buffer
+    private static final int JSON_CHUNK = 8 * 1024;
+
+    private final DirectBufferPool buffers;
+
+    public CategoryExporter(final DirectBufferPool buffers) {
+        this.buffers = Objects.requireNonNull(buffers);
+    }
+
+    /**
+     * @return the number of categories written
+     */
+    public long export(final Stream<Category> categories, final ExportFormat format, final WritableByteChannel out) throws IOException {
+        final var buffer = this.buffers.acquire();
+        try {
+            final var iterator = categories.iterator();
+            final var count = switch (format) {
+                case NDJSON -> writeJson(iterator, buffer, out);
+                case BINARY -> writeBinary(iterator, buffer, out);
+            };
+            drain(buffer, out);
+            return count;
+        } finally {
+            this.buffers.release(buffer);
+        }
+    }
+
+    private static long writeJson(final Iterator<Category> categories, final ByteBuffer buffer, final WritableByteChannel out) throws IOException {
+        final var chars = new StringBuilder(JSON_CHUNK + 1_024);
+        // replaces unpaired surrogates with '?', as String.getBytes does
+        final var encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        var count = 0L;
+        while (categories.hasNext()) {
+            CategoryJson.write(new JsonWriter(chars), categories.next());
+            chars.append('\n');
+            count++;
+            if (chars.length() >= JSON_CHUNK) {
+                encode(chars, encoder, buffer, out);
+                chars.setLength(0);
+            }
+        }
+        encode(chars, encoder, buffer, out);
+        return count;
+    }
+
+    // chunks end on a line break, so each one is complete input and no surrogate pair is split across two
+    private static void encode(final CharSequence chars, final CharsetEncoder encoder, final ByteBuffer buffer, final WritableByteChannel out) throws IOException {
+        final var input = CharBuffer.wrap(chars);
+        encoder.reset();
+        while (encoder.encode(input, buffer, true).isOverflow()) {
+            drain(buffer, out);
+        }
+        while (encoder.flush(buffer).isOverflow()) {
+            drain(buffer, out);
+        }
+    }
+
+    private static long writeBinary(final Iterator<Category> categories, final ByteBuffer buffer, final WritableByteChannel out) throws IOException {
+        put(BINARY_MAGIC, buffer, out);
+        var count = 0L;
+        while (categories.hasNext()) {
+            final var category = categories.next();
+            final var size = CategoryCodec.encodedSize(category);
+            if (buffer.remaining() < Integer.BYTES + size) {
+                drain(buffer, out);
+            }
+            if (buffer.remaining() < Integer.BYTES + size) {
+                final var record = ByteBuffer.allocate(Integer.BYTES + size).putInt(size);
+                CategoryCodec.encode(category, record);
+                put(record.array(), buffer, out);
+            } else {
+                // encoded straight into the direct buffer, without a heap copy
+                CategoryCodec.encode(category, buffer.putInt(size));
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private static void put(final byte[] bytes, final ByteBuffer buffer, final WritableByteChannel out) throws IOException {
+        var offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                drain(buffer, out);
+            }
+            final var length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    private static void drain(final ByteBuffer buffer, final WritableByteChannel out) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+}
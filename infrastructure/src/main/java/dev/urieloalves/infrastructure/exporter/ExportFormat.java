@@ -0,0 +1,30 @@
+package dev.urieloalves.infrastructure.exporter;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+public enum ExportFormat {
+
+    /**
+     * One JSON object per line, with the fields of {@code GET /categories/{id}}.
+     */
+    NDJSON,
+
+    /**
+     * The {@link CategoryExporter#BINARY_MAGIC magic bytes} followed by {@code [int length][category]} frames
+     * until the end of the stream, each category encoded by
+     * {@link dev.urieloalves.infrastructure.codec.CategoryCodec}.
+     */
+    BINARY;
+
+    public static ExportFormat of(final Path file) {
+        final var name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        if (name.endsWith(".bin")) {
+            return BINARY;
+        }
+        throw new IllegalArgumentException("Unknown export format for %s".formatted(file));
+    }
+}
@@ -0,0 +1,163 @@
+package dev.urieloalves.infrastructure.filter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counting Bloom filter over 64-bit key hashes: it may say a key is present when it is not, never the
+ * opposite, and unlike a plain Bloom filter it supports removal.
+ * <p>
+ * Each of the {@code m} positions is a 4-bit counter, sixteen to a {@code long}, updated with compare and
+ * set so every method is safe to call concurrently without locks. A counter that reaches 15 sticks there,
+ * since after an overflow it can no longer tell how many keys it holds; removing a key that was never added
+ * is ignored where its counters are already zero. Both can only cost false positives.
+ */
+public final class CountingBloomFilter {
+
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long COUNTER_MASK = 0xFL;
+    private static final long MAX_COUNT = 15;
+    private static final long MAX_COUNTERS = (long) Integer.MAX_VALUE * COUNTERS_PER_WORD;
+
+    private final AtomicLongArray words;
+    private final long counters;
+    private final int hashes;
+    private final LongAdder occupied = new LongAdder();
+    private final LongAdder size = new LongAdder();
+
+    private CountingBloomFilter(final long counters, final int hashes) {
+        this.counters = counters;
+        this.hashes = hashes;
+        this.words = new AtomicLongArray((int) ((counters + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD));
+    }
+
+    /**
+     * A filter sized for {@code expectedKeys} keys at the given false positive rate, taking half a byte per
+     * counter: about 4.8 bytes per key at 1%.
+     */
+    public static CountingBloomFilter create(final long expectedKeys, final double falsePositiveRate) {
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("'expectedKeys' should be greater than zero");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("'falsePositiveRate' should be between 0 and 1");
+        }
+        final var ln2 = Math.log(2);
+        final var counters = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (ln2 * ln2));
+        if (counters > MAX_COUNTERS) {
+            throw new IllegalArgumentException("'expectedKeys' is too large for the false positive rate");
+        }
+        final var hashes = Math.max(1, (int) Math.round((double) counters / expectedKeys * ln2));
+        return new CountingBloomFilter(Math.max(COUNTERS_PER_WORD, counters), hashes);
+    }
+
+    public void add(final long hash) {
+        final var h1 = mix(hash);
+        final var h2 = mix(h1) | 1;
+        for (int i = 0; i < this.hashes; i++) {
+            increment(index(h1 + i * h2));
+        }
+        this.size.increment();
+    }
+
+    /**
+     * Removes a key previously {@link #add added}; removing one that was not can hide keys that were.
+     */
+    public void remove(final long hash) {
+        final var h1 = mix(hash);
+        final var h2 = mix(h1) | 1;
+        for (int i = 0; i < this.hashes; i++) {
+            decrement(index(h1 + i * h2));
+        }
+        this.size.decrement();
+    }
+
+    public boolean mightContain(final long hash) {
+        final var h1 = mix(hash);
+        final var h2 = mix(h1) | 1;
+        for (int i = 0; i < this.hashes; i++) {
+            if (count(index(h1 + i * h2)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * False positive rate implied by the share of non-zero counters, which grows as keys are added beyond the
+     * expected number.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) this.occupied.sum() / this.counters, this.hashes);
+    }
+
+    /**
+     * Keys added minus keys removed.
+     */
+    public long size() {
+        return this.size.sum();
+    }
+
+    public long counters() {
+        return this.counters;
+    }
+
+    public int hashes() {
+        return this.hashes;
+    }
+
+    private void increment(final long index) {
+        final var word = (int) (index / COUNTERS_PER_WORD);
+        final var shift = (int) (index % COUNTERS_PER_WORD) * 4;
+        while (true) {
+            final var current = this.words.get(word);
+            final var count = current >>> shift & COUNTER_MASK;
+            if (count == MAX_COUNT) {
+                return;
+            }
+            if (this.words.compareAndSet(word, current, current + (1L << shift))) {
+                if (count == 0) {
+                    this.occupied.increment();
+                }
+                return;
+            }
+        }
+    }
+
+    private void decrement(final long index) {
+        final var word = (int) (index / COUNTERS_PER_WORD);
+        final var shift = (int) (index % COUNTERS_PER_WORD) * 4;
+        while (true) {
+            final var current = this.words.get(word);
+            final var count = current >>> shift & COUNTER_MASK;
+            if (count == 0 || count == MAX_COUNT) {
+                return;
+            }
+            if (this.words.compareAndSet(word, current, current - (1L << shift))) {
+                if (count == 1) {
+                    this.occupied.decrement();
+                }
+                return;
+            }
+        }
+    }
+
+    private long count(final long index) {
+        return this.words.get((int) (index / COUNTERS_PER_WORD)) >>> (int) (index % COUNTERS_PER_WORD) * 4 & COUNTER_MASK;
+    }
+
+    // maps the hash onto 0..counters-1 with a multiplication instead of a much slower 64-bit division
+    private long index(final long combined) {
+        return Math.multiplyHigh(combined >>> 1, this.counters << 1);
+    }
+
+    // Murmur3 finalizer, so keys hashed with a weak function still spread over every counter
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,229 @@
+package dev.urieloalves.infrastructure.importer;
+
+import dev.urieloalves.application.category.create.CreateCategoriesBatchCommand;
+import dev.urieloalves.application.category.create.CreateCategoriesBatchUseCase;
+import dev.urieloalves.application.category.create.CreateCategoryCommand;
+import dev.urieloalves.infrastructure.api.json.JsonWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Streams categories from an NDJSON or CSV file into a {@link CreateCategoriesBatchUseCase}.
+ * <p>
+ * The calling thread reads lines into batches; up to {@code parallelism} batches are parsed, validated and
+ * written by worker threads at a time, so memory stays bounded by the batches in flight whatever the file
+ * size. Results are committed in file order: rejected rows go to the error file as NDJSON with their line
+ * number, progress is reported, and every {@code checkpointInterval} batches the position is saved.
+ * <p>
+ * An interrupted import resumes from its checkpoint. Batches written after the last checkpoint are written
+ * again, so rows may be imported twice but never skipped.
+ */
+public class CategoryImporter {
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private final CreateCategoriesBatchUseCase createCategoriesBatchUseCase;
+    private final ImportSettings settings;
+
+    public CategoryImporter(final CreateCategoriesBatchUseCase createCategoriesBatchUseCase) {
+        this(createCategoriesBatchUseCase, ImportSettings.defaults());
+    }
+
+    public CategoryImporter(final CreateCategoriesBatchUseCase createCategoriesBatchUseCase, final ImportSettings settings) {
+        this.createCategoriesBatchUseCase = Objects.requireNonNull(createCategoriesBatchUseCase);
+        this.settings = Objects.requireNonNull(settings);
+    }
+
+    /**
+     * Imports {@code source}, resuming from {@code checkpoint} if it exists and deleting it once done.
+     *
+     * @param errors   NDJSON file receiving rejected rows
+     * @param progress called on the calling thread after each batch
+     */
+    public ImportProgress importFile(
+            final Path source,
+            final Path errors,
+            final Path checkpoint,
+            final Consumer<ImportProgress> progress
+    ) throws IOException {
+        final var format = ImportFormat.of(source);
+        final var parser = format.parser(format.hasHeader() ? readHeader(source) : null);
+        final var start = ImportCheckpoint.read(checkpoint);
+        final var executor = newExecutor(this.settings.parallelism());
+
+        try (final var reader = new LineReader(source, start.offset(), start.lines());
+             final var errorFile = FileChannel.open(errors, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            errorFile.truncate(start.errorBytes()).position(start.errorBytes());
+            final var totalBytes = reader.size();
+            final var pending = new ArrayDeque<CompletableFuture<BatchResult>>();
+            final var commit = new Committer(start, errorFile, checkpoint, totalBytes, progress);
+
+            if (format.hasHeader() && start.lines() == 0) {
+                reader.next();
+            }
+            var rows = new ArrayList<Row>(this.settings.batchSize());
+            var more = true;
+            while (more) {
+                more = reader.next();
+                if (more && !reader.line().isBlank()) {
+                    rows.add(new Row(reader.lineNumber(), reader.line()));
+                }
+                if (!more || rows.size() == this.settings.batchSize()) {
+                    final var batch = new Batch(rows, reader.offset(), reader.lineNumber());
+                    pending.add(CompletableFuture.supplyAsync(() -> process(batch, parser), executor));
+                    rows = new ArrayList<>(this.settings.batchSize());
+                }
+                while (pending.size() > this.settings.parallelism() || (!more && !pending.isEmpty())) {
+                    commit.accept(join(pending.poll()));
+                }
+            }
+            Files.deleteIfExists(checkpoint);
+            return commit.position.progress(totalBytes);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private BatchResult process(final Batch batch, final ImportFormat.RowParser parser) {
+        final var rejects = new ArrayList<Reject>();
+        final var commands = new ArrayList<CreateCategoryCommand>(batch.rows().size());
+        final var commandLines = new long[batch.rows().size()];
+        for (final var row : batch.rows()) {
+            try {
+                commandLines[commands.size()] = row.number();
+                commands.add(parser.parse(row.text()));
+            } catch (final IllegalArgumentException e) {
+                rejects.add(new Reject(row.number(), List.of(String.valueOf(e.getMessage()))));
+            }
+        }
+
+        final var output = this.createCategoriesBatchUseCase.execute(CreateCategoriesBatchCommand.with(commands));
+        output.errors().forEach((index, notification) -> rejects.add(new Reject(
+                commandLines[index],
+                notification.getErrors().stream().map(error -> String.valueOf(error.message())).toList()
+        )));
+        rejects.sort(Comparator.comparingLong(Reject::line));
+        return new BatchResult(batch.endOffset(), batch.endLine(), output.created().size(), rejects);
+    }
+
+    private static String readHeader(final Path source) throws IOException {
+        try (final var reader = new LineReader(source, 0, 0)) {
+            if (!reader.next()) {
+                throw new IOException("%s has no header".formatted(source));
+            }
+            return reader.line();
+        }
+    }
+
+    private static BatchResult join(final CompletableFuture<BatchResult> result) {
+        try {
+            return result.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static ExecutorService newExecutor(final int threads) {
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            final var thread = new Thread(runnable, "category-import-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private record Row(long number, String text) {
+    }
+
+    private record Batch(List<Row> rows, long endOffset, long endLine) {
+    }
+
+    private record Reject(long line, List<String> errors) {
+    }
+
+    private record BatchResult(long endOffset, long endLine, int imported, List<Reject> rejects) {
+    }
+
+    private final class Committer implements Consumer<BatchResult> {
+
+        private final FileChannel errorFile;
+        private final Path checkpoint;
+        private final long totalBytes;
+        private final Consumer<ImportProgress> progress;
+        private final StringBuilder json = new StringBuilder(256);
+
+        private ImportCheckpoint position;
+        private int batches;
+
+        private Committer(
+                final ImportCheckpoint start,
+                final FileChannel errorFile,
+                final Path checkpoint,
+                final long totalBytes,
+                final Consumer<ImportProgress> progress
+        ) {
+            this.position = start;
+            this.errorFile = errorFile;
+            this.checkpoint = checkpoint;
+            this.totalBytes = totalBytes;
+            this.progress = progress;
+        }
+
+        @Override
+        public void accept(final BatchResult result) {
+            try {
+                if (!result.rejects().isEmpty()) {
+                    writeRejects(result.rejects());
+                }
+                this.position = this.position.advance(
+                        result.endOffset(),
+                        result.endLine(),
+                        result.imported(),
+                        result.rejects().size(),
+                        this.errorFile.position()
+                );
+                if (++this.batches % CategoryImporter.this.settings.checkpointInterval() == 0) {
+                    this.position.write(this.checkpoint);
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.progress.accept(this.position.progress(this.totalBytes));
+        }
+
+        private void writeRejects(final List<Reject> rejects) throws IOException {
+            this.json.setLength(0);
+            for (final var reject : rejects) {
+                final var writer = new JsonWriter(this.json);
+                writer.beginObject().name("line").value(reject.line()).name("errors").beginArray();
+                reject.errors().forEach(writer::value);
+                writer.endArray().endObject();
+                this.json.append('\n');
+            }
+            final var bytes = ByteBuffer.wrap(this.json.toString().getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                this.errorFile.write(bytes);
+            }
+        }
+    }
+}
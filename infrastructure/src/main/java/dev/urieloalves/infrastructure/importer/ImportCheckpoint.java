@@ -0,0 +1,58 @@
+package dev.urieloalves.infrastructure.importer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Position up to which every row of an import has been written or rejected.
+ *
+ * @param offset     byte offset in the source
+ * @param lines      lines of the source before {@code offset}
+ * @param errorBytes size of the error file at that point, since later rejects may be repeated on resume
+ */
+record ImportCheckpoint(long offset, long lines, long imported, long rejected, long errorBytes) {
+
+    static final ImportCheckpoint START = new ImportCheckpoint(0, 0, 0, 0, 0);
+
+    static ImportCheckpoint read(final Path file) throws IOException {
+        final String text;
+        try {
+            text = Files.readString(file, StandardCharsets.US_ASCII).trim();
+        } catch (final NoSuchFileException e) {
+            return START;
+        }
+        final var fields = text.split(" ");
+        if (fields.length != 5) {
+            throw new IOException("Malformed import checkpoint %s".formatted(file));
+        }
+        try {
+            return new ImportCheckpoint(
+                    Long.parseLong(fields[0]),
+                    Long.parseLong(fields[1]),
+                    Long.parseLong(fields[2]),
+                    Long.parseLong(fields[3]),
+                    Long.parseLong(fields[4])
+            );
+        } catch (final NumberFormatException e) {
+            throw new IOException("Malformed import checkpoint %s".formatted(file), e);
+        }
+    }
+
+    void write(final Path file) throws IOException {
+        final var temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temporary, "%d %d %d %d %d%n".formatted(this.offset, this.lines, this.imported, this.rejected, this.errorBytes), StandardCharsets.US_ASCII);
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    ImportCheckpoint advance(final long offset, final long lines, final long imported, final long rejected, final long errorBytes) {
+        return new ImportCheckpoint(offset, lines, this.imported + imported, this.rejected + rejected, errorBytes);
+    }
+
+    ImportProgress progress(final long totalBytes) {
+        return new ImportProgress(this.lines, this.imported, this.rejected, this.offset, totalBytes);
+    }
+}
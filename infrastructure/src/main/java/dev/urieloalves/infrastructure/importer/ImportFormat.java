@@ -0,0 +1,144 @@
+package dev.urieloalves.infrastructure.importer;
+
+import dev.urieloalves.application.category.create.CreateCategoryCommand;
+import dev.urieloalves.infrastructure.api.json.JsonReader;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Line formats the importer reads, one category per line.
+ * <p>
+ * NDJSON lines are objects with the same fields as {@code POST /categories}. CSV files start with a header
+ * naming the {@code name}, {@code description} and {@code is_active} columns in any order; quoted fields
+ * may contain commas and doubled quotes but not line breaks.
+ */
+public enum ImportFormat {
+
+    NDJSON {
+        @Override
+        RowParser parser(final String header) {
+            return line -> {
+                final var fields = JsonReader.readObject(line);
+                final var isActive = fields.get("is_active");
+                if (isActive != null && !(isActive instanceof Boolean)) {
+                    throw new IllegalArgumentException("'is_active' should be true or false");
+                }
+                return CreateCategoryCommand.with(
+                        stringOf(fields.get("name"), "name"),
+                        stringOf(fields.get("description"), "description"),
+                        isActive == null || (Boolean) isActive
+                );
+            };
+        }
+    },
+
+    CSV {
+        @Override
+        boolean hasHeader() {
+            return true;
+        }
+
+        @Override
+        RowParser parser(final String header) {
+            final var columns = splitCsv(header).stream().map(column -> column.trim().toLowerCase(Locale.ROOT)).toList();
+            final var name = columns.indexOf("name");
+            final var description = columns.indexOf("description");
+            final var isActive = columns.indexOf("is_active");
+            if (name < 0) {
+                throw new IllegalArgumentException("CSV header should have a 'name' column");
+            }
+            return line -> {
+                final var values = splitCsv(line);
+                if (values.size() != columns.size()) {
+                    throw new IllegalArgumentException("Expected %d columns but got %d".formatted(columns.size(), values.size()));
+                }
+                return CreateCategoryCommand.with(
+                        values.get(name),
+                        description < 0 || values.get(description).isEmpty() ? null : values.get(description),
+                        isActive < 0 || parseBoolean(values.get(isActive))
+                );
+            };
+        }
+    };
+
+    public static ImportFormat of(final Path file) {
+        final var name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Unknown import format for %s".formatted(file));
+    }
+
+    boolean hasHeader() {
+        return false;
+    }
+
+    /**
+     * @param header the first line of the file when the format {@link #hasHeader() has one}
+     */
+    abstract RowParser parser(String header);
+
+    @FunctionalInterface
+    interface RowParser {
+
+        /**
+         * @throws IllegalArgumentException if the line is malformed
+         */
+        CreateCategoryCommand parse(String line);
+    }
+
+    private static String stringOf(final Object value, final String field) {
+        if (value != null && !(value instanceof String)) {
+            throw new IllegalArgumentException("'%s' should be a string".formatted(field));
+        }
+        return (String) value;
+    }
+
+    private static boolean parseBoolean(final String value) {
+        if (value.isEmpty() || "true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw new IllegalArgumentException("'is_active' should be true or false");
+    }
+
+    static List<String> splitCsv(final String line) {
+        final var values = new ArrayList<String>();
+        final var value = new StringBuilder();
+        var quoted = false;
+        var i = 0;
+        while (i < line.length()) {
+            final var c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && value.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
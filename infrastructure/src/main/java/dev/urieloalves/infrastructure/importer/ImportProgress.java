@@ -0,0 +1,15 @@
+package dev.urieloalves.infrastructure.importer;
+
+/**
+ * @param lines     lines read so far, including the header and blank lines
+ * @param imported  categories created
+ * @param rejected  rows written to the error file
+ * @param bytesRead bytes of the source consumed
+ * @param totalBytes size of the source
+ */
+public record ImportProgress(long lines, long imported, long rejected, long bytesRead, long totalBytes) {
+
+    public double fraction() {
+        return this.totalBytes == 0 ? 1.0 : (double) this.bytesRead / this.totalBytes;
+    }
+}
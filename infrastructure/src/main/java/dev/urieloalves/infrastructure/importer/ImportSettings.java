@@ -0,0 +1,25 @@
+package dev.urieloalves.infrastructure.importer;
+
+/**
+ * @param batchSize          rows parsed, validated and written together
+ * @param parallelism        batches processed at the same time
+ * @param checkpointInterval batches between two checkpoints
+ */
+public record ImportSettings(int batchSize, int parallelism, int checkpointInterval) {
+
+    public ImportSettings {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'batchSize' should be greater than zero");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("'parallelism' should be greater than zero");
+        }
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("'checkpointInterval' should be greater than zero");
+        }
+    }
+
+    public static ImportSettings defaults() {
+        return new ImportSettings(1_000, Runtime.getRuntime().availableProcessors(), 16);
+    }
+}
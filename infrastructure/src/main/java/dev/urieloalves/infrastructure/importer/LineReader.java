@@ -0,0 +1,128 @@
+package dev.urieloalves.infrastructure.importer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads UTF-8 lines from a file channel through a fixed buffer, keeping track of the byte offset after each
+ * line so a reader can later be reopened right after it.
+ */
+final class LineReader implements AutoCloseable {
+
+    static final int MAX_LINE_BYTES = 1 << 20;
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final FileChannel channel;
+    private ByteBuffer buffer;
+    private boolean endOfFile;
+
+    private long offset;
+    private long lineNumber;
+    private String line;
+
+    /**
+     * @param offset     byte offset of the first line to read
+     * @param lineNumber number of lines before {@code offset}
+     */
+    LineReader(final Path path, final long offset, final long lineNumber) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.channel.position(offset);
+        this.buffer = ByteBuffer.allocate(BUFFER_BYTES).flip();
+        this.offset = offset;
+        this.lineNumber = lineNumber;
+    }
+
+    long size() throws IOException {
+        return this.channel.size();
+    }
+
+    /**
+     * Advances to the next line, returning {@code false} at the end of the file.
+     */
+    boolean next() throws IOException {
+        var scanned = this.buffer.position();
+        while (true) {
+            final var array = this.buffer.array();
+            final var start = this.buffer.position();
+            final var limit = this.buffer.limit();
+            for (int i = scanned; i < limit; i++) {
+                if (array[i] == '\n') {
+                    emit(start, i, i + 1);
+                    return true;
+                }
+            }
+            if (this.endOfFile) {
+                if (start == limit) {
+                    return false;
+                }
+                emit(start, limit, limit);
+                return true;
+            }
+            if (limit - start >= MAX_LINE_BYTES) {
+                throw new IOException("Line %d is longer than %d bytes".formatted(this.lineNumber + 1, MAX_LINE_BYTES));
+            }
+            scanned = limit - start;
+            fill();
+        }
+    }
+
+    /**
+     * The current line, without its terminator.
+     */
+    String line() {
+        return this.line;
+    }
+
+    /**
+     * One-based number of the current line.
+     */
+    long lineNumber() {
+        return this.lineNumber;
+    }
+
+    /**
+     * Byte offset right after the current line.
+     */
+    long offset() {
+        return this.offset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    private void emit(final int start, final int end, final int next) {
+        final var array = this.buffer.array();
+        var from = start;
+        var to = end;
+        if (to > from && array[to - 1] == '\r') {
+            to--;
+        }
+        if (this.offset == 0 && to - from >= 3 && (array[from] & 0xFF) == 0xEF && (array[from + 1] & 0xFF) == 0xBB && (array[from + 2] & 0xFF) == 0xBF) {
+            from += 3;
+        }
+        this.line = new String(array, from, to - from, StandardCharsets.UTF_8);
+        this.offset += next - start;
+        this.lineNumber++;
+        this.buffer.position(next);
+    }
+
+    private void fill() throws IOException {
+        this.buffer.compact();
+        if (!this.buffer.hasRemaining()) {
+            final var larger = ByteBuffer.allocate(this.buffer.capacity() * 2);
+            larger.put(this.buffer.flip());
+            this.buffer = larger;
+        }
+        if (this.channel.read(this.buffer) < 0) {
+            this.endOfFile = true;
+        }
+        this.buffer.flip();
+    }
+}
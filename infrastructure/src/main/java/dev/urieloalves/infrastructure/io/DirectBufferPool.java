@@ -0,0 +1,49 @@
+package dev.urieloalves.infrastructure.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Reuses direct buffers of one size. Direct buffers are slow to allocate and only freed when the GC gets to
+ * them, so code doing I/O in a loop borrows one here instead. Buffers beyond {@code maxPooled} are dropped
+ * when released.
+ */
+public class DirectBufferPool {
+
+    private final int bufferSize;
+    private final BlockingQueue<ByteBuffer> buffers;
+
+    public DirectBufferPool(final int bufferSize, final int maxPooled) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("'bufferSize' should be greater than zero");
+        }
+        if (maxPooled <= 0) {
+            throw new IllegalArgumentException("'maxPooled' should be greater than zero");
+        }
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    public int bufferSize() {
+        return this.bufferSize;
+    }
+
+    /**
+     * A cleared buffer, pooled if one is available.
+     */
+    public ByteBuffer acquire() {
+        final var buffer = this.buffers.poll();
+        return buffer != null ? buffer.clear() : ByteBuffer.allocateDirect(this.bufferSize);
+    }
+
+    public void release(final ByteBuffer buffer) {
+        if (buffer.isDirect() && buffer.capacity() == this.bufferSize) {
+            this.buffers.offer(buffer);
+        }
+    }
+
+    int pooled() {
+        return this.buffers.size();
+    }
+}
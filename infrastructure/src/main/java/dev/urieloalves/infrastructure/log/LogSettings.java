@@ -0,0 +1,21 @@
+package dev.urieloalves.infrastructure.log;
+
+import java.time.Duration;
+
+/**
+ * @param segmentSize    bytes after which the active segment is sealed and a new one started
+ * @param maxBatchSize   most records written and acknowledged together by one group commit
+ * @param fsyncInterval  {@link Duration#ZERO} to fsync every group commit before acknowledging it, otherwise
+ *                       acknowledge once written and fsync no later than this after the first unsynced write:
+ *                       the durability bound, as a crash can lose records acknowledged within it
+ */
+public record LogSettings(
+        long segmentSize,
+        int maxBatchSize,
+        Duration fsyncInterval
+) {
+
+    public static LogSettings defaults() {
+        return new LogSettings(64L * 1024 * 1024, 4_096, Duration.ZERO);
+    }
+}
@@ -0,0 +1,371 @@
+package dev.urieloalves.infrastructure.log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log split into numbered segment files.
+ * <p>
+ * Records are framed as {@code [int length][int crc32c][payload]}. Appends are queued and written by a
+ * single thread that drains whatever is waiting into one write, so concurrent appenders share the cost of a
+ * write and an fsync (group commit). With a non-zero {@link LogSettings#fsyncInterval()} the writer also
+ * syncs on its own once the interval has passed since the first unsynced write, so the interval bounds how
+ * long an acknowledged record can stay unsynced even when no further appends arrive.
+ * <p>
+ * Replay maps each segment read-only. Only the last segment can end in a record torn by a crash, which is
+ * truncated; a bad record in a sealed segment fails {@link #open} instead of dropping everything after it.
+ */
+public class SegmentedLog implements AutoCloseable {
+
+    private static final Pattern SEGMENT = Pattern.compile("segment-(\\d{10})\\.log");
+    private static final int HEADER = Integer.BYTES * 2;
+
+    private final Path directory;
+    private final LogSettings settings;
+    private final LinkedBlockingQueue<Command> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    // makes checking closed and queueing a command atomic, so nothing is queued behind STOP
+    private final Lock lifecycle = new ReentrantLock();
+
+    private FileChannel active;
+    private volatile long activeSegment;
+    private long activeSize;
+    private long lastSync = System.nanoTime();
+    private boolean unsynced;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.BIG_ENDIAN);
+    private volatile IOException failure;
+    private volatile boolean closed;
+
+    private SegmentedLog(final Path directory, final LogSettings settings, final long fromSegment) throws IOException {
+        this.directory = directory;
+        this.settings = settings;
+        final var segments = segments(directory);
+        final var last = segments.isEmpty() ? 1 : segments.get(segments.size() - 1);
+        this.activeSegment = Math.max(last, fromSegment);
+        this.active = open(this.activeSegment);
+        this.activeSize = this.active.size();
+        this.writer = new Thread(this::writeLoop, "segmented-log-writer");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Opens the log, first replaying every record of the segments numbered {@code fromSegment} or above.
+     */
+    public static SegmentedLog open(
+            final Path directory,
+            final LogSettings settings,
+            final long fromSegment,
+            final Consumer<ByteBuffer> replay
+    ) throws IOException {
+        Files.createDirectories(directory);
+        final var segments = segments(directory);
+        for (int i = 0; i < segments.size(); i++) {
+            if (segments.get(i) >= fromSegment) {
+                replaySegment(directory.resolve(segmentName(segments.get(i))), replay, i == segments.size() - 1);
+            }
+        }
+        final var log = new SegmentedLog(directory, Objects.requireNonNull(settings), fromSegment);
+        log.writer.start();
+        return log;
+    }
+
+    /**
+     * Queues a record; the future completes once it is written and, depending on {@link LogSettings}, synced.
+     */
+    public CompletableFuture<Void> append(final ByteBuffer payload) {
+        return submit(new Command(payload, false));
+    }
+
+    /**
+     * Seals the active segment after everything queued so far; completes with the number of the new one.
+     */
+    public CompletableFuture<Long> roll() {
+        final var command = new Command(null, true);
+        submit(command);
+        return command.rolled;
+    }
+
+    public long activeSegment() {
+        return this.activeSegment;
+    }
+
+    /**
+     * Deletes the sealed segments numbered below {@code segment}.
+     */
+    public void deleteSegmentsBefore(final long segment) throws IOException {
+        for (final var existing : segments(this.directory)) {
+            if (existing < segment) {
+                Files.deleteIfExists(this.directory.resolve(segmentName(existing)));
+            }
+        }
+    }
+
+    public List<Long> segments() throws IOException {
+        return segments(this.directory);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.lifecycle.lock();
+        try {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            this.queue.add(Command.STOP);
+        } finally {
+            this.lifecycle.unlock();
+        }
+        try {
+            this.writer.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (this.active.isOpen()) {
+            this.active.force(false);
+            this.active.close();
+        }
+    }
+
+    private CompletableFuture<Void> submit(final Command command) {
+        this.lifecycle.lock();
+        try {
+            if (this.closed) {
+                command.close();
+            } else if (this.failure != null) {
+                command.fail(this.failure);
+            } else {
+                this.queue.add(command);
+            }
+        } finally {
+            this.lifecycle.unlock();
+        }
+        return command.written;
+    }
+
+    private void writeLoop() {
+        final var batch = new ArrayList<Command>(this.settings.maxBatchSize());
+        var stop = false;
+        while (!stop) {
+            final Command first;
+            try {
+                first = next();
+            } catch (final InterruptedException e) {
+                break;
+            }
+            if (first == null) {
+                try {
+                    sync();
+                } catch (final IOException e) {
+                    this.failure = e;
+                }
+                continue;
+            }
+            batch.add(first);
+            this.queue.drainTo(batch, this.settings.maxBatchSize() - 1);
+
+            final var pending = new ArrayList<Command>(batch.size());
+            try {
+                for (final var command : batch) {
+                    if (command == Command.STOP) {
+                        stop = true;
+                    } else if (this.failure != null) {
+                        command.fail(this.failure);
+                    } else if (command.roll) {
+                        commit(pending);
+                        rollActive();
+                        command.written.complete(null);
+                        command.rolled.complete(this.activeSegment);
+                    } else {
+                        pending.add(command);
+                    }
+                }
+                commit(pending);
+            } catch (final IOException e) {
+                // keep draining so appenders racing with the failure are completed too
+                this.failure = e;
+                batch.forEach(command -> command.fail(e));
+            } finally {
+                batch.clear();
+            }
+        }
+
+        Command command;
+        while ((command = this.queue.poll()) != null) {
+            command.close();
+        }
+    }
+
+    // the next command, or null once a pending fsync falls due before one arrives
+    private Command next() throws InterruptedException {
+        if (!this.unsynced) {
+            return this.queue.take();
+        }
+        final var due = this.lastSync + this.settings.fsyncInterval().toNanos() - System.nanoTime();
+        return this.queue.poll(Math.max(0, due), TimeUnit.NANOSECONDS);
+    }
+
+    private void sync() throws IOException {
+        this.active.force(false);
+        this.lastSync = System.nanoTime();
+        this.unsynced = false;
+    }
+
+    private void commit(final List<Command> pending) throws IOException {
+        if (pending.isEmpty()) {
+            return;
+        }
+        this.buffer.clear();
+        final var crc = new CRC32C();
+        for (final var command : pending) {
+            final var payload = command.payload;
+            ensureCapacity(HEADER + payload.remaining());
+            crc.reset();
+            crc.update(payload.duplicate());
+            this.buffer.putInt(payload.remaining()).putInt((int) crc.getValue()).put(payload);
+        }
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.activeSize += this.active.write(this.buffer);
+        }
+
+        final var interval = this.settings.fsyncInterval();
+        if (!this.unsynced) {
+            // the interval counts from the first write not yet synced, not from a sync long ago
+            this.lastSync = System.nanoTime();
+            this.unsynced = true;
+        }
+        if (interval.isZero() || System.nanoTime() - this.lastSync >= interval.toNanos()) {
+            sync();
+        }
+        pending.forEach(command -> command.written.complete(null));
+        pending.clear();
+
+        if (this.activeSize >= this.settings.segmentSize()) {
+            rollActive();
+        }
+    }
+
+    private void rollActive() throws IOException {
+        sync();
+        this.active.close();
+        this.activeSegment++;
+        this.active = open(this.activeSegment);
+        this.activeSize = 0;
+    }
+
+    private void ensureCapacity(final int bytes) {
+        if (this.buffer.remaining() < bytes) {
+            final var larger = ByteBuffer.allocateDirect(Math.max(this.buffer.capacity() * 2, this.buffer.position() + bytes));
+            this.buffer.flip();
+            larger.put(this.buffer);
+            this.buffer = larger;
+        }
+    }
+
+    private FileChannel open(final long segment) throws IOException {
+        final var channel = FileChannel.open(
+                this.directory.resolve(segmentName(segment)),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE
+        );
+        channel.position(channel.size());
+        return channel;
+    }
+
+    private static void replaySegment(final Path file, final Consumer<ByteBuffer> replay, final boolean last) throws IOException {
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final var size = channel.size();
+            if (size == 0) {
+                return;
+            }
+            final var mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            final var crc = new CRC32C();
+            var position = 0;
+            while (position + HEADER <= size) {
+                final var length = mapped.getInt(position);
+                final var checksum = mapped.getInt(position + Integer.BYTES);
+                if (length < 0 || position + HEADER + length > size) {
+                    break;
+                }
+                final var payload = mapped.slice(position + HEADER, length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                replay.accept(payload);
+                position += HEADER + length;
+            }
+            if (position < size) {
+                if (!last) {
+                    // sealed segments were synced before the next one was started, so this is not a torn write
+                    throw new IOException("Corrupt record in sealed segment %s at position %d".formatted(file, position));
+                }
+                // torn write from a crash: drop it so new records are appended after the last valid one
+                channel.truncate(position);
+            }
+        }
+    }
+
+    private static List<Long> segments(final Path directory) throws IOException {
+        final var segments = new ArrayList<Long>();
+        try (final var files = Files.list(directory)) {
+            files.forEach(file -> {
+                final var matcher = SEGMENT.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    segments.add(Long.parseLong(matcher.group(1)));
+                }
+            });
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    private static String segmentName(final long segment) {
+        return "segment-%010d.log".formatted(segment);
+    }
+
+    private static final class Command {
+
+        private static final Command STOP = new Command(null, false);
+
+        private final ByteBuffer payload;
+        private final boolean roll;
+        private final CompletableFuture<Void> written = new CompletableFuture<>();
+        private final CompletableFuture<Long> rolled = new CompletableFuture<>();
+
+        private Command(final ByteBuffer payload, final boolean roll) {
+            this.payload = payload;
+            this.roll = roll;
+        }
+
+        private void close() {
+            final var closed = new IllegalStateException("Log is closed");
+            this.written.completeExceptionally(closed);
+            this.rolled.completeExceptionally(closed);
+        }
+
+        private void fail(final IOException e) {
+            this.written.completeExceptionally(new UncheckedIOException(e));
+            this.rolled.completeExceptionally(new UncheckedIOException(e));
+        }
+    }
+}
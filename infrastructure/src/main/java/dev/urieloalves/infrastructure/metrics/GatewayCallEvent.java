@@ -0,0 +1,21 @@
+package dev.urieloalves.infrastructure.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("dev.urieloalves.GatewayCall")
+@Label("Gateway Call")
+@Category("Application")
+class GatewayCallEvent extends Event {
+
+    @Label("Gateway")
+    String gateway;
+
+    @Label("Method")
+    String method;
+
+    @Label("Failed")
+    boolean failed;
+}
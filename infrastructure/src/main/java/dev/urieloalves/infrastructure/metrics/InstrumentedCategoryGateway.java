@@ -0,0 +1,149 @@
+package dev.urieloalves.infrastructure.metrics;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryCursorQuery;
+import dev.urieloalves.domain.category.CategoryGateway;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.pagination.CursorPagination;
+import dev.urieloalves.domain.pagination.Pagination;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Records latency and failures of every call to another {@link CategoryGateway}, per method, plus the number
+ * of calls in flight.
+ */
+public class InstrumentedCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final String name;
+    private final boolean events;
+
+    private final LongAdder started = new LongAdder();
+    private final Method create;
+    private final Method createAll;
+    private final Method deleteById;
+    private final Method findById;
+    private final Method update;
+    private final Method findAll;
+    private final Method findAllAfter;
+
+    public InstrumentedCategoryGateway(final CategoryGateway delegate, final String name, final MetricsRegistry registry) {
+        this(delegate, name, registry, false);
+    }
+
+    /**
+     * @param events whether to also emit a JFR event per call, committed only while a recording enables it
+     */
+    public InstrumentedCategoryGateway(
+            final CategoryGateway delegate,
+            final String name,
+            final MetricsRegistry registry,
+            final boolean events
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.name = Objects.requireNonNull(name);
+        this.events = events;
+        this.create = new Method(registry, name, "create");
+        this.createAll = new Method(registry, name, "createAll");
+        this.deleteById = new Method(registry, name, "deleteById");
+        this.findById = new Method(registry, name, "findById");
+        this.update = new Method(registry, name, "update");
+        this.findAll = new Method(registry, name, "findAll");
+        this.findAllAfter = new Method(registry, name, "findAllAfter");
+        final var methods = List.of(this.create, this.createAll, this.deleteById, this.findById, this.update, this.findAll, this.findAllAfter);
+        // read completions first, so a call finishing in between can't make the gauge negative
+        registry.gauge("gateway_in_flight", () -> {
+            var completed = 0L;
+            for (final var method : methods) {
+                completed += method.latency.count();
+            }
+            return this.started.sum() - completed;
+        }, "gateway", name);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return timed(this.create, () -> this.delegate.create(category));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return timed(this.createAll, () -> this.delegate.createAll(categories));
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        timed(this.deleteById, () -> {
+            this.delegate.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return timed(this.findById, () -> this.delegate.findById(id));
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return timed(this.update, () -> this.delegate.update(category));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return timed(this.findAll, () -> this.delegate.findAll(query));
+    }
+
+    @Override
+    public CursorPagination<Category> findAllAfter(final CategoryCursorQuery query) {
+        return timed(this.findAllAfter, () -> this.delegate.findAllAfter(query));
+    }
+
+    private <T> T timed(final Method method, final Supplier<T> call) {
+        final var event = this.events ? new GatewayCallEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        this.started.increment();
+        final var start = System.nanoTime();
+        var failed = true;
+        try {
+            final var result = call.get();
+            failed = false;
+            return result;
+        } catch (final RuntimeException | Error e) {
+            method.errors.increment();
+            throw e;
+        } finally {
+            method.latency.record(System.nanoTime() - start);
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.gateway = this.name;
+                    event.method = method.name;
+                    event.failed = failed;
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    private static final class Method {
+
+        private final String name;
+        private final LatencyHistogram latency;
+        private final LongAdder errors;
+
+        private Method(final MetricsRegistry registry, final String gateway, final String name) {
+            this.name = name;
+            this.latency = registry.histogram("gateway_call_duration_seconds", "gateway", gateway, "method", name);
+            this.errors = registry.counter("gateway_call_errors_total", "gateway", gateway, "method", name);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package dev.urieloalves.infrastructure.metrics;
+
+import dev.urieloalves.application.UseCase;
+import dev.urieloalves.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records latency, calls in flight and failures of a use case.
+ * <p>
+ * A call costs two clock reads and three adds to striped counters, so concurrent calls do not contend on a
+ * shared cache line; the clock reads dominate the cost. Calls in flight are derived at scrape time from the
+ * calls started and the latencies recorded, rather than kept in a gauge moved on every call.
+ * <p>
+ * A use case returning a left {@link Notification} counts each of its errors under
+ * {@code usecase_validation_errors_total}, labelled by message. Messages may embed ids, so only the first
+ * {@value #MAX_MESSAGES} distinct messages get their own series and the rest share {@code "other"}.
+ */
+public class InstrumentedUseCase<IN, OUT> extends UseCase<IN, OUT> {
+
+    static final int MAX_MESSAGES = 64;
+    static final String OTHER = "other";
+
+    private final UseCase<IN, OUT> delegate;
+    private final String name;
+    private final MetricsRegistry registry;
+    private final boolean events;
+
+    private final LatencyHistogram latency;
+    private final LongAdder started;
+    private final LongAdder exceptions;
+    private final Map<String, LongAdder> validationErrors = new ConcurrentHashMap<>();
+
+    public InstrumentedUseCase(final UseCase<IN, OUT> delegate, final String name, final MetricsRegistry registry) {
+        this(delegate, name, registry, false);
+    }
+
+    /**
+     * @param events whether to also emit a JFR event per execution, committed only while a recording enables it
+     */
+    public InstrumentedUseCase(
+            final UseCase<IN, OUT> delegate,
+            final String name,
+            final MetricsRegistry registry,
+            final boolean events
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.name = Objects.requireNonNull(name);
+        this.registry = Objects.requireNonNull(registry);
+        this.events = events;
+        this.latency = registry.histogram("usecase_duration_seconds", "usecase", name);
+        this.started = new LongAdder();
+        // read completions first, so a call finishing in between can't make the gauge negative
+        registry.gauge("usecase_in_flight", () -> {
+            final var completed = this.latency.count();
+            return this.started.sum() - completed;
+        }, "usecase", name);
+        this.exceptions = registry.counter("usecase_exceptions_total", "usecase", name);
+    }
+
+    @Override
+    public OUT execute(final IN in) {
+        final var event = this.events ? new UseCaseEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        this.started.increment();
+        final var start = System.nanoTime();
+        var failed = true;
+        try {
+            final var out = this.delegate.execute(in);
+            failed = countValidationErrors(out);
+            return out;
+        } catch (final RuntimeException | Error e) {
+            this.exceptions.increment();
+            throw e;
+        } finally {
+            this.latency.record(System.nanoTime() - start);
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.useCase = this.name;
+                    event.failed = failed;
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    private boolean countValidationErrors(final OUT out) {
+        if (!(out instanceof Either<?, ?> either) || either.isRight() || !(either.getLeft() instanceof Notification notification)) {
+            return false;
+        }
+        for (final var error : notification.getErrors()) {
+            validationErrorCounter(error.message()).increment();
+        }
+        return true;
+    }
+
+    private LongAdder validationErrorCounter(final String message) {
+        final var key = String.valueOf(message);
+        final var counter = this.validationErrors.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        if (this.validationErrors.size() >= MAX_MESSAGES) {
+            return this.registry.counter("usecase_validation_errors_total", "usecase", this.name, "message", OTHER);
+        }
+        return this.validationErrors.computeIfAbsent(key, k ->
+                this.registry.counter("usecase_validation_errors_total", "usecase", this.name, "message", k));
+    }
+}
@@ -0,0 +1,151 @@
+package dev.urieloalves.infrastructure.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear histogram of nanosecond latencies, in the spirit of HdrHistogram.
+ * <p>
+ * Values below {@value #SUB_BUCKETS} ns are counted exactly; above that every power of two is split into
+ * {@code SUB_BUCKETS / 2} equal buckets, so a recorded value is off by at most 1/64 (1.6%) whatever its
+ * magnitude. Recording is one compare and set on a bucket plus a {@link LongAdder} add, with no locks and no
+ * allocation; readers see a slightly moving snapshot, which is fine for monitoring.
+ * <p>
+ * Threads recording similar latencies hit the same few buckets, so, like a {@link LongAdder}, the buckets
+ * start as a single stripe and double, up to twice the number of processors, whenever a compare and set
+ * fails. Each thread then counts into the stripe picked by its id, and readers sum over the stripes.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF = SUB_BUCKETS / 2;
+    private static final int BUCKETS = SUB_BUCKETS + (Long.SIZE - SUB_BUCKET_BITS) * HALF;
+    private static final int MAX_STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) * 2;
+
+    // a power of two in length; only ever replaced by a copy twice as long
+    private volatile AtomicLongArray[] stripes = {new AtomicLongArray(BUCKETS)};
+    private final LongAdder sum = new LongAdder();
+
+    public void record(final long nanos) {
+        final var value = Math.max(nanos, 0);
+        final var index = index(value);
+        final var stripes = this.stripes;
+        final var counts = stripes[stripe(Thread.currentThread()) & (stripes.length - 1)];
+        final var current = counts.get(index);
+        if (!counts.compareAndSet(index, current, current + 1)) {
+            counts.getAndIncrement(index);
+            grow(stripes);
+        }
+        this.sum.add(value);
+    }
+
+    /**
+     * Number of recorded values, summed over the buckets.
+     */
+    public long count() {
+        var total = 0L;
+        for (final var counts : this.stripes) {
+            for (int i = 0; i < BUCKETS; i++) {
+                total += counts.get(i);
+            }
+        }
+        return total;
+    }
+
+    public Snapshot snapshot() {
+        final var counts = new long[BUCKETS];
+        var total = 0L;
+        for (final var stripe : this.stripes) {
+            for (int i = 0; i < BUCKETS; i++) {
+                final var count = stripe.get(i);
+                counts[i] += count;
+                total += count;
+            }
+        }
+        return new Snapshot(counts, total, this.sum.sum());
+    }
+
+    private synchronized void grow(final AtomicLongArray[] contended) {
+        if (this.stripes != contended || contended.length >= MAX_STRIPES) {
+            return;
+        }
+        final var grown = Arrays.copyOf(contended, contended.length * 2);
+        for (int i = contended.length; i < grown.length; i++) {
+            grown[i] = new AtomicLongArray(BUCKETS);
+        }
+        this.stripes = grown;
+    }
+
+    // the identity hash is cached in the thread's header; mixing keeps the low bits used for the mask spread
+    private static int stripe(final Thread thread) {
+        final var mixed = System.identityHashCode(thread) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed >>> 32);
+    }
+
+    static int index(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final var shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        final var sub = (int) (value >>> shift);
+        return SUB_BUCKETS + (shift - 1) * HALF + (sub - HALF);
+    }
+
+    /**
+     * Middle of the range of values counted by bucket {@code index}.
+     */
+    static long valueAt(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final var offset = index - SUB_BUCKETS;
+        final var shift = offset / HALF + 1;
+        final var sub = (long) (offset % HALF + HALF);
+        return (sub << shift) + ((1L << shift) >>> 1);
+    }
+
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+
+        private Snapshot(final long[] counts, final long count, final long sum) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+        }
+
+        public long count() {
+            return this.count;
+        }
+
+        /**
+         * Sum of the recorded values in nanoseconds.
+         */
+        public long sum() {
+            return this.sum;
+        }
+
+        /**
+         * Smallest recorded value, within the bucket precision, that {@code quantile} of the values are at or
+         * below; {@code 0} when nothing was recorded.
+         */
+        public long valueAtQuantile(final double quantile) {
+            if (this.count == 0) {
+                return 0;
+            }
+            final var rank = Math.max(1, (long) Math.ceil(quantile * this.count));
+            var seen = 0L;
+            for (int i = 0; i < this.counts.length; i++) {
+                seen += this.counts[i];
+                if (seen >= rank) {
+                    return valueAt(i);
+                }
+            }
+            return valueAt(this.counts.length - 1);
+        }
+    }
+}
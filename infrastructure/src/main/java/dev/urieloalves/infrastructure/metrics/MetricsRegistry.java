@@ -0,0 +1,98 @@
+package dev.urieloalves.infrastructure.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Named metrics with Prometheus-style labels. Looking a metric up is a map access, so instrumented code
+ * resolves its metrics once and keeps the references for the hot path.
+ */
+public class MetricsRegistry {
+
+    private final Map<Key, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<Key, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<Key, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * @param labels label names and values, alternating
+     */
+    public LatencyHistogram histogram(final String name, final String... labels) {
+        return this.histograms.computeIfAbsent(Key.of(name, labels), key -> new LatencyHistogram());
+    }
+
+    public LongAdder counter(final String name, final String... labels) {
+        return this.counters.computeIfAbsent(Key.of(name, labels), key -> new LongAdder());
+    }
+
+    public void gauge(final String name, final LongSupplier value, final String... labels) {
+        this.gauges.put(Key.of(name, labels), Objects.requireNonNull(value));
+    }
+
+    Map<Key, LatencyHistogram> histograms() {
+        return new ConcurrentSkipListMap<>(this.histograms);
+    }
+
+    Map<Key, LongAdder> counters() {
+        return new ConcurrentSkipListMap<>(this.counters);
+    }
+
+    Map<Key, LongSupplier> gauges() {
+        return new ConcurrentSkipListMap<>(this.gauges);
+    }
+
+    /**
+     * @param labels rendered label set, e.g. {@code {method="create"}}, or empty
+     */
+    record Key(String name, String labels) implements Comparable<Key> {
+
+        static Key of(final String name, final String... labels) {
+            if (labels.length % 2 != 0) {
+                throw new IllegalArgumentException("Labels should be name and value pairs");
+            }
+            if (labels.length == 0) {
+                return new Key(name, "");
+            }
+            final var rendered = new StringBuilder("{");
+            for (int i = 0; i < labels.length; i += 2) {
+                if (i > 0) {
+                    rendered.append(',');
+                }
+                rendered.append(labels[i]).append("=\"");
+                escape(labels[i + 1], rendered);
+                rendered.append('"');
+            }
+            return new Key(name, rendered.append('}').toString());
+        }
+
+        /**
+         * Same labels plus {@code name="value"}, for series derived from this one such as quantiles.
+         */
+        String labelsWith(final String name, final String value) {
+            final var extra = name + "=\"" + value + "\"";
+            return this.labels.isEmpty() ? "{" + extra + "}" : this.labels.substring(0, this.labels.length() - 1) + "," + extra + "}";
+        }
+
+        @Override
+        public int compareTo(final Key other) {
+            final var byName = this.name.compareTo(other.name);
+            return byName != 0 ? byName : this.labels.compareTo(other.labels);
+        }
+
+        private static void escape(final String value, final StringBuilder out) {
+            final var text = String.valueOf(value);
+            for (int i = 0; i < text.length(); i++) {
+                final var c = text.charAt(i);
+                switch (c) {
+                    case '\\' -> out.append("\\\\");
+                    case '"' -> out.append("\\\"");
+                    case '\n' -> out.append("\\n");
+                    default -> out.append(c);
+                }
+            }
+        }
+    }
+}
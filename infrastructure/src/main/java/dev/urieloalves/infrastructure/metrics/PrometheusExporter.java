@@ -0,0 +1,63 @@
+package dev.urieloalves.infrastructure.metrics;
+
+import java.util.Locale;
+
+/**
+ * Renders a {@link MetricsRegistry} in the Prometheus text exposition format (version 0.0.4). Histograms are
+ * exported as summaries in seconds, with a fixed set of quantiles.
+ */
+public final class PrometheusExporter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private PrometheusExporter() {
+    }
+
+    public static String scrape(final MetricsRegistry registry) {
+        final var out = new StringBuilder(4_096);
+
+        String type = null;
+        for (final var entry : registry.counters().entrySet()) {
+            type = header(out, type, entry.getKey().name(), "counter");
+            sample(out, entry.getKey().name(), entry.getKey().labels(), entry.getValue().sum());
+        }
+
+        type = null;
+        for (final var entry : registry.gauges().entrySet()) {
+            type = header(out, type, entry.getKey().name(), "gauge");
+            sample(out, entry.getKey().name(), entry.getKey().labels(), entry.getValue().getAsLong());
+        }
+
+        type = null;
+        for (final var entry : registry.histograms().entrySet()) {
+            final var key = entry.getKey();
+            final var snapshot = entry.getValue().snapshot();
+            type = header(out, type, key.name(), "summary");
+            for (final var quantile : QUANTILES) {
+                sample(out, key.name(), key.labelsWith("quantile", Double.toString(quantile)),
+                        snapshot.valueAtQuantile(quantile) / NANOS_PER_SECOND);
+            }
+            sample(out, key.name() + "_sum", key.labels(), snapshot.sum() / NANOS_PER_SECOND);
+            sample(out, key.name() + "_count", key.labels(), snapshot.count());
+        }
+        return out.toString();
+    }
+
+    private static String header(final StringBuilder out, final String previous, final String name, final String type) {
+        if (!name.equals(previous)) {
+            out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        }
+        return name;
+    }
+
+    private static void sample(final StringBuilder out, final String name, final String labels, final long value) {
+        out.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+
+    private static void sample(final StringBuilder out, final String name, final String labels, final double value) {
+        out.append(name).append(labels).append(' ').append(String.format(Locale.ROOT, "%.9f", value)).append('\n');
+    }
+}
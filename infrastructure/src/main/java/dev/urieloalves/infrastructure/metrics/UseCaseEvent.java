@@ -0,0 +1,18 @@
+package dev.urieloalves.infrastructure.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("dev.urieloalves.UseCase")
+@Label("Use Case Execution")
+@Category("Application")
+class UseCaseEvent extends Event {
+
+    @Label("Use Case")
+    String useCase;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,332 @@
+package dev.urieloalves.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Inverted index from {@link Tokenizer terms} to the documents, identified by {@code K}, containing them.
+ * <p>
+ * Every query term must prefix a term of the document. Each document gets an ordinal the first time it is
+ * put, so postings are append-only; putting it again or removing it only marks the old ordinal as removed.
+ * Once removed ordinals outnumber live ones every posting list is rewritten without them.
+ * <p>
+ * The terms of each document are also kept by ordinal, so once the rarest query term has narrowed the
+ * candidates down, the other terms are checked against those few documents instead of scanning postings
+ * that may cover most of the index.
+ * <p>
+ * Fields passed to {@link #put(Object, String...)} weigh more the earlier they come, which is what
+ * {@link #rank(List)} scores with, together with how rare a term is and whether it matched exactly or by
+ * prefix. Not thread-safe: callers synchronize access.
+ */
+public class InvertedIndex<K> {
+
+    private static final int MIN_REMOVED_TO_COMPACT = 1_024;
+    private static final double PREFIX_MATCH_WEIGHT = 0.5;
+    // checking a candidate's own terms costs about as much as decoding this many posting entries
+    private static final int VERIFY_COST = 16;
+
+    private final NavigableMap<String, PostingList> terms = new TreeMap<>();
+    private final Map<K, Integer> ordinals = new HashMap<>();
+    private final List<Document<K>> documents = new ArrayList<>();
+    private final BitSet removed = new BitSet();
+    private int removedCount;
+
+    /**
+     * Indexes {@code fields} of {@code key}, replacing what was indexed for it before. At most eight fields.
+     */
+    public void put(final K key, final String... fields) {
+        if (fields.length > Byte.SIZE) {
+            throw new IllegalArgumentException("At most %d fields can be indexed".formatted(Byte.SIZE));
+        }
+        remove(key);
+
+        final var flags = new HashMap<String, Byte>();
+        for (int field = 0; field < fields.length; field++) {
+            for (final var term : Tokenizer.tokenize(fields[field])) {
+                final var bit = (byte) (1 << field);
+                flags.merge(term, bit, (left, right) -> (byte) (left | right));
+            }
+        }
+
+        final var ordinal = this.documents.size();
+        final var document = new Document<>(Objects.requireNonNull(key), new String[flags.size()], new byte[flags.size()]);
+        var i = 0;
+        for (final var entry : flags.entrySet()) {
+            document.terms()[i] = entry.getKey();
+            document.flags()[i++] = entry.getValue();
+            this.terms.computeIfAbsent(entry.getKey(), ignored -> new PostingList()).append(ordinal, entry.getValue());
+        }
+        this.documents.add(document);
+        this.ordinals.put(key, ordinal);
+    }
+
+    public void remove(final K key) {
+        final var ordinal = this.ordinals.remove(key);
+        if (ordinal == null) {
+            return;
+        }
+        this.documents.set(ordinal, null);
+        this.removed.set(ordinal);
+        this.removedCount++;
+        if (this.removedCount >= MIN_REMOVED_TO_COMPACT && this.removedCount > this.ordinals.size()) {
+            compact();
+        }
+    }
+
+    public int size() {
+        return this.ordinals.size();
+    }
+
+    /**
+     * Documents matching every term of {@code query}, in the order they were put.
+     */
+    public List<K> match(final String query) {
+        return match(Tokenizer.tokenize(query));
+    }
+
+    public List<K> match(final List<String> queryTerms) {
+        final var candidates = candidates(queryTerms);
+        final var matches = new ArrayList<K>(candidates.length);
+        for (final var ordinal : candidates) {
+            matches.add(this.documents.get(ordinal).key());
+        }
+        return matches;
+    }
+
+    /**
+     * Documents matching every term of {@code query}, most relevant first.
+     */
+    public List<Hit<K>> rank(final String query) {
+        return rank(Tokenizer.tokenize(query));
+    }
+
+    public List<Hit<K>> rank(final List<String> queryTerms) {
+        final var candidates = candidates(queryTerms);
+        final var scores = new double[candidates.length];
+        var postingCount = 0L;
+        for (final var queryTerm : queryTerms) {
+            postingCount += postingCount(expand(queryTerm).values());
+        }
+        if ((long) candidates.length * VERIFY_COST < postingCount) {
+            scoreCandidates(queryTerms, candidates, scores);
+        } else {
+            scorePostings(queryTerms, candidates, scores);
+        }
+
+        final var hits = new ArrayList<Hit<K>>(candidates.length);
+        for (int i = 0; i < candidates.length; i++) {
+            hits.add(new Hit<>(this.documents.get(candidates[i]).key(), scores[i]));
+        }
+        // stable sort keeps older documents first among equal scores
+        hits.sort(Comparator.comparingDouble(Hit<K>::score).reversed());
+        return hits;
+    }
+
+    /**
+     * Scores few candidates from their own terms.
+     */
+    private void scoreCandidates(final List<String> queryTerms, final int[] candidates, final double[] scores) {
+        final var idf = new HashMap<String, Double>();
+        for (int c = 0; c < candidates.length; c++) {
+            final var document = this.documents.get(candidates[c]);
+            for (final var queryTerm : queryTerms) {
+                var best = 0.0;
+                for (int i = 0; i < document.terms().length; i++) {
+                    final var term = document.terms()[i];
+                    if (term.startsWith(queryTerm)) {
+                        final var weight = idf.computeIfAbsent(term, key -> idf(this.terms.get(key)))
+                                * fieldWeight(document.flags()[i])
+                                * (term.length() == queryTerm.length() ? 1.0 : PREFIX_MATCH_WEIGHT);
+                        best = Math.max(best, weight);
+                    }
+                }
+                scores[c] += best;
+            }
+        }
+    }
+
+    /**
+     * Scores candidates by walking the postings of every query term once, which reads memory sequentially
+     * instead of chasing every candidate's terms.
+     */
+    private void scorePostings(final List<String> queryTerms, final int[] candidates, final double[] scores) {
+        // past this share of the index a dense array beats a binary search per posting entry
+        final var dense = (long) candidates.length * VERIFY_COST >= this.documents.size();
+        final var best = new double[dense ? this.documents.size() : candidates.length];
+        for (final var queryTerm : queryTerms) {
+            Arrays.fill(best, 0);
+            for (final var entry : expand(queryTerm).entrySet()) {
+                final var postings = entry.getValue();
+                final var weight = idf(postings) * (entry.getKey().equals(queryTerm) ? 1.0 : PREFIX_MATCH_WEIGHT);
+                postings.forEach((ordinal, flags) -> {
+                    final var position = dense ? ordinal : Arrays.binarySearch(candidates, ordinal);
+                    if (position >= 0) {
+                        best[position] = Math.max(best[position], weight * fieldWeight(flags));
+                    }
+                });
+            }
+            for (int c = 0; c < candidates.length; c++) {
+                scores[c] += best[dense ? candidates[c] : c];
+            }
+        }
+    }
+
+    /**
+     * Live ordinals matching every query term, ascending. Starts from the term with the shortest postings,
+     * then keeps the candidates that also match each other term, checking their own terms when there are
+     * fewer of them than postings to scan.
+     */
+    private int[] candidates(final List<String> queryTerms) {
+        if (queryTerms.isEmpty()) {
+            return new int[0];
+        }
+        final var expansions = new ArrayList<Expansion>(queryTerms.size());
+        for (final var queryTerm : queryTerms) {
+            final var postings = expand(queryTerm).values();
+            if (postings.isEmpty()) {
+                return new int[0];
+            }
+            expansions.add(new Expansion(queryTerm, postings, postingCount(postings)));
+        }
+        expansions.sort(Comparator.comparingLong(Expansion::count));
+
+        var candidates = union(expansions.get(0).postings());
+        for (int i = 1; i < expansions.size() && candidates.length > 0; i++) {
+            final var current = candidates;
+            final var expansion = expansions.get(i);
+            var kept = 0;
+            if ((long) current.length * VERIFY_COST < expansion.count()) {
+                for (final var ordinal : current) {
+                    if (contains(this.documents.get(ordinal), expansion.queryTerm())) {
+                        current[kept++] = ordinal;
+                    }
+                }
+                candidates = Arrays.copyOf(current, kept);
+                continue;
+            }
+
+            final var found = new boolean[current.length];
+            for (final var postings : expansion.postings()) {
+                postings.forEach((ordinal, flags) -> {
+                    final var position = Arrays.binarySearch(current, ordinal);
+                    if (position >= 0) {
+                        found[position] = true;
+                    }
+                });
+            }
+            for (int j = 0; j < current.length; j++) {
+                if (found[j]) {
+                    current[kept++] = current[j];
+                }
+            }
+            candidates = Arrays.copyOf(current, kept);
+        }
+        return candidates;
+    }
+
+    private static boolean contains(final Document<?> document, final String queryTerm) {
+        for (final var term : document.terms()) {
+            if (term.startsWith(queryTerm)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int[] union(final Collection<PostingList> postings) {
+        if (postings.size() == 1) {
+            final var only = postings.iterator().next();
+            final var ordinals = new int[only.size()];
+            final var count = new int[1];
+            only.forEach((ordinal, flags) -> {
+                if (!this.removed.get(ordinal)) {
+                    ordinals[count[0]++] = ordinal;
+                }
+            });
+            return Arrays.copyOf(ordinals, count[0]);
+        }
+        final var union = new BitSet(this.documents.size());
+        postings.forEach(list -> list.forEach((ordinal, flags) -> union.set(ordinal)));
+        union.andNot(this.removed);
+        return union.stream().toArray();
+    }
+
+    private NavigableMap<String, PostingList> expand(final String queryTerm) {
+        return this.terms.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false);
+    }
+
+    private double idf(final PostingList postings) {
+        return Math.log(1 + (double) Math.max(this.ordinals.size(), 1) / postings.size());
+    }
+
+    /**
+     * Field 0 weighs {@code 1}, field 1 {@code 1/2}, field 2 {@code 1/3} and so on; the best field counts.
+     */
+    private static double fieldWeight(final byte flags) {
+        return 1.0 / (Integer.numberOfTrailingZeros(flags & 0xFF) + 1);
+    }
+
+    private static long postingCount(final Collection<PostingList> postings) {
+        var count = 0L;
+        for (final var list : postings) {
+            count += list.size();
+        }
+        return count;
+    }
+
+    /**
+     * Renumbers live documents densely, in their current order, and rewrites every posting list without the
+     * removed ones.
+     */
+    private void compact() {
+        final var remap = new int[this.documents.size()];
+        final var documents = new ArrayList<Document<K>>(this.ordinals.size());
+        for (int ordinal = 0; ordinal < this.documents.size(); ordinal++) {
+            final var document = this.documents.get(ordinal);
+            remap[ordinal] = document == null ? -1 : documents.size();
+            if (document != null) {
+                this.ordinals.put(document.key(), documents.size());
+                documents.add(document);
+            }
+        }
+
+        final var iterator = this.terms.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final var entry = iterator.next();
+            final var compacted = new PostingList();
+            entry.getValue().forEach((ordinal, flags) -> {
+                if (remap[ordinal] >= 0) {
+                    compacted.append(remap[ordinal], flags);
+                }
+            });
+            if (compacted.size() == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue(compacted);
+            }
+        }
+
+        this.documents.clear();
+        this.documents.addAll(documents);
+        this.removed.clear();
+        this.removedCount = 0;
+    }
+
+    public record Hit<K>(K key, double score) {
+    }
+
+    private record Document<K>(K key, String[] terms, byte[] flags) {
+    }
+
+    private record Expansion(String queryTerm, Collection<PostingList> postings, long count) {
+    }
+}
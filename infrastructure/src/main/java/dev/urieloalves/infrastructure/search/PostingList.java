@@ -0,0 +1,73 @@
+package dev.urieloalves.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * Ascending document ordinals of one term, each with a byte of flags telling which fields contain it.
+ * <p>
+ * Ordinals are stored as variable-length deltas from the previous one, so dense postings take little more
+ * than two bytes per document. Documents can only be appended in ordinal order; removals are handled by the
+ * owning {@link InvertedIndex} with tombstones.
+ */
+final class PostingList {
+
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int size;
+    private int last = -1;
+
+    void append(final int ordinal, final byte flags) {
+        if (ordinal <= this.last) {
+            throw new IllegalArgumentException("Ordinal %d is not after %d".formatted(ordinal, this.last));
+        }
+        ensureCapacity(6);
+        var delta = ordinal - this.last;
+        while ((delta & ~0x7F) != 0) {
+            this.bytes[this.length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        this.bytes[this.length++] = (byte) delta;
+        this.bytes[this.length++] = flags;
+        this.last = ordinal;
+        this.size++;
+    }
+
+    void forEach(final Visitor visitor) {
+        var ordinal = -1;
+        var position = 0;
+        while (position < this.length) {
+            var delta = 0;
+            var shift = 0;
+            byte b;
+            do {
+                b = this.bytes[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            ordinal += delta;
+            visitor.visit(ordinal, this.bytes[position++]);
+        }
+    }
+
+    /**
+     * Number of documents, including removed ones not yet compacted away.
+     */
+    int size() {
+        return this.size;
+    }
+
+    int sizeInBytes() {
+        return this.length;
+    }
+
+    private void ensureCapacity(final int bytes) {
+        if (this.length + bytes > this.bytes.length) {
+            this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.length + bytes));
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(int ordinal, byte flags);
+    }
+}
@@ -0,0 +1,79 @@
+package dev.urieloalves.infrastructure.sharding;
+
+import java.util.Arrays;
+
+/**
+ * Immutable consistent hash ring over shards {@code 0..shards-1}. Each shard owns {@code virtualNodes} points
+ * on a 64-bit ring, and a key belongs to the shard of the first point at or after its hash. Adding a shard
+ * only moves keys to the new shard, about {@code 1 / shards} of them, and never between existing shards.
+ */
+public final class ConsistentHashRing {
+
+    private final int shards;
+    private final int virtualNodes;
+    private final long[] points;
+    private final int[] owners;
+
+    private ConsistentHashRing(final int shards, final int virtualNodes) {
+        this.shards = shards;
+        this.virtualNodes = virtualNodes;
+
+        final var nodes = new long[shards * virtualNodes][];
+        var n = 0;
+        for (int shard = 0; shard < shards; shard++) {
+            for (int replica = 0; replica < virtualNodes; replica++) {
+                nodes[n++] = new long[]{mix((long) shard << 32 | replica), shard};
+            }
+        }
+        Arrays.sort(nodes, (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+        this.points = new long[nodes.length];
+        this.owners = new int[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            this.points[i] = nodes[i][0];
+            this.owners[i] = (int) nodes[i][1];
+        }
+    }
+
+    public static ConsistentHashRing of(final int shards, final int virtualNodes) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("'shards' should be greater than zero");
+        }
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("'virtualNodes' should be greater than zero");
+        }
+        return new ConsistentHashRing(shards, virtualNodes);
+    }
+
+    /**
+     * The same ring with one more shard, numbered {@link #shards()}.
+     */
+    public ConsistentHashRing withShard() {
+        return new ConsistentHashRing(this.shards + 1, this.virtualNodes);
+    }
+
+    public int shardOf(final long hash) {
+        final var point = mix(hash);
+        var position = Arrays.binarySearch(this.points, point);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        return this.owners[position == this.points.length ? 0 : position];
+    }
+
+    public int shards() {
+        return this.shards;
+    }
+
+    /**
+     * Murmur3's 64-bit finalizer: spreads keys whose hashes differ in a few bits, e.g. time-ordered ids.
+     */
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
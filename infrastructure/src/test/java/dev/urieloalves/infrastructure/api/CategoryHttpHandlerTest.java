@@ -0,0 +1,175 @@
+package dev.urieloalves.infrastructure.api;
+
+import dev.urieloalves.application.category.create.DefaultCreateCategoryUseCase;
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.pagination.Pagination;
+import dev.urieloalves.infrastructure.api.json.JsonReader;
+import dev.urieloalves.infrastructure.category.InMemoryCategoryGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+
+public class CategoryHttpHandlerTest {
+
+    private FailingCategoryGateway gateway;
+    private HttpApiServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        gateway = new FailingCategoryGateway();
+        final var handler = new CategoryHttpHandler(new DefaultCreateCategoryUseCase(gateway), gateway);
+        server = HttpApiServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), handler);
+        client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void givenValidBody_whenPostCategories_thenShouldCreateAndServeIt() throws Exception {
+        final var created = post("{\"name\":\"Filmes \\uD83C\\uDFAC\",\"description\":\"A \\\"classic\\\"\",\"is_active\":false}");
+
+        Assertions.assertEquals(201, created.statusCode());
+        final var id = (String) JsonReader.readObject(created.body()).get("id");
+        Assertions.assertEquals("/categories/" + id, created.headers().firstValue("Location").orElseThrow());
+
+        final var actual = get("/categories/" + id);
+        Assertions.assertEquals(200, actual.statusCode());
+        Assertions.assertTrue(actual.body().contains("\"name\":\"Filmes 🎬\""), actual.body());
+        Assertions.assertTrue(actual.body().contains("\"description\":\"A \\\"classic\\\"\""), actual.body());
+        Assertions.assertTrue(actual.body().contains("\"is_active\":false"), actual.body());
+    }
+
+    @Test
+    public void givenMissingIsActive_whenPostCategories_thenShouldCreateAnActiveCategory() throws Exception {
+        final var created = post("{\"name\":\"Movies\"}");
+
+        Assertions.assertEquals(201, created.statusCode());
+        final var id = (String) JsonReader.readObject(created.body()).get("id");
+        Assertions.assertTrue(gateway.findById(CategoryId.from(id)).orElseThrow().isActive());
+    }
+
+    @Test
+    public void givenMalformedOrNestedBody_whenPostCategories_thenShouldReturn400() throws Exception {
+        Assertions.assertEquals(400, post("{\"name\":").statusCode());
+        Assertions.assertEquals(400, post("{\"name\":{\"value\":\"Movies\"}}").statusCode());
+        Assertions.assertEquals(400, post("{\"name\":42}").statusCode());
+        Assertions.assertEquals(0, gateway.streamAll(10).count());
+    }
+
+    @Test
+    public void givenNonBooleanIsActive_whenPostCategories_thenShouldReturn400() throws Exception {
+        final var actual = post("{\"name\":\"Movies\",\"is_active\":\"yes\"}");
+
+        Assertions.assertEquals(400, actual.statusCode());
+        Assertions.assertTrue(actual.body().contains("Expected a boolean"), actual.body());
+        Assertions.assertEquals(400, post("{\"name\":\"Movies\",\"is_active\":1}").statusCode());
+        Assertions.assertEquals(0, gateway.streamAll(10).count());
+    }
+
+    @Test
+    public void givenInvalidName_whenPostCategories_thenShouldReturn422WithErrors() throws Exception {
+        final var actual = post("{\"name\":\"  \"}");
+
+        Assertions.assertEquals(422, actual.statusCode());
+        Assertions.assertTrue(actual.body().contains("\"message\":\"'name' should not be empty\""), actual.body());
+        Assertions.assertTrue(actual.body().contains("\"code\":1002"), actual.body());
+    }
+
+    @Test
+    public void givenBodyOverTheLimit_whenPostCategories_thenShouldReturn413() throws Exception {
+        final var actual = post("{\"name\":\"" + "a".repeat(64 * 1024) + "\"}");
+
+        Assertions.assertEquals(413, actual.statusCode());
+        Assertions.assertEquals(0, gateway.streamAll(10).count());
+    }
+
+    @Test
+    public void givenUnknownIdOrPath_whenGet_thenShouldReturn404() throws Exception {
+        Assertions.assertEquals(404, get("/categories/" + CategoryId.unique().getValue()).statusCode());
+        Assertions.assertEquals(404, get("/categories-other").statusCode());
+        Assertions.assertEquals(404, send(HttpRequest.newBuilder(uri("/categories")).DELETE()).statusCode());
+    }
+
+    @Test
+    public void givenPerPageAboveTheLimit_whenGetCategories_thenShouldClampIt() throws Exception {
+        gateway.create(Category.newCategory("Movies", null, true));
+
+        final var actual = get("/categories?perPage=1000000&search=mov");
+
+        Assertions.assertEquals(200, actual.statusCode());
+        Assertions.assertTrue(actual.body().contains("\"per_page\":100,"), actual.body());
+        Assertions.assertTrue(actual.body().contains("\"total\":1,"), actual.body());
+    }
+
+    @Test
+    public void givenInvalidPaging_whenGetCategories_thenShouldReturn400() throws Exception {
+        Assertions.assertEquals(400, get("/categories?perPage=ten").statusCode());
+        Assertions.assertEquals(400, get("/categories?page=-1").statusCode());
+    }
+
+    @Test
+    public void givenGatewayFailure_whenGet_thenShouldReturn500() throws Exception {
+        gateway.failing = true;
+
+        final var actual = get("/categories/" + CategoryId.unique().getValue());
+
+        Assertions.assertEquals(500, actual.statusCode());
+        Assertions.assertTrue(actual.body().contains("Internal server error"), actual.body());
+        Assertions.assertFalse(actual.body().contains("Gateway Error"), actual.body());
+        Assertions.assertEquals(500, get("/categories").statusCode());
+    }
+
+    private HttpResponse<String> post(final String body) throws Exception {
+        return send(HttpRequest.newBuilder(uri("/categories")).POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private HttpResponse<String> get(final String path) throws Exception {
+        return send(HttpRequest.newBuilder(uri(path)).GET());
+    }
+
+    private HttpResponse<String> send(final HttpRequest.Builder request) throws Exception {
+        return client.send(request.timeout(Duration.ofSeconds(5)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(final String path) {
+        return URI.create("http://127.0.0.1:" + server.port() + path);
+    }
+
+    private static class FailingCategoryGateway extends InMemoryCategoryGateway {
+
+        private volatile boolean failing;
+
+        @Override
+        public Optional<Category> findById(final CategoryId id) {
+            if (failing) {
+                throw new IllegalStateException("Gateway Error");
+            }
+            return super.findById(id);
+        }
+
+        @Override
+        public Pagination<Category> findAll(final CategorySearchQuery query) {
+            if (failing) {
+                throw new IllegalStateException("Gateway Error");
+            }
+            return super.findAll(query);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package dev.urieloalves.infrastructure.api.json;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JsonReaderTest {
+
+    @Test
+    public void givenObjectWithEveryValueType_whenCallReadObject_thenShouldReadEachValue() {
+        final var actual = JsonReader.readObject(" { \"name\" : \"Movies\", \"count\": -12, \"ratio\": 1.5e2, \"is_active\": true, \"deleted\": false, \"description\": null } ");
+
+        Assertions.assertEquals("Movies", actual.get("name"));
+        Assertions.assertEquals(-12L, actual.get("count"));
+        Assertions.assertEquals(150.0, actual.get("ratio"));
+        Assertions.assertEquals(Boolean.TRUE, actual.get("is_active"));
+        Assertions.assertEquals(Boolean.FALSE, actual.get("deleted"));
+        Assertions.assertTrue(actual.containsKey("description"));
+        Assertions.assertNull(actual.get("description"));
+    }
+
+    @Test
+    public void givenEmptyObject_whenCallReadObject_thenShouldReturnEmptyMap() {
+        Assertions.assertTrue(JsonReader.readObject("{}").isEmpty());
+    }
+
+    @Test
+    public void givenEscapes_whenCallReadObject_thenShouldUnescapeThem() {
+        final var expectedName = "a\"b\\c/d\b\f\n\r\t é";
+
+        final var actual = JsonReader.readObject("{\"name\":\"a\\\"b\\\\c\\/d\\b\\f\\n\\r\\t \\u00E9\"}");
+
+        Assertions.assertEquals(expectedName, actual.get("name"));
+    }
+
+    @Test
+    public void givenSurrogatePair_whenCallReadObject_thenShouldReadEscapedAndRawForms() {
+        final var expectedName = "Filmes 🎬";
+
+        final var escaped = JsonReader.readObject("{\"name\":\"Filmes \\uD83C\\uDFAC\"}");
+        final var raw = JsonReader.readObject("{\"name\":\"Filmes 🎬\"}");
+
+        Assertions.assertEquals(expectedName, escaped.get("name"));
+        Assertions.assertEquals(expectedName, raw.get("name"));
+    }
+
+    @Test
+    public void givenNestedValues_whenCallReadObject_thenShouldThrowIllegalArgumentException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JsonReader.readObject("{\"name\":{\"value\":\"Movies\"}}"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JsonReader.readObject("{\"names\":[\"Movies\"]}"));
+    }
+
+    @Test
+    public void givenMalformedInput_whenCallReadObject_thenShouldThrowIllegalArgumentException() {
+        final var inputs = new String[]{
+                "",
+                "[]",
+                "{",
+                "{\"name\"}",
+                "{\"name\":}",
+                "{\"name\":\"Movies\"",
+                "{\"name\":\"Movies\",}",
+                "{\"name\":\"Movies\" \"other\":1}",
+                "{\"name\":\"Movies\"} trailing",
+                "{name:\"Movies\"}",
+                "{\"name\":'Movies'}",
+                "{\"name\":tru}",
+                "{\"count\":-}",
+                "{\"count\":1.2.3}",
+                "{\"name\":\"bad \\x escape\"}",
+                "{\"name\":\"\\u12\"}",
+                "{\"name\":\"\\u+123\"}",
+                "{\"name\":\"\\u-123\"}",
+                "{\"name\":\"raw \n newline\"}"
+        };
+
+        for (final var input : inputs) {
+            final var actualException = Assertions.assertThrows(IllegalArgumentException.class, () -> JsonReader.readObject(input), input);
+            Assertions.assertTrue(actualException.getMessage().startsWith("Invalid JSON at position"), input);
+        }
+    }
+}
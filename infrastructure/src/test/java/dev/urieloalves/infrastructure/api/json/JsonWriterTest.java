@@ -0,0 +1,63 @@
+package dev.urieloalves.infrastructure.api.json;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+public class JsonWriterTest {
+
+    @Test
+    public void givenNestedObjectsAndArrays_whenWritten_thenShouldSeparateEveryValue() {
+        final var expectedJson = "{\"id\":\"123\",\"items\":[{\"code\":1,\"active\":true},{\"code\":2,\"active\":false}],\"empty\":[],\"nested\":{\"inner\":{}},\"total\":2}";
+        final var out = new StringBuilder();
+
+        new JsonWriter(out).beginObject()
+                .name("id").value("123")
+                .name("items").beginArray()
+                .beginObject().name("code").value(1).name("active").value(true).endObject()
+                .beginObject().name("code").value(2).name("active").value(false).endObject()
+                .endArray()
+                .name("empty").beginArray().endArray()
+                .name("nested").beginObject().name("inner").beginObject().endObject().endObject()
+                .name("total").value(2)
+                .endObject();
+
+        Assertions.assertEquals(expectedJson, out.toString());
+    }
+
+    @Test
+    public void givenNullsAndInstants_whenWritten_thenShouldWriteNullAndIsoStrings() {
+        final var expectedJson = "{\"description\":null,\"deleted_at\":null,\"created_at\":\"2024-01-02T03:04:05.123456789Z\"}";
+        final var out = new StringBuilder();
+
+        new JsonWriter(out).beginObject()
+                .name("description").value((String) null)
+                .name("deleted_at").value((Instant) null)
+                .name("created_at").value(Instant.parse("2024-01-02T03:04:05.123456789Z"))
+                .endObject();
+
+        Assertions.assertEquals(expectedJson, out.toString());
+    }
+
+    @Test
+    public void givenCharactersThatNeedEscaping_whenWritten_thenShouldEscapeThem() {
+        final var expectedJson = "[\"a\\\"b\\\\c\\n\\r\\t\\u0000\\u001f/é\"]";
+        final var out = new StringBuilder();
+
+        new JsonWriter(out).beginArray().value("a\"b\\c\n\r\t\u0000\u001f/é").endArray();
+
+        Assertions.assertEquals(expectedJson, out.toString());
+    }
+
+    @Test
+    public void givenSurrogatePairInName_whenWritten_thenShouldReadBackTheSameString() {
+        final var expectedName = "Filmes 🎬 \"clássicos\"\n";
+        final var out = new StringBuilder();
+
+        new JsonWriter(out).beginObject().name("name").value(expectedName).endObject();
+
+        Assertions.assertEquals("{\"name\":\"Filmes 🎬 \\\"clássicos\\\"\\n\"}", out.toString());
+        Assertions.assertEquals(expectedName, JsonReader.readObject(out).get("name"));
+    }
+}
@@ -0,0 +1,55 @@
+package dev.urieloalves.infrastructure.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void givenExpiredEntry_whenCallGetIfPresent_thenShouldMiss() {
+        final var now = new AtomicLong();
+        final var cache = new BoundedCache<String, String>(10, Duration.ofSeconds(1), now::get);
+
+        cache.put("key", "value");
+        Assertions.assertEquals("value", cache.getIfPresent("key"));
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        Assertions.assertNull(cache.getIfPresent("key"));
+        Assertions.assertEquals(1, cache.stats().hits());
+        Assertions.assertEquals(1, cache.stats().misses());
+        Assertions.assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    public void givenLoadRacingAnInvalidation_whenCallGet_thenShouldNotCacheTheLoadedValue() {
+        final var cache = new BoundedCache<String, String>(10, Duration.ofMinutes(1));
+
+        final var loaded = cache.get("key", key -> {
+            cache.invalidate(key);
+            return "stale";
+        });
+
+        Assertions.assertEquals("stale", loaded);
+        Assertions.assertNull(cache.getIfPresent("key"));
+        Assertions.assertEquals("fresh", cache.get("key", key -> "fresh"));
+        Assertions.assertEquals("fresh", cache.getIfPresent("key"));
+    }
+
+    @Test
+    public void givenLoadRacingAnInvalidationOfAnotherSegment_whenCallGet_thenShouldCacheTheLoadedValue() {
+        final var cache = new BoundedCache<Integer, String>(64, Duration.ofMinutes(1));
+
+        // Integer keys 0 and 1 hash to different segments
+        final var loaded = cache.get(0, key -> {
+            cache.invalidate(1);
+            return "value";
+        });
+
+        Assertions.assertEquals("value", loaded);
+        Assertions.assertEquals("value", cache.getIfPresent(0));
+    }
+}
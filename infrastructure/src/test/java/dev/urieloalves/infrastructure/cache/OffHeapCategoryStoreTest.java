@@ -0,0 +1,100 @@
+package dev.urieloalves.infrastructure.cache;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+
+public class OffHeapCategoryStoreTest {
+
+    @Test
+    public void givenStoredCategory_whenCallGet_thenShouldReturnAnEqualCopy() {
+        final var store = new OffHeapCategoryStore(64 * 1_024, 1);
+        final var expectedCategory = Category.newCategory("Movies", "The most watched category", false);
+
+        store.put(expectedCategory);
+        final var actualCategory = store.get(expectedCategory.getId());
+
+        Assertions.assertNotSame(expectedCategory, actualCategory);
+        Assertions.assertEquals(expectedCategory.getId(), actualCategory.getId());
+        Assertions.assertEquals(expectedCategory.getName(), actualCategory.getName());
+        Assertions.assertEquals(expectedCategory.getDescription(), actualCategory.getDescription());
+        Assertions.assertEquals(expectedCategory.getCreatedAt(), actualCategory.getCreatedAt());
+        Assertions.assertEquals(expectedCategory.getDeletedAt(), actualCategory.getDeletedAt());
+        Assertions.assertEquals(1, store.stats().hits());
+        Assertions.assertEquals(1, store.stats().size());
+    }
+
+    @Test
+    public void givenStoredCategory_whenCallInvalidateOrPutWithOldStamp_thenShouldMiss() {
+        final var store = new OffHeapCategoryStore(64 * 1_024, 1);
+        final var category = Category.newCategory("Movies", null, true);
+        store.put(category);
+        final var stamp = store.stamp(category.getId());
+
+        store.invalidate(category.getId());
+        store.put(category, stamp);
+
+        Assertions.assertNull(store.get(category.getId()));
+        Assertions.assertEquals(0, store.stats().size());
+    }
+
+    @Test
+    public void givenRawId_whenCallPut_thenShouldNotCacheIt() {
+        final var store = new OffHeapCategoryStore(64 * 1_024, 1);
+        final var category = Category.with(CategoryId.from("legacy-1"), "Movies", null, true, Instant.now(), Instant.now(), null);
+
+        store.put(category);
+
+        Assertions.assertNull(store.get(category.getId()));
+    }
+
+    @Test
+    public void givenFullStore_whenCallPut_thenShouldEvictUnreadCategoriesBeforeReadOnes() {
+        final var store = new OffHeapCategoryStore(16 * 1_024, 1);
+        final var hot = Category.newCategory("Hot", null, true);
+        store.put(hot);
+
+        for (int i = 0; i < 2_000; i++) {
+            store.put(Category.newCategory("Cold %04d".formatted(i), null, true));
+            Assertions.assertNotNull(store.get(hot.getId()), "hot category evicted after " + i + " puts");
+        }
+
+        Assertions.assertTrue(store.stats().evictions() > 1_000);
+        Assertions.assertTrue(store.stats().size() < 200);
+    }
+
+    @Test
+    public void givenRandomPutsAndInvalidations_whenCallGet_thenShouldNeverReturnAStaleCategory() {
+        final var store = new OffHeapCategoryStore(32 * 1_024, 2);
+        final var random = new Random(42);
+        final var ids = new ArrayList<CategoryId>();
+        for (int i = 0; i < 500; i++) {
+            ids.add(CategoryId.unique());
+        }
+        final var latest = new HashMap<CategoryId, String>();
+
+        for (int i = 0; i < 50_000; i++) {
+            final var id = ids.get(random.nextInt(ids.size()));
+            final var operation = random.nextInt(10);
+            if (operation < 5) {
+                final var name = "Name " + i + "x".repeat(random.nextInt(120));
+                store.put(Category.with(id, name, null, true, Instant.now(), Instant.now(), null));
+                latest.put(id, name);
+            } else if (operation < 6) {
+                store.invalidate(id);
+                latest.remove(id);
+            } else {
+                final var cached = store.get(id);
+                if (cached != null) {
+                    Assertions.assertEquals(latest.get(id), cached.getName());
+                }
+            }
+        }
+    }
+}
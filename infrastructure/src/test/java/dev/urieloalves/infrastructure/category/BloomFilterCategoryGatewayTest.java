@@ -0,0 +1,109 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.infrastructure.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BloomFilterCategoryGatewayTest {
+
+    private CountingCategoryGateway delegate;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = new CountingCategoryGateway();
+    }
+
+    @Test
+    public void givenUnknownIds_whenCallFindById_thenShouldAnswerWithoutCallingDelegate() {
+        final var registry = new MetricsRegistry();
+        final var gateway = new BloomFilterCategoryGateway(delegate, 1_000, 0.01, "memory", registry);
+        gateway.create(Category.newCategory("Movies", null, true));
+
+        for (int i = 0; i < 1_000; i++) {
+            Assertions.assertTrue(gateway.findById(CategoryId.unique()).isEmpty());
+        }
+
+        final var negatives = registry.counter("gateway_bloom_lookups_total", "gateway", "memory", "result", "negative").sum();
+        final var falsePositives = registry.counter("gateway_bloom_lookups_total", "gateway", "memory", "result", "false_positive").sum();
+        Assertions.assertEquals(1_000, negatives + falsePositives);
+        Assertions.assertEquals(falsePositives, delegate.findByIdCalls.get());
+        Assertions.assertTrue(falsePositives < 50, falsePositives + " false positives");
+        Assertions.assertEquals((double) falsePositives / 1_000, gateway.falsePositiveRate());
+    }
+
+    @Test
+    public void givenCreatedCategories_whenCallFindById_thenShouldFindEveryOne() {
+        final var gateway = new BloomFilterCategoryGateway(delegate, 1_000, 0.01);
+        final var created = new ArrayList<Category>();
+        created.add(gateway.create(Category.newCategory("Movies", null, true)));
+        created.addAll(gateway.createAll(List.of(
+                Category.newCategory("Series", null, true),
+                Category.newCategory("Shows", null, true)
+        )));
+
+        for (final var category : created) {
+            Assertions.assertEquals(category.getName(), gateway.findById(category.getId()).orElseThrow().getName());
+        }
+    }
+
+    @Test
+    public void givenDeletedCategory_whenCallFindById_thenShouldAnswerWithoutCallingDelegate() {
+        final var gateway = new BloomFilterCategoryGateway(delegate, 1_000, 0.01);
+        final var kept = gateway.create(Category.newCategory("Movies", null, true));
+        final var deleted = gateway.create(Category.newCategory("Series", null, true));
+
+        gateway.deleteById(deleted.getId());
+        gateway.deleteById(deleted.getId());
+        gateway.deleteById(CategoryId.unique());
+        delegate.findByIdCalls.set(0);
+
+        Assertions.assertTrue(gateway.findById(deleted.getId()).isEmpty());
+        Assertions.assertEquals(0, delegate.findByIdCalls.get());
+        Assertions.assertTrue(gateway.findById(kept.getId()).isPresent());
+    }
+
+    @Test
+    public void givenCategoriesStoredBehindTheGateway_whenCallRebuild_thenShouldFindThem() {
+        final var existing = delegate.create(Category.newCategory("Movies", null, true));
+        final var gateway = new BloomFilterCategoryGateway(delegate, 1_000, 0.01);
+        final var behind = delegate.create(Category.newCategory("Series", null, true));
+        final var expectedScanned = 2L;
+
+        Assertions.assertTrue(gateway.findById(existing.getId()).isPresent());
+        final var actualScanned = gateway.rebuild();
+
+        Assertions.assertEquals(expectedScanned, actualScanned);
+        Assertions.assertTrue(gateway.findById(behind.getId()).isPresent());
+    }
+
+    @Test
+    public void givenRawIds_whenCallFindById_thenShouldFindThem() {
+        final var gateway = new BloomFilterCategoryGateway(delegate, 1_000, 0.01);
+        final var now = Instant.now();
+        final var category = Category.with(CategoryId.from("legacy-42"), "Movies", null, true, now, now, null);
+
+        gateway.create(category);
+
+        Assertions.assertTrue(gateway.findById(CategoryId.from("legacy-42")).isPresent());
+    }
+
+    private static class CountingCategoryGateway extends InMemoryCategoryGateway {
+
+        private final AtomicInteger findByIdCalls = new AtomicInteger();
+
+        @Override
+        public Optional<Category> findById(final CategoryId id) {
+            findByIdCalls.incrementAndGet();
+            return super.findById(id);
+        }
+    }
+}
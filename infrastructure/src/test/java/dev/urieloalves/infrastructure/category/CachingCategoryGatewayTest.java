@@ -0,0 +1,183 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.pagination.Pagination;
+import dev.urieloalves.infrastructure.cache.OffHeapCategoryStore;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CachingCategoryGatewayTest {
+
+    private CountingCategoryGateway delegate;
+    private CachingCategoryGateway gateway;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = new CountingCategoryGateway();
+        gateway = new CachingCategoryGateway(delegate, 1_000, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    public void givenStoredCategory_whenCallFindByIdTwice_thenShouldHitDelegateOnce() {
+        final var category = gateway.create(Category.newCategory("Movies", "The most watched category", true));
+
+        final var first = gateway.findById(category.getId()).orElseThrow();
+        final var second = gateway.findById(category.getId()).orElseThrow();
+
+        Assertions.assertEquals(1, delegate.findByIdCalls.get());
+        Assertions.assertEquals(first.getName(), second.getName());
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(1, gateway.categoryStats().hits());
+        Assertions.assertEquals(1, gateway.categoryStats().misses());
+    }
+
+    @Test
+    public void givenCachedMiss_whenCategoryIsCreated_thenShouldFindIt() {
+        final var category = Category.newCategory("Movies", "The most watched category", true);
+
+        Assertions.assertTrue(gateway.findById(category.getId()).isEmpty());
+        gateway.create(category);
+
+        Assertions.assertTrue(gateway.findById(category.getId()).isPresent());
+    }
+
+    @Test
+    public void givenCachedCategory_whenCallUpdateAndDelete_thenShouldInvalidateIt() {
+        final var category = gateway.create(Category.newCategory("Movies", "The most watched category", true));
+        gateway.findById(category.getId());
+
+        gateway.update(category.update("Series", "Long running shows", true));
+        Assertions.assertEquals("Series", gateway.findById(category.getId()).orElseThrow().getName());
+
+        gateway.deleteById(category.getId());
+        Assertions.assertTrue(gateway.findById(category.getId()).isEmpty());
+        Assertions.assertEquals(3, delegate.findByIdCalls.get());
+    }
+
+    @Test
+    public void givenOffHeapTier_whenOnHeapTierEvictsCategories_thenShouldReadThemFromOffHeap() {
+        final var offHeap = new OffHeapCategoryStore(64 * 1_024, 1);
+        final var tiered = new CachingCategoryGateway(delegate, 1, 100, Duration.ofMinutes(5), offHeap);
+        final var ids = new ArrayList<CategoryId>();
+        for (int i = 0; i < 64; i++) {
+            ids.add(tiered.create(Category.newCategory("Category " + i, null, true)).getId());
+        }
+
+        ids.forEach(tiered::findById);
+        ids.forEach(tiered::findById);
+
+        Assertions.assertEquals(64, delegate.findByIdCalls.get());
+        Assertions.assertTrue(tiered.offHeapStats().orElseThrow().hits() >= 64 - 16);
+
+        final var category = tiered.findById(ids.get(0)).orElseThrow();
+        tiered.update(category.update("Films", null, true));
+        Assertions.assertEquals("Films", tiered.findById(ids.get(0)).orElseThrow().getName());
+        Assertions.assertEquals(65, delegate.findByIdCalls.get());
+    }
+
+    @Test
+    public void givenEquivalentQueries_whenCallFindAll_thenShouldShareTheCachedPageUntilAWrite() {
+        gateway.create(Category.newCategory("Movies", "The most watched category", true));
+
+        final var first = gateway.findAll(new CategorySearchQuery(0, 10, " Movies ", "name", "ASC"));
+        final var second = gateway.findAll(new CategorySearchQuery(0, 10, "movies", "name", "asc"));
+        Assertions.assertEquals(1, delegate.findAllCalls.get());
+        Assertions.assertEquals(first.total(), second.total());
+
+        gateway.create(Category.newCategory("Movies for kids", null, true));
+        final var afterWrite = gateway.findAll(new CategorySearchQuery(0, 10, "movies", "name", "asc"));
+
+        Assertions.assertEquals(2, delegate.findAllCalls.get());
+        Assertions.assertEquals(2, afterWrite.total());
+    }
+
+    @Test
+    public void givenCachedCategory_whenChangedBehindTheCacheAndEventArrives_thenShouldReloadIt() {
+        final var expectedName = "Series";
+        final var category = gateway.create(Category.newCategory("Movies", "The most watched category", true));
+        gateway.findById(category.getId());
+        gateway.findAll(new CategorySearchQuery(0, 10, null, "name", "asc"));
+
+        final var updated = category.update(expectedName, "Long running shows", true);
+        delegate.update(updated);
+        gateway.onEvents(updated.getDomainEvents());
+
+        Assertions.assertEquals(expectedName, gateway.findById(category.getId()).orElseThrow().getName());
+        Assertions.assertEquals(expectedName, gateway.findAll(new CategorySearchQuery(0, 10, null, "name", "asc")).items().get(0).getName());
+        Assertions.assertEquals(2, delegate.findByIdCalls.get());
+    }
+
+    @Test
+    public void givenMoreCategoriesThanTheCacheHolds_whenCallFindById_thenShouldEvict() {
+        gateway = new CachingCategoryGateway(delegate, 16, 16, Duration.ofMinutes(5));
+        for (int i = 0; i < 100; i++) {
+            gateway.findById(CategoryId.unique());
+        }
+
+        Assertions.assertTrue(gateway.categoryStats().evictions() >= 100 - 16);
+        Assertions.assertTrue(gateway.categoryStats().size() <= 16);
+    }
+
+    @Test
+    public void givenConcurrentMisses_whenCallFindById_thenShouldLoadOnce() throws Exception {
+        final var category = delegate.create(Category.newCategory("Movies", "The most watched category", true));
+        final var readers = 16;
+        final var executor = Executors.newFixedThreadPool(readers);
+        final var futures = new ArrayList<Future<Optional<Category>>>();
+
+        delegate.blockFindById = new CountDownLatch(1);
+        for (int i = 0; i < readers; i++) {
+            futures.add(executor.submit(() -> gateway.findById(category.getId())));
+        }
+        while (delegate.findByIdCalls.get() == 0) {
+            Thread.onSpinWait();
+        }
+        Thread.sleep(50);
+        delegate.blockFindById.countDown();
+
+        for (final var future : futures) {
+            Assertions.assertTrue(future.get(10, TimeUnit.SECONDS).isPresent());
+        }
+        executor.shutdown();
+
+        Assertions.assertEquals(1, delegate.findByIdCalls.get());
+    }
+
+    private static class CountingCategoryGateway extends InMemoryCategoryGateway {
+
+        private final AtomicInteger findByIdCalls = new AtomicInteger();
+        private final AtomicInteger findAllCalls = new AtomicInteger();
+        private volatile CountDownLatch blockFindById;
+
+        @Override
+        public Optional<Category> findById(final CategoryId id) {
+            findByIdCalls.incrementAndGet();
+            if (blockFindById != null) {
+                try {
+                    blockFindById.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.findById(id);
+        }
+
+        @Override
+        public Pagination<Category> findAll(final CategorySearchQuery query) {
+            findAllCalls.incrementAndGet();
+            return super.findAll(query);
+        }
+    }
+}
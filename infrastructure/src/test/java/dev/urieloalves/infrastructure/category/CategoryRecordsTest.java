@@ -0,0 +1,18 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.domain.category.Category;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CategoryRecordsTest {
+
+    @Test
+    public void givenCategory_whenCallPut_thenShouldWriteTheCodecRecord() {
+        final var expected = Category.newCategory("Movies", "The most watched category", true);
+
+        final var record = CategoryRecords.put(expected);
+
+        Assertions.assertEquals(CategoryRecords.CATEGORY, CategoryRecords.type(record));
+        Assertions.assertEquals(expected.getUpdatedAt(), CategoryRecords.readCategory(record).getUpdatedAt());
+    }
+}
@@ -0,0 +1,156 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.exceptions.OptimisticLockException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+public class CoalescingCategoryGatewayTest {
+
+    private CountingCategoryGateway delegate;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = new CountingCategoryGateway();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void givenBurstOfIdenticalUpdates_whenCallUpdate_thenShouldWriteOnceForEveryCaller() throws Exception {
+        final var gateway = new CoalescingCategoryGateway(delegate, 16, Duration.ofMillis(300));
+        final var stored = gateway.create(Category.newCategory("Movies", null, true));
+        final var expectedName = "Films";
+
+        final var results = new ArrayList<Future<Category>>();
+        final var leader = Category.with(stored).update(expectedName, null, true);
+        results.add(executor.submit(() -> gateway.update(leader)));
+        // the first call leads the burst, each later one joins it before the next is sent
+        Thread.sleep(50);
+        for (int i = 1; i < 4; i++) {
+            final var copy = Category.with(stored).update(expectedName, null, true);
+            results.add(executor.submit(() -> gateway.update(copy)));
+            final var expectedCoalesced = i;
+            awaitUntil(() -> gateway.coalesced() == expectedCoalesced);
+        }
+
+        for (final var result : results) {
+            final var actualCategory = result.get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(expectedName, actualCategory.getName());
+            Assertions.assertEquals(1, actualCategory.getVersion());
+        }
+        Assertions.assertEquals(1, delegate.updateCalls.get());
+        Assertions.assertEquals(3, gateway.coalesced());
+        Assertions.assertEquals(expectedName, gateway.findById(stored.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenBurstOfDifferentUpdates_whenCallUpdate_thenShouldStoreOneAndFailTheOthers() throws Exception {
+        final var gateway = new CoalescingCategoryGateway(delegate, 16, Duration.ofMillis(300));
+        final var stored = gateway.create(Category.newCategory("Movies", null, true));
+
+        final var results = new ArrayList<Future<Category>>();
+        final var leader = Category.with(stored).update("Name 0", null, true);
+        results.add(executor.submit(() -> gateway.update(leader)));
+        Thread.sleep(50);
+        for (int i = 1; i < 4; i++) {
+            final var other = Category.with(stored).update("Name " + i, null, true);
+            results.add(executor.submit(() -> gateway.update(other)));
+        }
+
+        final var storedNames = new ArrayList<String>();
+        var conflicts = 0;
+        for (final var result : results) {
+            try {
+                storedNames.add(result.get(5, TimeUnit.SECONDS).getName());
+            } catch (final ExecutionException e) {
+                Assertions.assertTrue(e.getCause() instanceof OptimisticLockException);
+                conflicts++;
+            }
+        }
+        Assertions.assertEquals(1, storedNames.size());
+        Assertions.assertEquals(3, conflicts);
+        Assertions.assertEquals(0, gateway.coalesced());
+        Assertions.assertEquals(storedNames.get(0), gateway.findById(stored.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenPendingBurst_whenCallDeleteOnTheSameStripe_thenShouldNotWaitForTheWindow() throws Exception {
+        final var gateway = new CoalescingCategoryGateway(delegate, 1, Duration.ofSeconds(2));
+        final var updated = gateway.create(Category.newCategory("Movies", null, true));
+        final var deleted = gateway.create(Category.newCategory("Series", null, true));
+
+        final var update = executor.submit(() -> gateway.update(Category.with(updated).update("Films", null, true)));
+        Thread.sleep(50);
+        final var start = System.nanoTime();
+        gateway.deleteById(deleted.getId());
+        final var actualMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assertions.assertTrue(actualMillis < 1_000, "delete waited " + actualMillis + " ms");
+        Assertions.assertTrue(gateway.findById(deleted.getId()).isEmpty());
+        Assertions.assertEquals("Films", update.get(5, TimeUnit.SECONDS).getName());
+    }
+
+    @Test
+    public void givenStaleCategory_whenCallUpdate_thenShouldStillThrowOptimisticLockException() {
+        final var gateway = new CoalescingCategoryGateway(delegate, 16, Duration.ZERO);
+        final var stored = gateway.create(Category.newCategory("Movies", null, true));
+        gateway.update(Category.with(stored).update("Series", null, true));
+
+        Assertions.assertThrows(
+                OptimisticLockException.class,
+                () -> gateway.update(Category.with(stored).update("Shows", null, true))
+        );
+        Assertions.assertEquals("Series", gateway.findById(stored.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenUpdatesToDifferentCategories_whenCallUpdate_thenShouldWriteEachOne() throws Exception {
+        final var gateway = new CoalescingCategoryGateway(delegate, 16, Duration.ZERO);
+        final var first = gateway.create(Category.newCategory("Movies", null, true));
+        final var second = gateway.create(Category.newCategory("Series", null, true));
+
+        final var updatedFirst = executor.submit(() -> gateway.update(Category.with(first).update("Films", null, false)));
+        final var updatedSecond = executor.submit(() -> gateway.update(Category.with(second).update("Shows", null, true)));
+
+        Assertions.assertEquals("Films", updatedFirst.get(5, TimeUnit.SECONDS).getName());
+        Assertions.assertEquals("Shows", updatedSecond.get(5, TimeUnit.SECONDS).getName());
+        Assertions.assertEquals(2, delegate.updateCalls.get());
+        Assertions.assertEquals(0, gateway.coalesced());
+    }
+
+    private static void awaitUntil(final BooleanSupplier condition) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static class CountingCategoryGateway extends InMemoryCategoryGateway {
+
+        private final AtomicInteger updateCalls = new AtomicInteger();
+
+        @Override
+        public Category update(final Category category) {
+            updateCalls.incrementAndGet();
+            return super.update(category);
+        }
+    }
+}
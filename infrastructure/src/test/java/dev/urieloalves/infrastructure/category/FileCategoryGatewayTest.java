@@ -0,0 +1,233 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.infrastructure.log.LogSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+public class FileCategoryGatewayTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("categories");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (final var files = Files.walk(directory)) {
+            for (final var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test
+    public void givenWrites_whenReopenGateway_thenShouldReplayThemFromTheLog() throws IOException {
+        final var expectedName = "Series";
+        final var expectedDescription = "Long running shows";
+
+        final var movies = Category.newCategory("Movies", "The most watched category", true);
+        final var anime = Category.newCategory("Anime", null, true);
+        try (final var gateway = open(LogSettings.defaults())) {
+            gateway.create(movies);
+            gateway.create(anime);
+            gateway.update(movies.update(expectedName, expectedDescription, false));
+            gateway.deleteById(anime.getId());
+        }
+
+        try (final var gateway = open(LogSettings.defaults())) {
+            final var actualCategory = gateway.findById(movies.getId()).orElseThrow();
+
+            Assertions.assertEquals(expectedName, actualCategory.getName());
+            Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
+            Assertions.assertFalse(actualCategory.isActive());
+            Assertions.assertEquals(movies.getCreatedAt(), actualCategory.getCreatedAt());
+            Assertions.assertEquals(movies.getDeletedAt(), actualCategory.getDeletedAt());
+            Assertions.assertTrue(gateway.findById(anime.getId()).isEmpty());
+            Assertions.assertEquals(1, gateway.findAll(query("shows")).total());
+        }
+    }
+
+    @Test
+    public void givenCompactedLog_whenReopenGateway_thenShouldLoadSnapshotAndLaterSegments() throws IOException {
+        final var expectedTotal = 3;
+
+        final var movies = Category.newCategory("Movies", "The most watched category", true);
+        try (final var gateway = open(LogSettings.defaults())) {
+            var current = gateway.create(movies);
+            for (int i = 0; i < 10; i++) {
+                current = gateway.update(current.update("Movies " + i, "Version " + i, true));
+            }
+            gateway.create(Category.newCategory("Anime", null, true));
+
+            gateway.compact();
+
+            gateway.create(Category.newCategory("Kids", "For the whole family", true));
+        }
+
+        try (final var files = Files.list(directory)) {
+            final var names = files.map(file -> file.getFileName().toString()).sorted().toList();
+            Assertions.assertEquals(List.of("segment-0000000002.log", "snapshot-0000000002.snap"), names);
+        }
+        try (final var gateway = open(LogSettings.defaults())) {
+            Assertions.assertEquals(expectedTotal, gateway.findAll(query(null)).total());
+            Assertions.assertEquals("Movies 9", gateway.findById(movies.getId()).orElseThrow().getName());
+            Assertions.assertEquals(10, gateway.findById(movies.getId()).orElseThrow().getVersion());
+        }
+    }
+
+    @Test
+    public void givenTornRecordAtTheEndOfTheLog_whenReopenGateway_thenShouldDropItAndKeepAppending() throws IOException {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        try (final var gateway = open(LogSettings.defaults())) {
+            gateway.create(movies);
+        }
+        Files.write(
+                directory.resolve("segment-0000000001.log"),
+                new byte[]{0, 0, 0, 42, 1, 2, 3},
+                StandardOpenOption.APPEND
+        );
+
+        try (final var gateway = open(LogSettings.defaults())) {
+            Assertions.assertTrue(gateway.findById(movies.getId()).isPresent());
+            gateway.create(series);
+        }
+        try (final var gateway = open(LogSettings.defaults())) {
+            Assertions.assertTrue(gateway.findById(movies.getId()).isPresent());
+            Assertions.assertTrue(gateway.findById(series.getId()).isPresent());
+        }
+    }
+
+    @Test
+    public void givenConcurrentWritersAndSmallSegments_whenReopenGateway_thenShouldRestoreEveryCategory() throws Exception {
+        final var expectedTotal = 2_000;
+        final var settings = new LogSettings(16 * 1024, 64, Duration.ofMillis(5));
+        final var executor = Executors.newFixedThreadPool(4);
+
+        try (final var gateway = open(settings)) {
+            final var futures = new ArrayList<Future<?>>();
+            for (int writer = 0; writer < 4; writer++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < expectedTotal / 4; i++) {
+                        gateway.create(Category.newCategory("Category " + i, "Bulk created", true));
+                    }
+                    return null;
+                }));
+            }
+            for (final var future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        try (final var files = Files.list(directory)) {
+            Assertions.assertTrue(files.count() > 1);
+        }
+        try (final var gateway = open(settings)) {
+            Assertions.assertEquals(expectedTotal, gateway.findAll(query("bulk")).total());
+        }
+    }
+
+    @Test
+    public void givenCorruptRecordInSealedSegment_whenReopenGateway_thenShouldFailWithoutTruncatingIt() throws IOException {
+        final var settings = new LogSettings(256, 64, Duration.ZERO);
+        try (final var gateway = open(settings)) {
+            for (int i = 0; i < 20; i++) {
+                gateway.create(Category.newCategory("Category " + i, "Spread over several segments", true));
+            }
+        }
+        final var sealed = directory.resolve("segment-0000000001.log");
+        final var expectedSize = Files.size(sealed);
+        final var bytes = Files.readAllBytes(sealed);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(sealed, bytes);
+
+        final var actualException = Assertions.assertThrows(UncheckedIOException.class, () -> open(settings));
+
+        Assertions.assertTrue(actualException.getMessage().contains("Corrupt record in sealed segment"));
+        Assertions.assertEquals(expectedSize, Files.size(sealed));
+    }
+
+    @Test
+    public void givenCorruptSnapshot_whenReopenGateway_thenShouldFail() throws IOException {
+        try (final var gateway = open(LogSettings.defaults())) {
+            gateway.create(Category.newCategory("Movies", "The most watched category", true));
+            gateway.create(Category.newCategory("Series", null, true));
+            gateway.compact();
+        }
+        final var snapshot = directory.resolve("snapshot-0000000002.snap");
+        final var bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length - 3] ^= 0x5A;
+        Files.write(snapshot, bytes);
+
+        final var actualException = Assertions.assertThrows(UncheckedIOException.class, () -> open(LogSettings.defaults()));
+
+        Assertions.assertTrue(actualException.getMessage().contains("fails its checksum"));
+    }
+
+    @Test
+    public void givenFailedBackgroundCompaction_whenMoreWritesArrive_thenShouldCompactOnALaterRun() throws Exception {
+        // a directory where the snapshot file goes makes the first compaction fail
+        final var blocker = Files.createDirectory(directory.resolve("snapshot-0000000002.snap.tmp"));
+        try (final var gateway = new FileCategoryGateway(directory, LogSettings.defaults(), Duration.ofMillis(10))) {
+            gateway.create(Category.newCategory("Movies", null, true));
+            awaitUntil(() -> Files.exists(directory.resolve("segment-0000000002.log")));
+            Files.delete(blocker);
+
+            gateway.create(Category.newCategory("Series", null, true));
+            awaitUntil(() -> Files.exists(directory.resolve("snapshot-0000000003.snap")));
+
+            Assertions.assertTrue(Files.exists(directory.resolve("snapshot-0000000003.snap")));
+        }
+    }
+
+    @Test
+    public void givenClosedGateway_whenCallCompact_thenShouldFailInsteadOfWaitingForever() throws Exception {
+        final var gateway = open(LogSettings.defaults());
+        gateway.create(Category.newCategory("Movies", null, true));
+        gateway.close();
+
+        final var compaction = CompletableFuture.runAsync(gateway::compact);
+
+        final var actualException = Assertions.assertThrows(ExecutionException.class, () -> compaction.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(actualException.getCause() instanceof IllegalStateException);
+    }
+
+    private static void awaitUntil(final BooleanSupplier condition) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private FileCategoryGateway open(final LogSettings settings) {
+        return new FileCategoryGateway(directory, settings, Duration.ZERO);
+    }
+
+    private static CategorySearchQuery query(final String terms) {
+        return new CategorySearchQuery(0, 10, terms, "name", "asc");
+    }
+}
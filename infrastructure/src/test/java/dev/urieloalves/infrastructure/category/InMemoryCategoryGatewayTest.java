@@ -0,0 +1,370 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.application.category.update.DefaultUpdateCategoryUseCase;
+import dev.urieloalves.application.category.update.UpdateCategoryCommand;
+import dev.urieloalves.application.retry.RetryPolicy;
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryCursorQuery;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.events.DomainEventPublisher;
+import dev.urieloalves.domain.exceptions.DomainException;
+import dev.urieloalves.domain.exceptions.OptimisticLockException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class InMemoryCategoryGatewayTest {
+
+    private InMemoryCategoryGateway gateway;
+
+    @BeforeEach
+    public void setUp() {
+        gateway = new InMemoryCategoryGateway();
+    }
+
+    @Test
+    public void givenValidCategory_whenCallCreate_thenShouldFindItById() {
+        final var expectedName = "Movies";
+        final var expectedDescription = "The most watched category";
+        final var expectedIsActive = true;
+
+        final var category = Category.newCategory(expectedName, expectedDescription, expectedIsActive);
+        gateway.create(category);
+
+        final var actualCategory = gateway.findById(category.getId()).orElseThrow();
+
+        Assertions.assertEquals(category.getId(), actualCategory.getId());
+        Assertions.assertEquals(expectedName, actualCategory.getName());
+        Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
+        Assertions.assertEquals(expectedIsActive, actualCategory.isActive());
+        Assertions.assertEquals(category.getCreatedAt(), actualCategory.getCreatedAt());
+        Assertions.assertEquals(category.getUpdatedAt(), actualCategory.getUpdatedAt());
+        Assertions.assertNull(actualCategory.getDeletedAt());
+    }
+
+    @Test
+    public void givenExistingCategory_whenCallCreateAgain_thenShouldThrow() {
+        final var category = Category.newCategory("Movies", "The most watched category", true);
+        gateway.create(category);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> gateway.create(category));
+    }
+
+    @Test
+    public void givenStoredCategory_whenCallerMutatesItsInstance_thenStoredCategoryIsUnchanged() {
+        final var expectedName = "Movies";
+        final var category = Category.newCategory(expectedName, "The most watched category", true);
+        gateway.create(category);
+
+        category.update("Series", "Changed without calling update", true);
+
+        Assertions.assertEquals(expectedName, gateway.findById(category.getId()).orElseThrow().getName());
+        Assertions.assertEquals(1, gateway.findAll(query(0, 10, "movies", "name", "asc")).total());
+        Assertions.assertEquals(0, gateway.findAll(query(0, 10, "series", "name", "asc")).total());
+    }
+
+    @Test
+    public void givenStoredCategory_whenCallUpdate_thenShouldReindexIt() {
+        final var category = Category.newCategory("Movies", "The most watched category", true);
+        gateway.create(category);
+
+        gateway.update(category.update("Series", "Long running shows", false));
+
+        final var actualCategory = gateway.findById(category.getId()).orElseThrow();
+        Assertions.assertEquals("Series", actualCategory.getName());
+        Assertions.assertFalse(actualCategory.isActive());
+        Assertions.assertEquals(0, gateway.findAll(query(0, 10, "movies", "name", "asc")).total());
+        Assertions.assertEquals(1, gateway.findAll(query(0, 10, "shows", "name", "asc")).total());
+    }
+
+    @Test
+    public void givenUnknownCategory_whenCallUpdate_thenShouldThrow() {
+        final var category = Category.newCategory("Movies", "The most watched category", true);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> gateway.update(category));
+    }
+
+    @Test
+    public void givenStaleCategory_whenCallUpdate_thenShouldThrowOptimisticLockException() {
+        final var expectedErrorMessage = "expected version 0 but found 1";
+        final var category = Category.newCategory("Movies", "The most watched category", true);
+        gateway.create(category);
+        final var first = gateway.findById(category.getId()).orElseThrow();
+        final var second = gateway.findById(category.getId()).orElseThrow();
+
+        final var actualUpdated = gateway.update(first.update("Series", null, true));
+        final var actualException = Assertions.assertThrows(OptimisticLockException.class,
+                () -> gateway.update(second.update("Kids", null, true)));
+
+        Assertions.assertEquals(1, actualUpdated.getVersion());
+        Assertions.assertTrue(actualException.getMessage().endsWith(expectedErrorMessage));
+        Assertions.assertEquals("Series", gateway.findById(category.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenConcurrentUpdaters_whenUpdateCategoryUseCaseRetries_thenNoUpdateShouldBeLost() throws Exception {
+        final var updaters = 8;
+        final var updatesPerUpdater = 50;
+        final var category = gateway.create(Category.newCategory("Movies", null, true));
+        final var useCase = new DefaultUpdateCategoryUseCase(
+                gateway,
+                DomainEventPublisher.noop(),
+                new RetryPolicy(1_000, Duration.ofNanos(1_000), Duration.ofMillis(1))
+        );
+
+        final var executor = Executors.newFixedThreadPool(updaters);
+        final var futures = new ArrayList<Future<?>>();
+        for (int updater = 0; updater < updaters; updater++) {
+            final var name = "Updater " + updater;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < updatesPerUpdater; i++) {
+                    final var command = UpdateCategoryCommand.with(category.getId().getValue(), name, null, true);
+                    Assertions.assertTrue(useCase.execute(command).isRight());
+                }
+                return null;
+            }));
+        }
+        for (final var future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Assertions.assertEquals(updaters * updatesPerUpdater, gateway.findById(category.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    public void givenStoredCategory_whenCallDeleteById_thenShouldRemoveItFromEveryIndex() {
+        final var category = Category.newCategory("Movies", "The most watched category", true);
+        gateway.create(category);
+
+        gateway.deleteById(category.getId());
+        gateway.deleteById(CategoryId.from("123"));
+
+        Assertions.assertTrue(gateway.findById(category.getId()).isEmpty());
+        Assertions.assertEquals(0, gateway.findAll(query(0, 10, "", "name", "asc")).total());
+        Assertions.assertEquals(0, gateway.findAll(query(0, 10, "movies", "name", "asc")).total());
+    }
+
+    @Test
+    public void givenManyCategories_whenCallFindAllSortedByName_thenShouldReturnPages() {
+        for (final var name : new String[]{"Documentaries", "Anime", "Movies", "Series", "Kids"}) {
+            gateway.create(Category.newCategory(name, null, true));
+        }
+
+        final var firstPage = gateway.findAll(query(0, 2, null, "name", "asc"));
+        final var lastPage = gateway.findAll(query(2, 2, null, "name", "asc"));
+        final var descending = gateway.findAll(query(0, 2, null, "name", "desc"));
+
+        Assertions.assertEquals(5, firstPage.total());
+        Assertions.assertEquals(0, firstPage.currentPage());
+        Assertions.assertEquals(2, firstPage.perPage());
+        Assertions.assertEquals("Anime", firstPage.items().get(0).getName());
+        Assertions.assertEquals("Documentaries", firstPage.items().get(1).getName());
+        Assertions.assertEquals(1, lastPage.items().size());
+        Assertions.assertEquals("Series", lastPage.items().get(0).getName());
+        Assertions.assertEquals("Series", descending.items().get(0).getName());
+        Assertions.assertEquals("Movies", descending.items().get(1).getName());
+    }
+
+    @Test
+    public void givenTerms_whenCallFindAll_thenShouldMatchNameAndDescriptionPrefixes() {
+        gateway.create(Category.newCategory("Movies", "The most watched category", true));
+        gateway.create(Category.newCategory("Series", "Most binged shows", true));
+        gateway.create(Category.newCategory("Documentaries", "Real stories", true));
+
+        final var actualPage = gateway.findAll(query(0, 10, "MOST wat", "name", "asc"));
+        final var anyMost = gateway.findAll(query(0, 10, "most", "name", "desc"));
+
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals("Movies", actualPage.items().get(0).getName());
+        Assertions.assertEquals(2, anyMost.total());
+        Assertions.assertEquals("Series", anyMost.items().get(0).getName());
+        Assertions.assertEquals("Movies", anyMost.items().get(1).getName());
+    }
+
+    @Test
+    public void givenAccentedTermsAndRelevanceSort_whenCallFindAll_thenShouldReturnBestMatchesFirst() {
+        final var expectedNames = List.of("Animação", "Japan");
+        gateway.create(Category.newCategory("Kids", "Animações para a família", true));
+        gateway.create(Category.newCategory("Japan", "Anime e animação", true));
+        gateway.create(Category.newCategory("Animação", "Desenhos", true));
+        gateway.create(Category.newCategory("Movies", "Filmes", true));
+
+        final var actualPage = gateway.findAll(query(0, 10, "ANIMACAO", "relevance", "asc"));
+        final var prefixPage = gateway.findAll(query(0, 10, "anima", "relevance", "asc"));
+        final var byName = gateway.findAll(query(0, 10, "animação", "name", "asc"));
+
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(expectedNames, actualPage.items().stream().map(Category::getName).toList());
+        Assertions.assertEquals(3, prefixPage.total());
+        Assertions.assertEquals("Animação", prefixPage.items().get(0).getName());
+        Assertions.assertEquals(expectedNames, byName.items().stream().map(Category::getName).toList());
+    }
+
+    @Test
+    public void givenManyCategories_whenCallFindAllAfterFollowingCursors_thenShouldVisitEachCategoryOnce() {
+        final var expectedNames = List.of("Series", "Movies", "Kids", "Documentaries", "Anime");
+        for (final var name : expectedNames) {
+            gateway.create(Category.newCategory(name, null, true));
+        }
+
+        final var actualNames = new ArrayList<String>();
+        String cursor = null;
+        do {
+            final var page = gateway.findAllAfter(new CategoryCursorQuery(cursor, 2, null, "name", "desc", true));
+            Assertions.assertEquals(OptionalLong.of(5), page.total());
+            page.items().forEach(category -> actualNames.add(category.getName()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        Assertions.assertEquals(expectedNames, actualNames);
+    }
+
+    @Test
+    public void givenTermsAndDateSort_whenCallFindAllAfter_thenShouldPageThroughMatchesOnly() {
+        final var first = Category.newCategory("Movies", "Most watched", true);
+        final var later = first.getCreatedAt().plusSeconds(1);
+        final var second = Category.with(CategoryId.unique(), "Series", "Most binged", true, later, later, null);
+        gateway.create(first);
+        gateway.create(second);
+        gateway.create(Category.newCategory("Documentaries", "Real stories", true));
+
+        final var firstPage = gateway.findAllAfter(new CategoryCursorQuery(null, 1, "most", "createdAt", "asc", false));
+        final var secondPage = gateway.findAllAfter(new CategoryCursorQuery(firstPage.nextCursor(), 1, "most", "createdAt", "asc", false));
+
+        Assertions.assertTrue(firstPage.total().isEmpty());
+        Assertions.assertEquals(first.getId(), firstPage.items().get(0).getId());
+        Assertions.assertTrue(firstPage.hasNext());
+        Assertions.assertEquals(second.getId(), secondPage.items().get(0).getId());
+        Assertions.assertFalse(secondPage.hasNext());
+    }
+
+    @Test
+    public void givenCommonAndRareTerms_whenCallFindAll_thenShouldPageMatchesInSortOrder() {
+        for (int i = 0; i < 500; i++) {
+            final var rare = i % 100 == 0 ? " rare" : "";
+            gateway.create(Category.newCategory("Name %03d".formatted(i), "common" + rare, true));
+        }
+
+        for (final var terms : List.of("common", "rare")) {
+            final var expectedTotal = "common".equals(terms) ? 500 : 5;
+            final var expectedNames = gateway.findAll(query(0, 1_000, null, "name", "desc")).items().stream()
+                    .filter(category -> category.getDescription().contains(terms))
+                    .map(Category::getName)
+                    .toList();
+
+            final var actualNames = new ArrayList<String>();
+            for (int page = 0; page * 3 < expectedTotal; page++) {
+                final var actualPage = gateway.findAll(query(page, 3, terms, "name", "desc"));
+                Assertions.assertEquals(expectedTotal, actualPage.total());
+                actualPage.items().forEach(category -> actualNames.add(category.getName()));
+            }
+            final var cursorNames = new ArrayList<String>();
+            String cursor = null;
+            do {
+                final var actualPage = gateway.findAllAfter(new CategoryCursorQuery(cursor, 3, terms, "name", "desc", false));
+                actualPage.items().forEach(category -> cursorNames.add(category.getName()));
+                cursor = actualPage.nextCursor();
+            } while (cursor != null);
+
+            Assertions.assertEquals(expectedNames, actualNames);
+            Assertions.assertEquals(expectedNames, cursorNames);
+        }
+    }
+
+    @Test
+    public void givenMoreCategoriesThanAPage_whenCallStreamAll_thenShouldReturnEveryCategoryInCreationOrder() {
+        final var start = Category.newCategory("Movies", null, true).getCreatedAt();
+        final var expectedIds = new ArrayList<CategoryId>();
+        for (int i = 0; i < 25; i++) {
+            final var createdAt = start.plusSeconds(i);
+            final var category = Category.with(CategoryId.unique(), "Category " + i, null, true, createdAt, createdAt, null);
+            gateway.create(category);
+            expectedIds.add(category.getId());
+        }
+
+        try (final var categories = gateway.streamAll(10)) {
+            Assertions.assertEquals(expectedIds, categories.map(Category::getId).toList());
+        }
+        Assertions.assertEquals(3, gateway.streamAll(10).limit(3).count());
+    }
+
+    @Test
+    public void givenCursorFromAnotherSort_whenCallFindAllAfter_thenShouldThrowDomainException() {
+        final var expectedErrorMessage = "'cursor' is invalid";
+        gateway.create(Category.newCategory("Movies", null, true));
+        gateway.create(Category.newCategory("Series", null, true));
+
+        final var page = gateway.findAllAfter(new CategoryCursorQuery(null, 1, null, "name", "asc", false));
+
+        final var mismatch = Assertions.assertThrows(DomainException.class,
+                () -> gateway.findAllAfter(new CategoryCursorQuery(page.nextCursor(), 1, null, "createdAt", "asc", false)));
+        final var garbage = Assertions.assertThrows(DomainException.class,
+                () -> gateway.findAllAfter(new CategoryCursorQuery("not a cursor!", 1, null, "name", "asc", false)));
+
+        Assertions.assertEquals(expectedErrorMessage, mismatch.getErrors().get(0).message());
+        Assertions.assertEquals(expectedErrorMessage, garbage.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenUnknownSort_whenCallFindAll_thenShouldThrow() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> gateway.findAll(query(0, 10, null, "description", "asc")));
+    }
+
+    @Test
+    public void givenConcurrentWritersAndReaders_whenCallFindAll_thenTotalShouldMatchCreatedCategories() throws Exception {
+        final var expectedTotal = 4_000;
+        final var executor = Executors.newFixedThreadPool(8);
+        final var start = new CountDownLatch(1);
+        final var futures = new ArrayList<Future<?>>();
+
+        for (int writer = 0; writer < 4; writer++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < expectedTotal / 4; i++) {
+                    gateway.create(Category.newCategory("Category " + i, "Bulk created", true));
+                }
+                return null;
+            }));
+        }
+        for (int reader = 0; reader < 4; reader++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 200; i++) {
+                    final var page = gateway.findAll(query(0, 10, "bulk", "createdAt", "desc"));
+                    Assertions.assertTrue(page.items().size() <= 10);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (final var future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Assertions.assertEquals(expectedTotal, gateway.findAll(query(0, 10, null, "updatedAt", "asc")).total());
+        Assertions.assertEquals(expectedTotal, gateway.findAll(query(0, 10, "bulk", "name", "asc")).total());
+    }
+
+    private static CategorySearchQuery query(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        return new CategorySearchQuery(page, perPage, terms, sort, direction);
+    }
+}
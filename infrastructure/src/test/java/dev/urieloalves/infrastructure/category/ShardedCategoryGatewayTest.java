@@ -0,0 +1,181 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryCursorQuery;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ShardedCategoryGatewayTest {
+
+    private InMemoryCategoryGateway reference;
+    private List<InMemoryCategoryGateway> shards;
+    private ShardedCategoryGateway gateway;
+
+    @BeforeEach
+    public void setUp() {
+        reference = new InMemoryCategoryGateway();
+        shards = List.of(new InMemoryCategoryGateway(), new InMemoryCategoryGateway(), new InMemoryCategoryGateway());
+        gateway = new ShardedCategoryGateway(shards);
+
+        for (int i = 0; i < 200; i++) {
+            final var category = Category.newCategory("Category %03d".formatted(i), i % 2 == 0 ? "even" : "odd", i % 3 != 0);
+            reference.create(category);
+            gateway.create(category);
+        }
+    }
+
+    @Test
+    public void givenCategories_whenCallCreate_thenShouldSpreadThemAcrossShards() {
+        for (final var shard : shards) {
+            final var total = shard.findAll(new CategorySearchQuery(0, 1, null, null, null)).total();
+            Assertions.assertTrue(total > 30 && total < 110, "unbalanced shard with " + total + " categories");
+        }
+    }
+
+    @Test
+    public void givenSortedQueries_whenCallFindAll_thenShouldReturnTheSamePagesAsASingleGateway() {
+        final var queries = List.of(
+                new CategorySearchQuery(0, 10, null, "name", "asc"),
+                new CategorySearchQuery(3, 7, null, "name", "desc"),
+                new CategorySearchQuery(2, 15, "even", "createdAt", "asc"),
+                new CategorySearchQuery(40, 10, null, "name", "asc")
+        );
+
+        for (final var query : queries) {
+            final var expectedPage = reference.findAll(query);
+            final var actualPage = gateway.findAll(query);
+
+            Assertions.assertEquals(expectedPage.total(), actualPage.total());
+            Assertions.assertEquals(ids(expectedPage.items()), ids(actualPage.items()));
+        }
+    }
+
+    @Test
+    public void givenRelevanceQuery_whenCallFindAll_thenShouldReturnEveryMatchOnce() {
+        final var actualPage = gateway.findAll(new CategorySearchQuery(0, 500, "odd", "relevance", null));
+
+        Assertions.assertEquals(100, actualPage.total());
+        Assertions.assertEquals(100, actualPage.items().stream().map(Category::getId).distinct().count());
+    }
+
+    @Test
+    public void givenCursorQueries_whenCallFindAllAfter_thenShouldWalkEveryCategoryInOrder() {
+        final var expectedIds = ids(reference.findAll(new CategorySearchQuery(0, 500, null, "name", "desc")).items());
+        final var actualIds = new ArrayList<String>();
+
+        String cursor = null;
+        do {
+            final var page = gateway.findAllAfter(new CategoryCursorQuery(cursor, 17, null, "name", "desc", true));
+            Assertions.assertEquals(200, page.total().orElseThrow());
+            actualIds.addAll(ids(page.items()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        Assertions.assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    public void givenNewShard_whenCallAddShard_thenShouldMoveItsCategoriesAndKeepServingThem() {
+        final var expectedIds = ids(reference.findAll(new CategorySearchQuery(0, 500, null, "name", "asc")).items());
+        final var added = new InMemoryCategoryGateway();
+
+        gateway.addShard(added);
+
+        final var moved = added.findAll(new CategorySearchQuery(0, 500, null, null, null)).total();
+        Assertions.assertEquals(4, gateway.shards());
+        Assertions.assertTrue(moved > 20 && moved < 90, moved + " categories moved");
+        Assertions.assertEquals(expectedIds, ids(gateway.findAll(new CategorySearchQuery(0, 500, null, "name", "asc")).items()));
+        Assertions.assertEquals(200, gateway.findAll(new CategorySearchQuery(0, 1, null, null, null)).total());
+
+        final var category = added.findAll(new CategorySearchQuery(0, 1, null, null, null)).items().get(0);
+        final var updated = gateway.update(gateway.findById(category.getId()).orElseThrow().update("Renamed", null, true));
+        Assertions.assertEquals("Renamed", added.findById(category.getId()).orElseThrow().getName());
+        Assertions.assertEquals(updated.getVersion(), gateway.findById(category.getId()).orElseThrow().getVersion());
+
+        gateway.deleteById(category.getId());
+        Assertions.assertTrue(gateway.findById(category.getId()).isEmpty());
+    }
+
+    @Test
+    public void givenConcurrentReadsAndUpdates_whenCallAddShard_thenShouldNeverLoseACategory() throws Exception {
+        final var stored = new ArrayList<Category>();
+        for (int i = 0; i < 5_000; i++) {
+            stored.add(gateway.create(Category.newCategory("Moving %04d".formatted(i), null, true)));
+        }
+
+        final var rebalance = new Thread(() -> gateway.addShard(new InMemoryCategoryGateway()));
+        rebalance.start();
+        var round = 0;
+        while (rebalance.isAlive() || round == 0) {
+            for (int i = round % 50; i < stored.size(); i += 50) {
+                final var id = stored.get(i).getId();
+                final var current = gateway.findById(id).orElseThrow(() -> new AssertionError("lost " + id.getValue()));
+                gateway.update(current.update(current.getName(), "round " + round, true));
+            }
+            round++;
+        }
+        rebalance.join();
+
+        Assertions.assertEquals(5_200, gateway.findAll(new CategorySearchQuery(0, 1, null, null, null)).total());
+        for (final var category : stored) {
+            Assertions.assertTrue(gateway.findById(category.getId()).isPresent());
+        }
+    }
+
+    @Test
+    public void givenRebalanceDuringALookup_whenCallFindById_thenShouldRetryWithTheNewRouting() {
+        final var added = new InMemoryCategoryGateway();
+        gateway.addShard(added);
+        final var moving = added.findAll(new CategorySearchQuery(0, 1, null, null, null)).items().get(0);
+
+        // same categories and ring as the gateway above, so the same category moves to the added shard
+        final var beforeNextRead = new AtomicReference<Runnable>();
+        final var rebalancing = List.of(
+                new RebalancingShard(beforeNextRead),
+                new RebalancingShard(beforeNextRead),
+                new RebalancingShard(beforeNextRead)
+        );
+        final var sharded = new ShardedCategoryGateway(rebalancing);
+        reference.findAll(new CategorySearchQuery(0, 500, null, null, null)).items().forEach(sharded::create);
+        beforeNextRead.set(() -> sharded.addShard(new InMemoryCategoryGateway()));
+
+        final var actualCategory = sharded.findById(moving.getId());
+
+        Assertions.assertNull(beforeNextRead.get());
+        Assertions.assertEquals(4, sharded.shards());
+        Assertions.assertEquals(moving.getName(), actualCategory.orElseThrow().getName());
+    }
+
+    private static List<String> ids(final List<Category> categories) {
+        return categories.stream().map(category -> category.getId().getValue()).toList();
+    }
+
+    /**
+     * Runs a rebalance in the middle of the next read, after the gateway has picked the routing to read with.
+     */
+    private static class RebalancingShard extends InMemoryCategoryGateway {
+
+        private final AtomicReference<Runnable> beforeNextRead;
+
+        private RebalancingShard(final AtomicReference<Runnable> beforeNextRead) {
+            this.beforeNextRead = beforeNextRead;
+        }
+
+        @Override
+        public Optional<Category> findById(final CategoryId id) {
+            final var action = beforeNextRead.getAndSet(null);
+            if (action != null) {
+                action.run();
+            }
+            return super.findById(id);
+        }
+    }
+}
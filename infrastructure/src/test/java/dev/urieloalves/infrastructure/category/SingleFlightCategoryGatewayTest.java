@@ -0,0 +1,180 @@
+package dev.urieloalves.infrastructure.category;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.domain.pagination.Pagination;
+import dev.urieloalves.infrastructure.metrics.MetricsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+public class SingleFlightCategoryGatewayTest {
+
+    private BlockingCategoryGateway delegate;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = new BlockingCategoryGateway();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        delegate.release();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void givenConcurrentCallsForSameId_whenCallFindById_thenShouldCallDelegateOnceAndCopyForEveryCaller() throws Exception {
+        final var registry = new MetricsRegistry();
+        final var gateway = new SingleFlightCategoryGateway(delegate, "memory", registry);
+        final var stored = gateway.create(Category.newCategory("Movies", null, true));
+        final var expectedName = "Movies";
+
+        final var results = new ArrayList<Future<Optional<Category>>>();
+        results.add(executor.submit(() -> gateway.findById(stored.getId())));
+        awaitUntil(() -> delegate.findByIdCalls.get() == 1);
+        for (int i = 0; i < 3; i++) {
+            results.add(executor.submit(() -> gateway.findById(stored.getId())));
+        }
+        awaitUntil(() -> gateway.coalescingRatio() == 0.75);
+        delegate.release();
+
+        final var actualCategories = Collections.newSetFromMap(new IdentityHashMap<Category, Boolean>());
+        for (final var result : results) {
+            actualCategories.add(result.get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+        actualCategories.forEach(actualCategory -> Assertions.assertEquals(expectedName, actualCategory.getName()));
+        Assertions.assertEquals(4, actualCategories.size());
+        Assertions.assertEquals(1, delegate.findByIdCalls.get());
+        Assertions.assertEquals(0.75, gateway.coalescingRatio());
+        Assertions.assertEquals(1, registry.counter("gateway_flight_calls_total", "gateway", "memory", "method", "findById", "role", "leader").sum());
+        Assertions.assertEquals(3, registry.counter("gateway_flight_calls_total", "gateway", "memory", "method", "findById", "role", "follower").sum());
+    }
+
+    @Test
+    public void givenConcurrentEqualQueries_whenCallFindAll_thenShouldCallDelegateOnce() throws Exception {
+        final var gateway = new SingleFlightCategoryGateway(delegate);
+        gateway.create(Category.newCategory("Movies", null, true));
+        gateway.create(Category.newCategory("Series", null, true));
+
+        final var leader = executor.submit(() -> gateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")));
+        awaitUntil(() -> delegate.findAllCalls.get() == 1);
+        final var follower = executor.submit(() -> gateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")));
+        awaitUntil(() -> gateway.coalescingRatio() == 0.5);
+        delegate.release();
+
+        Assertions.assertEquals(2, leader.get(5, TimeUnit.SECONDS).total());
+        Assertions.assertEquals(2, follower.get(5, TimeUnit.SECONDS).total());
+        Assertions.assertEquals(1, delegate.findAllCalls.get());
+    }
+
+    @Test
+    public void givenCancelledLeader_whenCallFindById_thenShouldRetryForWaiters() throws Exception {
+        final var gateway = new SingleFlightCategoryGateway(delegate);
+        final var stored = gateway.create(Category.newCategory("Movies", null, true));
+
+        final var leader = executor.submit(() -> gateway.findById(stored.getId()));
+        awaitUntil(() -> delegate.findByIdCalls.get() == 1);
+        final var follower = executor.submit(() -> gateway.findById(stored.getId()));
+        awaitUntil(() -> gateway.coalescingRatio() == 0.5);
+        leader.cancel(true);
+
+        Assertions.assertEquals("Movies", follower.get(5, TimeUnit.SECONDS).orElseThrow().getName());
+        Assertions.assertEquals(2, delegate.findByIdCalls.get());
+    }
+
+    @Test
+    public void givenInterruptedWaiter_whenCallFindById_thenShouldNotAffectOtherCallers() throws Exception {
+        final var gateway = new SingleFlightCategoryGateway(delegate);
+        final var stored = gateway.create(Category.newCategory("Movies", null, true));
+
+        final var leader = executor.submit(() -> gateway.findById(stored.getId()));
+        awaitUntil(() -> delegate.findByIdCalls.get() == 1);
+        final var cancelled = executor.submit(() -> gateway.findById(stored.getId()));
+        final var follower = executor.submit(() -> gateway.findById(stored.getId()));
+        awaitUntil(() -> gateway.coalescingRatio() > 0.6);
+        cancelled.cancel(true);
+        delegate.release();
+
+        Assertions.assertTrue(leader.get(5, TimeUnit.SECONDS).isPresent());
+        Assertions.assertTrue(follower.get(5, TimeUnit.SECONDS).isPresent());
+        Assertions.assertEquals(1, delegate.findByIdCalls.get());
+    }
+
+    @Test
+    public void givenUpdateDuringCall_whenCallFindById_thenShouldNotJoinTheOlderCall() throws Exception {
+        final var gateway = new SingleFlightCategoryGateway(delegate);
+        final var stored = gateway.create(Category.newCategory("Movies", null, true));
+
+        final var leader = executor.submit(() -> gateway.findById(stored.getId()));
+        awaitUntil(() -> delegate.findByIdCalls.get() == 1);
+        gateway.update(Category.with(stored).update("Series", null, true));
+
+        Assertions.assertEquals("Series", gateway.findById(stored.getId()).orElseThrow().getName());
+        Assertions.assertEquals(2, delegate.findByIdCalls.get());
+        delegate.release();
+        Assertions.assertTrue(leader.get(5, TimeUnit.SECONDS).isPresent());
+    }
+
+    private static void awaitUntil(final BooleanSupplier condition) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * Holds the first read of each method until released, so later ones arrive while it is in flight.
+     */
+    private static class BlockingCategoryGateway extends InMemoryCategoryGateway {
+
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final AtomicInteger findByIdCalls = new AtomicInteger();
+        private final AtomicInteger findAllCalls = new AtomicInteger();
+
+        @Override
+        public Optional<Category> findById(final CategoryId id) {
+            if (findByIdCalls.incrementAndGet() == 1) {
+                await();
+            }
+            return super.findById(id);
+        }
+
+        @Override
+        public Pagination<Category> findAll(final CategorySearchQuery query) {
+            if (findAllCalls.incrementAndGet() == 1) {
+                await();
+            }
+            return super.findAll(query);
+        }
+
+        private void release() {
+            gate.countDown();
+        }
+
+        private void await() {
+            try {
+                gate.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package dev.urieloalves.infrastructure.codec;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+public class CategoryCodecTest {
+
+    @Test
+    public void givenCategoryWithEveryField_whenCallEncodeAndDecode_thenShouldRoundTrip() {
+        final var createdAt = Instant.parse("2024-01-02T03:04:05.123456789Z");
+        final var updatedAt = Instant.parse("2024-01-02T03:04:06.123456Z");
+        final var deletedAt = Instant.parse("1969-12-31T23:59:59.999999001Z");
+        final var expected = Category.with(CategoryId.unique(), "Filmes 🎬", "Acentuação", false, createdAt, updatedAt, deletedAt, 42);
+
+        final var encoded = CategoryCodec.encode(expected);
+        final var actual = CategoryCodec.decode(encoded);
+
+        Assertions.assertEquals(CategoryCodec.encodedSize(expected), encoded.position());
+        assertSameCategory(expected, actual);
+    }
+
+    @Test
+    public void givenRawIdAndNullFields_whenCallEncodeAndDecode_thenShouldRoundTrip() {
+        final var expected = Category.with(CategoryId.from("legacy-id"), null, null, true, null, null, null, 0);
+
+        final var actual = CategoryCodec.decode(CategoryCodec.encode(expected));
+
+        assertSameCategory(expected, actual);
+    }
+
+    @Test
+    public void givenUnpairedSurrogate_whenCallEncode_thenShouldMatchStringGetBytes() {
+        final var category = Category.newCategory("bad \uD800 surrogate", null, true);
+
+        final var actual = CategoryCodec.decode(CategoryCodec.encode(category));
+
+        Assertions.assertEquals("bad ? surrogate", actual.getName());
+    }
+
+    @Test
+    public void givenCategoriesInADirectBuffer_whenCallWrap_thenShouldReadFieldsInPlace() {
+        final var first = Category.newCategory("Movies", "The most watched category", true);
+        final var second = Category.newCategory("Series", null, false).deactivate();
+        final var buffer = ByteBuffer.allocateDirect(CategoryCodec.encodedSize(first) + CategoryCodec.encodedSize(second));
+        CategoryCodec.encode(first, buffer);
+        CategoryCodec.encode(second, buffer);
+
+        final var view = new CategoryView().wrap(buffer, 0);
+        Assertions.assertEquals("Movies", view.name());
+        Assertions.assertTrue(view.isActive());
+        Assertions.assertFalse(view.isDeleted());
+        Assertions.assertEquals(first.getId(), view.id());
+
+        view.wrap(buffer, view.size());
+        Assertions.assertEquals(second.getId(), view.id());
+        Assertions.assertNull(view.description());
+        Assertions.assertFalse(view.isActive());
+        Assertions.assertTrue(view.isDeleted());
+        Assertions.assertEquals(second.getDeletedAt(), view.deletedAt());
+        Assertions.assertEquals(buffer.capacity(), view.size() + CategoryCodec.encodedSize(first));
+        Assertions.assertEquals(buffer.capacity(), buffer.position());
+    }
+
+    @Test
+    public void givenUnknownSchemaVersion_whenCallDecode_thenShouldThrow() {
+        final var expectedErrorMessage = "Unsupported category schema version 9";
+        final var encoded = CategoryCodec.encode(Category.newCategory("Movies", null, true));
+        encoded.put(0, (byte) 9);
+
+        final var actual = Assertions.assertThrows(IllegalArgumentException.class, () -> CategoryCodec.decode(encoded));
+
+        Assertions.assertEquals(expectedErrorMessage, actual.getMessage());
+    }
+
+    private static void assertSameCategory(final Category expected, final Category actual) {
+        Assertions.assertEquals(expected.getId(), actual.getId());
+        Assertions.assertEquals(expected.getName(), actual.getName());
+        Assertions.assertEquals(expected.getDescription(), actual.getDescription());
+        Assertions.assertEquals(expected.isActive(), actual.isActive());
+        Assertions.assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        Assertions.assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        Assertions.assertEquals(expected.getDeletedAt(), actual.getDeletedAt());
+        Assertions.assertEquals(expected.getVersion(), actual.getVersion());
+    }
+}
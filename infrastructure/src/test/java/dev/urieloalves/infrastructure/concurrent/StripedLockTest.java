@@ -0,0 +1,30 @@
+package dev.urieloalves.infrastructure.concurrent;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+
+public class StripedLockTest {
+
+    @Test
+    public void givenStripeCount_whenCreateStripedLock_thenShouldRoundUpToAPowerOfTwo() {
+        Assertions.assertEquals(1, new StripedLock(1).size());
+        Assertions.assertEquals(64, new StripedLock(64).size());
+        Assertions.assertEquals(128, new StripedLock(65).size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new StripedLock(0));
+    }
+
+    @Test
+    public void givenManyKeys_whenCallGet_thenShouldMapEachKeyToOneLockAndUseEveryStripe() {
+        final var locks = new StripedLock(64);
+        final var actualStripes = new HashSet<Integer>();
+
+        for (int key = 0; key < 10_000; key++) {
+            Assertions.assertSame(locks.get(key), locks.get(Integer.valueOf(key)));
+            actualStripes.add(locks.index("category-" + key));
+        }
+
+        Assertions.assertEquals(64, actualStripes.size());
+    }
+}
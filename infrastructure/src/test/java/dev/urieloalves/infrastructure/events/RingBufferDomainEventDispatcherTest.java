@@ -0,0 +1,174 @@
+package dev.urieloalves.infrastructure.events;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategoryActivated;
+import dev.urieloalves.domain.category.CategoryId;
+import dev.urieloalves.domain.events.DomainEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RingBufferDomainEventDispatcherTest {
+
+    @Test
+    public void givenConcurrentPublishers_whenDelivered_thenEachAggregateShouldReceiveEventsInOrder() throws Exception {
+        final var expectedPerAggregate = 2_000;
+        final var aggregates = List.of(CategoryId.unique(), CategoryId.unique(), CategoryId.unique(), CategoryId.unique());
+        final var received = new HashMap<CategoryId, List<Instant>>();
+        final var maxBatch = new AtomicInteger();
+
+        final var executor = Executors.newFixedThreadPool(aggregates.size());
+        try (final var dispatcher = new RingBufferDomainEventDispatcher(2, 64, 32)) {
+            dispatcher.subscribe(events -> {
+                maxBatch.accumulateAndGet(events.size(), Math::max);
+                synchronized (received) {
+                    events.forEach(event -> received
+                            .computeIfAbsent((CategoryId) event.aggregateId(), id -> new ArrayList<>())
+                            .add(event.occurredOn()));
+                }
+            });
+
+            final var futures = new ArrayList<Future<?>>();
+            for (final var id : aggregates) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < expectedPerAggregate; i++) {
+                        dispatcher.publishEvent(new CategoryActivated(id, Instant.ofEpochSecond(i)));
+                    }
+                }));
+            }
+            for (final var future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        for (final var id : aggregates) {
+            final var actualInstants = received.get(id);
+            Assertions.assertEquals(expectedPerAggregate, actualInstants.size());
+            for (int i = 0; i < expectedPerAggregate; i++) {
+                Assertions.assertEquals(Instant.ofEpochSecond(i), actualInstants.get(i));
+            }
+        }
+        Assertions.assertTrue(maxBatch.get() <= 32);
+    }
+
+    @Test
+    public void givenSlowSubscriberAndFullRing_whenPublish_thenShouldWaitInsteadOfDropping() throws Exception {
+        final var expectedEvents = 100;
+        final var release = new CountDownLatch(1);
+        final var delivered = new AtomicInteger();
+        final var published = new AtomicInteger();
+
+        try (final var dispatcher = new RingBufferDomainEventDispatcher(1, 8, 4)) {
+            dispatcher.subscribe(events -> {
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                delivered.addAndGet(events.size());
+            });
+
+            final var publisher = new Thread(() -> {
+                final var id = CategoryId.unique();
+                for (int i = 0; i < expectedEvents; i++) {
+                    dispatcher.publishEvent(new CategoryActivated(id, Instant.now()));
+                    published.incrementAndGet();
+                }
+            });
+            publisher.start();
+
+            Thread.sleep(200);
+            Assertions.assertTrue(published.get() < expectedEvents);
+            Assertions.assertEquals(0, delivered.get());
+
+            release.countDown();
+            publisher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        Assertions.assertEquals(expectedEvents, published.get());
+        Assertions.assertEquals(expectedEvents, delivered.get());
+    }
+
+    @Test
+    public void givenFailingSubscriber_whenDelivered_thenOtherSubscribersShouldStillReceiveEvents() {
+        final var received = new ArrayList<DomainEvent>();
+        final var category = Category.newCategory("Movies", null, true);
+
+        final var dispatcher = new RingBufferDomainEventDispatcher(1, 16, 16);
+        dispatcher.subscribe(events -> {
+            throw new IllegalStateException("Subscriber Error");
+        });
+        dispatcher.subscribe(received::addAll);
+        category.publishDomainEvents(dispatcher);
+        dispatcher.close();
+
+        Assertions.assertEquals(1, received.size());
+        Assertions.assertEquals(category.getId(), received.get(0).aggregateId());
+    }
+
+    @Test
+    public void givenClosedDispatcher_whenCallPublishEvent_thenShouldDropAndCountTheEvent() {
+        final var received = new ArrayList<DomainEvent>();
+        final var category = Category.newCategory("Movies", null, true);
+
+        final var dispatcher = new RingBufferDomainEventDispatcher(1, 16, 16);
+        dispatcher.subscribe(received::addAll);
+        dispatcher.close();
+
+        Assertions.assertDoesNotThrow(() -> category.publishDomainEvents(dispatcher));
+        Assertions.assertTrue(received.isEmpty());
+        Assertions.assertEquals(1, dispatcher.droppedEvents());
+    }
+
+    @Test
+    public void givenPublishersRacingClose_whenClosed_thenEveryEventShouldBeDeliveredOrCountedAsDropped() throws Exception {
+        final var publishers = 4;
+        final var expectedPerPublisher = 20_000;
+        final var delivered = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+
+        final var executor = Executors.newFixedThreadPool(publishers);
+        final var dispatcher = new RingBufferDomainEventDispatcher(2, 64, 16);
+        try {
+            dispatcher.subscribe(events -> delivered.addAndGet(events.size()));
+
+            final var futures = new ArrayList<Future<?>>();
+            for (int p = 0; p < publishers; p++) {
+                futures.add(executor.submit(() -> {
+                    final var id = CategoryId.unique();
+                    start.await();
+                    for (int i = 0; i < expectedPerPublisher; i++) {
+                        dispatcher.publishEvent(new CategoryActivated(id, Instant.ofEpochSecond(i)));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            Thread.sleep(5);
+            dispatcher.close();
+            for (final var future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assertions.assertEquals(publishers * expectedPerPublisher, delivered.get() + dispatcher.droppedEvents());
+    }
+
+    @Test
+    public void givenRingCapacityNotPowerOfTwo_whenCreateDispatcher_thenShouldThrow() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RingBufferDomainEventDispatcher(1, 10, 4));
+    }
+}
@@ -0,0 +1,74 @@
+package dev.urieloalves.infrastructure.exporter;
+
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.infrastructure.api.json.JsonReader;
+import dev.urieloalves.infrastructure.category.InMemoryCategoryGateway;
+import dev.urieloalves.infrastructure.codec.CategoryCodec;
+import dev.urieloalves.infrastructure.io.DirectBufferPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+public class CategoryExporterTest {
+
+    private InMemoryCategoryGateway gateway;
+    private DirectBufferPool buffers;
+
+    @BeforeEach
+    public void setUp() {
+        gateway = new InMemoryCategoryGateway();
+        for (int i = 0; i < 50; i++) {
+            gateway.create(Category.newCategory("Catégorie " + i, "Description " + i, i % 2 == 0));
+        }
+        // smaller than a single record, so every write spans several buffers
+        buffers = new DirectBufferPool(64, 1);
+    }
+
+    @Test
+    public void givenCategories_whenCallExportAsNdjson_thenShouldWriteOneObjectPerLine() throws IOException {
+        final var out = new ByteArrayOutputStream();
+
+        final var count = new CategoryExporter(buffers).export(gateway.streamAll(7), ExportFormat.NDJSON, Channels.newChannel(out));
+
+        final var lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(50, count);
+        Assertions.assertEquals(50, lines.length);
+        final var names = new ArrayList<Object>();
+        for (final var line : lines) {
+            names.add(JsonReader.readObject(line).get("name"));
+        }
+        Assertions.assertTrue(names.contains("Catégorie 49"));
+    }
+
+    @Test
+    public void givenCategories_whenCallExportAsBinary_thenShouldDecodeBackToTheSameCategories() throws IOException {
+        final var out = new ByteArrayOutputStream();
+
+        final var count = new CategoryExporter(buffers).export(gateway.streamAll(7), ExportFormat.BINARY, Channels.newChannel(out));
+
+        final var bytes = ByteBuffer.wrap(out.toByteArray());
+        final var magic = new byte[CategoryExporter.BINARY_MAGIC.length];
+        bytes.get(magic);
+        Assertions.assertArrayEquals(CategoryExporter.BINARY_MAGIC, magic);
+        final var expected = gateway.streamAll(100).toList();
+        for (final var category : expected) {
+            final var size = bytes.getInt();
+            final var start = bytes.position();
+            final var actual = CategoryCodec.decode(bytes);
+            Assertions.assertEquals(size, bytes.position() - start);
+            Assertions.assertEquals(category.getId(), actual.getId());
+            Assertions.assertEquals(category.getName(), actual.getName());
+            Assertions.assertEquals(category.isActive(), actual.isActive());
+            Assertions.assertEquals(category.getCreatedAt(), actual.getCreatedAt());
+        }
+        Assertions.assertEquals(50, count);
+        Assertions.assertFalse(bytes.hasRemaining());
+    }
+}
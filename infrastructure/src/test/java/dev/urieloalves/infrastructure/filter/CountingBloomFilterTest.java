@@ -0,0 +1,71 @@
+package dev.urieloalves.infrastructure.filter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CountingBloomFilterTest {
+
+    @Test
+    public void givenAddedKeys_whenCallMightContain_thenShouldNeverMissOneAndRarelyMatchOthers() {
+        final var filter = CountingBloomFilter.create(100_000, 0.01);
+        for (long key = 0; key < 100_000; key++) {
+            filter.add(key);
+        }
+
+        var falsePositives = 0;
+        for (long key = 0; key < 100_000; key++) {
+            Assertions.assertTrue(filter.mightContain(key));
+            if (filter.mightContain(key + 1_000_000)) {
+                falsePositives++;
+            }
+        }
+
+        Assertions.assertTrue(falsePositives < 1_500, falsePositives + " false positives");
+        Assertions.assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.003);
+        Assertions.assertEquals(100_000, filter.size());
+    }
+
+    @Test
+    public void givenRemovedKey_whenCallMightContain_thenShouldKeepTheOthers() {
+        final var filter = CountingBloomFilter.create(1_000, 0.01);
+        for (long key = 0; key < 1_000; key++) {
+            filter.add(key);
+        }
+
+        for (long key = 0; key < 1_000; key += 2) {
+            filter.remove(key);
+        }
+
+        var stillMatched = 0;
+        for (long key = 0; key < 1_000; key++) {
+            if (key % 2 == 1) {
+                Assertions.assertTrue(filter.mightContain(key));
+            } else if (filter.mightContain(key)) {
+                stillMatched++;
+            }
+        }
+        Assertions.assertTrue(stillMatched < 50, stillMatched + " removed keys still matched");
+        Assertions.assertEquals(500, filter.size());
+    }
+
+    @Test
+    public void givenSaturatedCounters_whenCallRemove_thenShouldStillContainTheKey() {
+        final var filter = CountingBloomFilter.create(10, 0.01);
+        for (int i = 0; i < 20; i++) {
+            filter.add(42);
+        }
+
+        for (int i = 0; i < 19; i++) {
+            filter.remove(42);
+        }
+
+        Assertions.assertTrue(filter.mightContain(42));
+    }
+
+    @Test
+    public void givenInvalidSizes_whenCallCreate_thenShouldThrow() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CountingBloomFilter.create(0, 0.01));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CountingBloomFilter.create(1_000, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CountingBloomFilter.create(1_000, 1));
+    }
+}
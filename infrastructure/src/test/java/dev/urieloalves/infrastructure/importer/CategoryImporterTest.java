@@ -0,0 +1,132 @@
+package dev.urieloalves.infrastructure.importer;
+
+import dev.urieloalves.application.category.create.DefaultCreateCategoriesBatchUseCase;
+import dev.urieloalves.domain.category.Category;
+import dev.urieloalves.domain.category.CategorySearchQuery;
+import dev.urieloalves.infrastructure.category.InMemoryCategoryGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+public class CategoryImporterTest {
+
+    private Path directory;
+    private InMemoryCategoryGateway gateway;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("import");
+        gateway = new InMemoryCategoryGateway();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (final var files = Files.walk(directory)) {
+            for (final var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test
+    public void givenNdjsonWithInvalidRows_whenCallImportFile_thenShouldImportValidRowsAndRejectTheRestByLine() throws IOException {
+        final var source = write("categories.ndjson",
+                "{\"name\":\"Movies\",\"description\":\"The most watched category\"}",
+                "",
+                "{\"name\":null}",
+                "{\"name\":\"Series\",\"is_active\":false}",
+                "not json"
+        );
+
+        final var progress = importer(2).importFile(source, directory.resolve("errors.ndjson"), directory.resolve("checkpoint"), p -> {
+        });
+
+        Assertions.assertEquals(2, progress.imported());
+        Assertions.assertEquals(2, progress.rejected());
+        Assertions.assertEquals(1.0, progress.fraction());
+        Assertions.assertEquals(Set.of("Movies", "Series"), names());
+        final var errors = Files.readAllLines(directory.resolve("errors.ndjson"));
+        Assertions.assertEquals(2, errors.size());
+        Assertions.assertTrue(errors.get(0).startsWith("{\"line\":3,\"errors\":[\"'name' should not be null\""));
+        Assertions.assertTrue(errors.get(1).startsWith("{\"line\":5,"));
+        Assertions.assertFalse(Files.exists(directory.resolve("checkpoint")));
+    }
+
+    @Test
+    public void givenCsvWithQuotedFields_whenCallImportFile_thenShouldMapColumnsByHeader() throws IOException {
+        final var source = write("categories.csv",
+                "is_active,Name,description",
+                "false,Movies,\"Films, \"\"classics\"\" included\"",
+                "true,Series,",
+                ",\"unterminated,x"
+        );
+
+        final var progress = importer(10).importFile(source, directory.resolve("errors.ndjson"), directory.resolve("checkpoint"), p -> {
+        });
+
+        Assertions.assertEquals(2, progress.imported());
+        Assertions.assertEquals(1, progress.rejected());
+        final var movies = gateway.findAll(new CategorySearchQuery(0, 10, "movies", "name", "asc")).items().get(0);
+        Assertions.assertEquals("Films, \"classics\" included", movies.getDescription());
+        Assertions.assertFalse(movies.isActive());
+        Assertions.assertTrue(Files.readString(directory.resolve("errors.ndjson")).contains("\"line\":4"));
+    }
+
+    @Test
+    public void givenInterruptedImport_whenCallImportFileAgain_thenShouldResumeWithoutSkippingRows() throws IOException {
+        final var lines = new ArrayList<String>();
+        for (int i = 0; i < 20; i++) {
+            lines.add(i == 7 ? "{\"name\":\"\"}" : "{\"name\":\"Category %02d\"}".formatted(i));
+        }
+        final var source = write("categories.ndjson", lines.toArray(String[]::new));
+        final var errors = directory.resolve("errors.ndjson");
+        final var checkpoint = directory.resolve("checkpoint");
+
+        final var importer = importer(2);
+        Assertions.assertThrows(IllegalStateException.class, () -> importer.importFile(source, errors, checkpoint, p -> {
+            if (p.lines() >= 10) {
+                throw new IllegalStateException("Stopped");
+            }
+        }));
+        Assertions.assertTrue(Files.exists(checkpoint));
+
+        final var progress = importer.importFile(source, errors, checkpoint, p -> {
+        });
+
+        final var expectedNames = new TreeSet<String>();
+        for (int i = 0; i < 20; i++) {
+            if (i != 7) {
+                expectedNames.add("Category %02d".formatted(i));
+            }
+        }
+        Assertions.assertEquals(expectedNames, names());
+        Assertions.assertEquals(19, progress.imported());
+        Assertions.assertEquals(1, progress.rejected());
+        Assertions.assertEquals(1, Files.readAllLines(errors).size());
+    }
+
+    private CategoryImporter importer(final int batchSize) {
+        return new CategoryImporter(new DefaultCreateCategoriesBatchUseCase(gateway), new ImportSettings(batchSize, 2, 1));
+    }
+
+    private Set<String> names() {
+        return gateway.findAll(new CategorySearchQuery(0, 1_000, "", "name", "asc")).items().stream()
+                .map(Category::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private Path write(final String name, final String... lines) throws IOException {
+        return Files.write(directory.resolve(name), List.of(lines));
+    }
+}
@@ -0,0 +1,67 @@
+package dev.urieloalves.infrastructure.metrics;
+
+import dev.urieloalves.application.UseCase;
+import dev.urieloalves.domain.validation.Error;
+import dev.urieloalves.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class InstrumentedUseCaseTest {
+
+    @Test
+    public void givenFailingAndSucceedingCalls_whenCallExecute_thenShouldRecordLatencyAndErrorsByMessage() {
+        final var registry = new MetricsRegistry();
+        final var useCase = new InstrumentedUseCase<>(new EchoUseCase(), "echo", registry);
+
+        Assertions.assertTrue(useCase.execute("ok").isRight());
+        Assertions.assertTrue(useCase.execute("").isLeft());
+        Assertions.assertTrue(useCase.execute("").isLeft());
+
+        Assertions.assertEquals(3, registry.histogram("usecase_duration_seconds", "usecase", "echo").snapshot().count());
+        Assertions.assertEquals(2, registry.counter("usecase_validation_errors_total", "usecase", "echo", "message", "'value' should not be empty").sum());
+        Assertions.assertEquals(0, registry.counter("usecase_exceptions_total", "usecase", "echo").sum());
+    }
+
+    @Test
+    public void givenTooManyDistinctMessages_whenCallExecute_thenShouldFoldTheRestIntoOther() {
+        final var registry = new MetricsRegistry();
+        final var useCase = new InstrumentedUseCase<>(new UseCase<Integer, Either<Notification, Integer>>() {
+            @Override
+            public Either<Notification, Integer> execute(final Integer id) {
+                return API.Left(Notification.create(new Error("Category with ID %d was not found".formatted(id))));
+            }
+        }, "find", registry);
+
+        for (int id = 0; id < InstrumentedUseCase.MAX_MESSAGES + 10; id++) {
+            useCase.execute(id);
+        }
+
+        Assertions.assertEquals(10, registry.counter("usecase_validation_errors_total", "usecase", "find", "message", InstrumentedUseCase.OTHER).sum());
+    }
+
+    @Test
+    public void givenThrowingUseCase_whenCallExecute_thenShouldCountTheExceptionAndLeaveNothingInFlight() {
+        final var registry = new MetricsRegistry();
+        final var useCase = new InstrumentedUseCase<>(new UseCase<String, String>() {
+            @Override
+            public String execute(final String in) {
+                throw new IllegalStateException("boom");
+            }
+        }, "boom", registry, true);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute("x"));
+
+        Assertions.assertEquals(1, registry.counter("usecase_exceptions_total", "usecase", "boom").sum());
+        Assertions.assertTrue(PrometheusExporter.scrape(registry).contains("usecase_in_flight{usecase=\"boom\"} 0\n"));
+    }
+
+    private static class EchoUseCase extends UseCase<String, Either<Notification, String>> {
+
+        @Override
+        public Either<Notification, String> execute(final String in) {
+            return in.isEmpty() ? API.Left(Notification.create(new Error("'value' should not be empty"))) : API.Right(in);
+        }
+    }
+}
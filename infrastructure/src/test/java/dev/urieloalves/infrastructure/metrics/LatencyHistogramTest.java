@@ -0,0 +1,67 @@
+package dev.urieloalves.infrastructure.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void givenUniformLatencies_whenCallValueAtQuantile_thenShouldBeWithinBucketPrecision() {
+        final var histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 1_000_000; nanos++) {
+            histogram.record(nanos * 1_000);
+        }
+
+        final var snapshot = histogram.snapshot();
+
+        Assertions.assertEquals(1_000_000, snapshot.count());
+        Assertions.assertEquals(500_000_500_000_000L, snapshot.sum());
+        assertWithin(500_000_000, snapshot.valueAtQuantile(0.5));
+        assertWithin(990_000_000, snapshot.valueAtQuantile(0.99));
+        assertWithin(1_000_000_000, snapshot.valueAtQuantile(1.0));
+    }
+
+    @Test
+    public void givenAnyValue_whenCallIndex_thenShouldMapBackToTheSameRange() {
+        for (final var value : new long[]{0, 1, 127, 128, 129, 255, 256, 1_000_003, Long.MAX_VALUE}) {
+            final var middle = LatencyHistogram.valueAt(LatencyHistogram.index(value));
+            Assertions.assertEquals(LatencyHistogram.index(value), LatencyHistogram.index(middle));
+        }
+    }
+
+    @Test
+    public void givenConcurrentRecorders_whenCallSnapshot_thenShouldCountEveryValueAcrossStripes() throws Exception {
+        final var expectedCount = 400_000;
+        final var histogram = new LatencyHistogram();
+        final var threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < expectedCount / 4; i++) {
+                    histogram.record(1_000);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (final var thread : threads) {
+            thread.join();
+        }
+
+        final var snapshot = histogram.snapshot();
+
+        Assertions.assertEquals(expectedCount, histogram.count());
+        Assertions.assertEquals(expectedCount, snapshot.count());
+        Assertions.assertEquals(expectedCount * 1_000L, snapshot.sum());
+        assertWithin(1_000, snapshot.valueAtQuantile(0.5));
+    }
+
+    @Test
+    public void givenNoValues_whenCallValueAtQuantile_thenShouldReturnZero() {
+        Assertions.assertEquals(0, new LatencyHistogram().snapshot().valueAtQuantile(0.99));
+    }
+
+    private static void assertWithin(final long expected, final long actual) {
+        Assertions.assertTrue(Math.abs(actual - expected) <= expected / 64, "expected ~%d but got %d".formatted(expected, actual));
+    }
+}
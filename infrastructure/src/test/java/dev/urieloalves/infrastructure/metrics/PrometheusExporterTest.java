@@ -0,0 +1,25 @@
+package dev.urieloalves.infrastructure.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PrometheusExporterTest {
+
+    @Test
+    public void givenRegisteredMetrics_whenCallScrape_thenShouldRenderTextFormat() {
+        final var registry = new MetricsRegistry();
+        registry.counter("errors_total", "message", "'name' should not be \"null\"").add(3);
+        registry.gauge("queue_size", () -> 7);
+        registry.histogram("call_duration_seconds", "method", "create").record(2_000_000);
+
+        final var text = PrometheusExporter.scrape(registry);
+
+        Assertions.assertTrue(text.contains("# TYPE errors_total counter\n"));
+        Assertions.assertTrue(text.contains("errors_total{message=\"'name' should not be \\\"null\\\"\"} 3\n"));
+        Assertions.assertTrue(text.contains("# TYPE queue_size gauge\nqueue_size 7\n"));
+        Assertions.assertTrue(text.contains("# TYPE call_duration_seconds summary\n"));
+        Assertions.assertTrue(text.contains("call_duration_seconds{method=\"create\",quantile=\"0.99\"} 0.002"));
+        Assertions.assertTrue(text.contains("call_duration_seconds_sum{method=\"create\"} 0.002000000\n"));
+        Assertions.assertTrue(text.contains("call_duration_seconds_count{method=\"create\"} 1\n"));
+    }
+}
@@ -0,0 +1,94 @@
+package dev.urieloalves.infrastructure.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class InvertedIndexTest {
+
+    private InvertedIndex<String> index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new InvertedIndex<>();
+    }
+
+    @Test
+    public void givenAccentsAndMixedCase_whenCallTokenize_thenShouldReturnNormalizedDistinctTerms() {
+        final var expectedTerms = List.of("acao", "e", "animacao", "2024");
+
+        final var actualTerms = Tokenizer.tokenize("  Ação e ANIMAÇÃO, ação... 2024 ");
+
+        Assertions.assertEquals(expectedTerms, actualTerms);
+        Assertions.assertEquals(List.of(), Tokenizer.tokenize(" ,. "));
+        Assertions.assertEquals(List.of(), Tokenizer.tokenize(null));
+    }
+
+    @Test
+    public void givenIndexedDocuments_whenCallMatch_thenEveryTermShouldPrefixAWordOfTheDocument() {
+        index.put("movies", "Movies", "The most watched category");
+        index.put("series", "Séries", "Most binged shows");
+        index.put("docs", "Documentaries", "Real stories");
+
+        Assertions.assertEquals(List.of("movies", "series"), index.match("MOST"));
+        Assertions.assertEquals(List.of("movies"), index.match("most wat"));
+        Assertions.assertEquals(List.of("series"), index.match("series"));
+        Assertions.assertEquals(List.of(), index.match("most real"));
+        Assertions.assertEquals(List.of(), index.match("anime"));
+        Assertions.assertEquals(List.of(), index.match(""));
+    }
+
+    @Test
+    public void givenReplacedAndRemovedDocuments_whenCallMatch_thenShouldOnlyReturnCurrentVersions() {
+        index.put("movies", "Movies", "The most watched category");
+        index.put("series", "Series", "Most binged shows");
+
+        index.put("movies", "Films", "Cinema");
+        index.remove("series");
+        index.remove("unknown");
+
+        Assertions.assertEquals(1, index.size());
+        Assertions.assertEquals(List.of(), index.match("most"));
+        Assertions.assertEquals(List.of("movies"), index.match("cinema"));
+    }
+
+    @Test
+    public void givenMatchesInDifferentFields_whenCallRank_thenShouldOrderByRelevance() {
+        index.put("description-prefix", "Kids", "Animated films");
+        index.put("name-exact", "Anime", "Japanese animation");
+        index.put("name-prefix", "Animation", "Cartoons");
+        index.put("description-exact", "Japan", "Anime and manga");
+
+        final var actualHits = index.rank("anime");
+        final var actualKeys = actualHits.stream().map(InvertedIndex.Hit::key).toList();
+
+        Assertions.assertEquals(List.of("name-exact", "description-exact"), actualKeys);
+        Assertions.assertTrue(actualHits.get(0).score() > actualHits.get(1).score());
+
+        final var prefixKeys = index.rank("anim").stream().map(InvertedIndex.Hit::key).toList();
+        Assertions.assertEquals(List.of("name-exact", "name-prefix", "description-prefix", "description-exact"), prefixKeys);
+    }
+
+    @Test
+    public void givenManyRemovals_whenIndexCompacts_thenShouldKeepMatchingLiveDocuments() {
+        final var expectedLive = 500;
+
+        for (int i = 0; i < 5_000; i++) {
+            index.put("category-" + i, "Category " + i, i % 10 == 0 ? "Kept" : "Removed");
+        }
+        for (int i = 0; i < 5_000; i++) {
+            if (i % 10 != 0) {
+                index.remove("category-" + i);
+            }
+        }
+        index.put("category-0", "Category 0", "Kept again");
+
+        Assertions.assertEquals(expectedLive, index.size());
+        Assertions.assertEquals(expectedLive, index.match("kept").size());
+        Assertions.assertEquals("category-0", index.match("again").get(0));
+        Assertions.assertEquals(List.of(), index.match("removed"));
+        Assertions.assertEquals(List.of("category-4990"), index.match("category 4990"));
+    }
+}
@@ -0,0 +1,46 @@
+package dev.urieloalves.infrastructure.sharding;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConsistentHashRingTest {
+
+    @Test
+    public void givenManyKeys_whenCallShardOf_thenShouldSpreadThemEvenly() {
+        final var ring = ConsistentHashRing.of(4, 128);
+        final var counts = new int[4];
+
+        for (long key = 0; key < 100_000; key++) {
+            counts[ring.shardOf(key)]++;
+        }
+
+        for (final var count : counts) {
+            Assertions.assertTrue(count > 20_000 && count < 30_000, "unbalanced shard with " + count + " keys");
+        }
+    }
+
+    @Test
+    public void givenRing_whenCallWithShard_thenShouldOnlyMoveKeysToTheNewShard() {
+        final var ring = ConsistentHashRing.of(4, 128);
+        final var grown = ring.withShard();
+        var moved = 0;
+
+        for (long key = 0; key < 100_000; key++) {
+            final var before = ring.shardOf(key);
+            final var after = grown.shardOf(key);
+            if (before != after) {
+                Assertions.assertEquals(4, after);
+                moved++;
+            }
+        }
+
+        Assertions.assertEquals(5, grown.shards());
+        Assertions.assertTrue(moved > 15_000 && moved < 25_000, moved + " keys moved");
+    }
+
+    @Test
+    public void givenInvalidSizes_whenCallOf_thenShouldThrow() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ConsistentHashRing.of(0, 128));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ConsistentHashRing.of(2, 0));
+    }
+}
@@ -2,3 +2,4 @@ rootProject.name = "fullcycle-video-catalog"
 include("domain")
 include("application")
 include("infrastructure")
+include("benchmarks")